@@ -34,22 +34,19 @@ CREATE TABLE IF NOT EXISTS deposits (
 -- INDEXES: Tối ưu tìm kiếm
 -- ============================================
 
--- Index cho tìm kiếm theo account_number
-CREATE INDEX IF NOT EXISTS idx_deposits_account_number 
-ON deposits(account_number);
+-- Index cho lịch sử giao dịch theo account (covering: đủ cột cho index-only scan)
+CREATE INDEX IF NOT EXISTS idx_deposits_account_history
+ON deposits(account_number, created_at DESC, id DESC)
+INCLUDE (amount, status, currency, description, updated_at);
 
--- Index cho tìm kiếm theo status
-CREATE INDEX IF NOT EXISTS idx_deposits_status 
-ON deposits(status);
+-- Partial index cho các deposit đang chờ xử lý
+CREATE INDEX IF NOT EXISTS idx_deposits_pending_id
+ON deposits(id) WHERE status = 'PENDING';
 
 -- Index cho sắp xếp theo thời gian tạo
 CREATE INDEX IF NOT EXISTS idx_deposits_created_at 
 ON deposits(created_at);
 
--- Composite index cho tìm kiếm theo account + status
-CREATE INDEX IF NOT EXISTS idx_deposits_account_status 
-ON deposits(account_number, status);
-
 -- ============================================
 -- SAMPLE DATA: Dữ liệu mẫu để test
 -- ============================================
@@ -0,0 +1,52 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.DepositBankingApplication;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.service.DepositService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * {@link DepositService#createDeposit} end to end through the transaction,
+ * the mapper and Hibernate, against the in-memory H2 database of the
+ * {@code test} profile. SQL logging is switched off so that the numbers
+ * measure the service, not the logger.
+ */
+@State(Scope.Benchmark)
+public class CreateDepositBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private DepositService depositService;
+    private final DepositRequest request = DepositFixtures.request();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DepositBankingApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Arguments rather than default properties, which the profile files override
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.banking.deposit=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        depositService = context.getBean(DepositService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DepositResponse createDeposit() {
+        return depositService.createDeposit(request);
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Representative payloads shared by the benchmarks.
+ */
+final class DepositFixtures {
+
+    static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123_456_000);
+
+    private DepositFixtures() {
+    }
+
+    static DepositRequest request() {
+        return DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .description("Initial deposit")
+                .build();
+    }
+
+    static DepositRequest invalidRequest() {
+        return DepositRequest.builder()
+                .accountNumber("acc-123")
+                .amount(new BigDecimal("0.001"))
+                .currency("usd")
+                .build();
+    }
+
+    static Deposit entity() {
+        return Deposit.builder()
+                .id(1L)
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .description("Initial deposit")
+                .status(DepositStatus.PENDING)
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+
+    static DepositResponse response() {
+        return DepositResponse.builder()
+                .id(1L)
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .description("Initial deposit")
+                .status(DepositStatus.PENDING)
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+
+    static ApiErrorResponse error() {
+        return ApiErrorResponse.builder()
+                .timestamp(TIMESTAMP)
+                .status(503)
+                .error("Service Unavailable")
+                .message("Deposit service is overloaded, retry later")
+                .path("/api/v1/deposits")
+                .build();
+    }
+}
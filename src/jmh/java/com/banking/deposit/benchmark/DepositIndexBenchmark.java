@@ -0,0 +1,131 @@
+package com.banking.deposit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Insert cost and account-history latency of the deposit index set before
+ * and after changelog {@code 010-rework-deposit-indexes}, and with the report
+ * index of {@code 011-add-deposit-base-amount} added ({@code report}), on
+ * PostgreSQL in a Testcontainers container (needs Docker).
+ * <p>
+ * Both variants use an unpartitioned copy of the table seeded with
+ * {@code seedRows} deposits over {@value #ACCOUNTS} accounts, vacuumed so
+ * that index-only scans are possible. Only the secondary indexes differ.
+ * {@link #insertDeposit} is one autocommitted insert; {@link #accountHistory}
+ * is the first page of an account's history in the order the API uses.
+ */
+@State(Scope.Benchmark)
+public class DepositIndexBenchmark {
+
+    static final int ACCOUNTS = 1_000;
+
+    private static final List<String> BEFORE = List.of(
+            "CREATE INDEX ON deposits (account_number)",
+            "CREATE INDEX ON deposits (status)",
+            "CREATE INDEX ON deposits (created_at)",
+            "CREATE INDEX ON deposits (account_number, created_at, id)");
+
+    private static final List<String> AFTER = List.of(
+            "CREATE INDEX ON deposits (account_number, created_at DESC, id DESC)"
+                    + " INCLUDE (amount, status, currency, description, updated_at)",
+            "CREATE INDEX ON deposits (id) WHERE status = 'PENDING'",
+            "CREATE INDEX ON deposits (created_at)");
+
+    private static final List<String> REPORT = List.of(
+            "CREATE INDEX ON deposits (status, created_at) INCLUDE (currency, amount, base_amount)");
+
+    private static final String HISTORY = "SELECT id, account_number, amount, status, currency, description,"
+            + " created_at, updated_at FROM deposits WHERE account_number = ?"
+            + " ORDER BY created_at DESC, id DESC LIMIT 20";
+
+    @Param({"before", "after", "report"})
+    public String indexSet;
+
+    @Param("1000000")
+    public int seedRows;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement history;
+    private int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE deposit_sequence");
+            statement.execute("CREATE TABLE deposits (id bigint PRIMARY KEY, account_number varchar(50) NOT NULL,"
+                    + " amount decimal(19,2) NOT NULL, status varchar(255) NOT NULL, currency varchar(255) NOT NULL,"
+                    + " description varchar(500), created_at timestamp NOT NULL, updated_at timestamp NOT NULL,"
+                    + " base_amount decimal(19,2))");
+            for (String index : "before".equals(indexSet) ? BEFORE : AFTER) {
+                statement.execute(index);
+            }
+            if ("report".equals(indexSet)) {
+                for (String index : REPORT) {
+                    statement.execute(index);
+                }
+            }
+            statement.execute("INSERT INTO deposits SELECT nextval('deposit_sequence'), 'ACC' || lpad((g % "
+                    + ACCOUNTS + ")::text, 9, '0'), (g % 100000) / 100.0,"
+                    + " CASE WHEN g % 10 = 0 THEN 'PENDING' ELSE 'COMPLETED' END, 'USD', 'Seed deposit ' || g,"
+                    + " now() - g * interval '1 second', now() - g * interval '1 second', (g % 100000) / 100.0"
+                    + " FROM generate_series(1, " + seedRows + ") g");
+            statement.execute("VACUUM ANALYZE deposits");
+        }
+        insert = connection.prepareStatement("INSERT INTO deposits VALUES"
+                + " (nextval('deposit_sequence'), ?, 1000.00, 'PENDING', 'USD', 'Benchmark deposit', ?, ?, 1000.00)");
+        history = connection.prepareStatement(HISTORY);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public int insertDeposit() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        insert.setString(1, nextAccount());
+        insert.setTimestamp(2, now);
+        insert.setTimestamp(3, now);
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public void accountHistory(Blackhole blackhole) throws SQLException {
+        history.setString(1, nextAccount());
+        try (ResultSet rows = history.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getLong(1));
+                blackhole.consume(rows.getBigDecimal(3));
+                blackhole.consume(rows.getString(6));
+            }
+        }
+    }
+
+    private String nextAccount() {
+        next = (next + 1) % ACCOUNTS;
+        return String.format("ACC%09d", next);
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.infrastructure.serialization.DepositJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson reading of {@link DepositRequest} bodies and writing of
+ * {@link DepositResponse} and {@link ApiErrorResponse} bodies, with the
+ * object mapper configured the way the application configures it.
+ * <p>
+ * {@code codec} selects the bean (de)serializers ({@code bean}), the
+ * hand-written ones from {@link DepositJsonModule} ({@code tuned}), or those
+ * over CBOR ({@code cbor}).
+ */
+@State(Scope.Benchmark)
+public class DepositJsonBenchmark {
+
+    @Param({"bean", "tuned", "cbor"})
+    private String codec;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private ObjectWriter errorWriter;
+    private byte[] requestBody;
+    private DepositResponse response;
+    private ApiErrorResponse error;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (!codec.equals("bean")) {
+            builder.modulesToInstall(new DepositJsonModule());
+        }
+        if (codec.equals("cbor")) {
+            builder.factory(new CBORFactory());
+        }
+        ObjectMapper objectMapper = builder.build();
+        requestReader = objectMapper.readerFor(DepositRequest.class);
+        responseWriter = objectMapper.writerFor(DepositResponse.class);
+        errorWriter = objectMapper.writerFor(ApiErrorResponse.class);
+        requestBody = objectMapper.writeValueAsBytes(DepositFixtures.request());
+        response = DepositFixtures.response();
+        error = DepositFixtures.error();
+    }
+
+    @Benchmark
+    public DepositRequest readRequest() throws Exception {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeError() throws Exception {
+        return errorWriter.writeValueAsBytes(error);
+    }
+}
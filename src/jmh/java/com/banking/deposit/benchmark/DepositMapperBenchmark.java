@@ -0,0 +1,41 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.service.DepositMapper;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * Cost of the MapStruct conversions done once per request, including the
+ * base-currency normalization of {@code toEntity}.
+ */
+@State(Scope.Benchmark)
+public class DepositMapperBenchmark {
+
+    private final DepositMapper mapper = Mappers.getMapper(DepositMapper.class);
+    private final DepositRequest request = DepositFixtures.request();
+    private final Deposit deposit = DepositFixtures.entity();
+
+    @Setup
+    public void setUp() {
+        mapper.setCurrencyRegistry(new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader()));
+    }
+
+    @Benchmark
+    public Deposit toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public DepositResponse toResponse() {
+        return mapper.toResponse(deposit);
+    }
+}
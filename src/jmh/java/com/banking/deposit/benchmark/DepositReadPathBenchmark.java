@@ -0,0 +1,96 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.DepositBankingApplication;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.service.DepositMapper;
+import com.banking.deposit.application.service.DepositService;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * One page of account history in a read-only transaction, read as managed
+ * {@link Deposit} entities and mapped, as the read endpoints used to, and
+ * selected straight into {@link DepositResponse}. Both run the same SQL
+ * against the in-memory H2 database of the {@code test} profile; compare
+ * {@code gc.alloc.rate.norm} for the allocation per page.
+ */
+@State(Scope.Benchmark)
+public class DepositReadPathBenchmark {
+
+    private static final String ENTITY_PAGE = "select d from Deposit d where d.accountNumber = :accountNumber"
+            + " order by d.createdAt desc, d.id desc";
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private DepositRepository depositRepository;
+    private DepositMapper depositMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DepositBankingApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.banking.deposit=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        depositRepository = context.getBean(DepositRepository.class);
+        depositMapper = context.getBean(DepositMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        DepositService depositService = context.getBean(DepositService.class);
+        for (int i = 0; i < pageSize; i++) {
+            depositService.createDeposit(DepositFixtures.request());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DepositResponse> entityPage() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_PAGE, Deposit.class)
+                .setParameter("accountNumber", DepositFixtures.request().getAccountNumber())
+                .setMaxResults(pageSize + 1)
+                .getResultList()
+                .stream()
+                .limit(pageSize)
+                .map(depositMapper::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<DepositResponse> projectionPage() {
+        return readOnly.execute(status -> depositRepository.scrollResponsesByAccountNumber(
+                DepositFixtures.request().getAccountNumber(), ScrollPosition.keyset(), Limit.of(pageSize))
+                .getContent());
+    }
+}
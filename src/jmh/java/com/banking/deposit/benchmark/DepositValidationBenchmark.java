@@ -0,0 +1,68 @@
+package com.banking.deposit.benchmark;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.service.DepositRequestValidator;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validation of a request body, by Bean Validation and by
+ * {@link DepositRequestValidator}. The invalid request fails every
+ * {@code @Pattern} and the amount constraints, which exercises message
+ * interpolation as well as the regexes.
+ */
+@State(Scope.Benchmark)
+public class DepositValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private final DepositRequestValidator depositRequestValidator = new DepositRequestValidator(
+            new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader()));
+    private final DepositRequest validRequest = DepositFixtures.request();
+    private final DepositRequest invalidRequest = DepositFixtures.invalidRequest();
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DepositRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DepositRequest>> invalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public List<ApiErrorResponse.ValidationError> validRequestHandWritten() {
+        return depositRequestValidator.validate(validRequest);
+    }
+
+    @Benchmark
+    public List<ApiErrorResponse.ValidationError> invalidRequestHandWritten() {
+        return depositRequestValidator.validate(invalidRequest);
+    }
+}
@@ -0,0 +1,268 @@
+package com.banking.deposit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the deposit endpoints with a fixed number of clients.
+ * <p>
+ * Each client picks an operation by the configured weights and waits for the
+ * response before issuing the next one. With a target rate every client has a
+ * schedule and latency is measured from the scheduled start, so a stalled
+ * server is charged for the requests it delayed (no coordinated omission).
+ * Latencies are recorded per client in microsecond histograms and merged at
+ * the end.
+ */
+final class DepositLoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SKIPPED = 0;
+    // Reads pick from the most recently created deposits only
+    private static final int KNOWN_ID_CAPACITY = 1 << 16;
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] weightedOperations;
+    private final AtomicLongArray knownIds = new AtomicLongArray(KNOWN_ID_CAPACITY);
+    private final AtomicLong knownIdCursor = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    DepositLoadDriver(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Operation> operations = new ArrayList<>();
+        config.mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        this.weightedOperations = operations.toArray(new Operation[0]);
+    }
+
+    /**
+     * Creates the deposits that reads and status updates start from.
+     */
+    void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < config.seedDeposits; i++) {
+            if (execute(Operation.CREATE) >= 400) {
+                throw new IllegalStateException("Seeding failed; is the service reachable at " + baseUrl + "?");
+            }
+        }
+    }
+
+    Result run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency);
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup.toNanos();
+        long measureUntil = measureFrom + config.duration.toNanos();
+        long intervalNanos = config.rate > 0 ? TimeUnit.SECONDS.toNanos(config.concurrency) / config.rate : 0;
+
+        List<Future<Client>> clients = new ArrayList<>();
+        for (int i = 0; i < config.concurrency; i++) {
+            // Stagger the schedules so clients do not fire in lockstep
+            long offset = intervalNanos * i / config.concurrency;
+            clients.add(executor.submit(() -> new Client().run(start + offset, intervalNanos, measureFrom, measureUntil)));
+        }
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, newHistogram());
+            errors.put(operation, 0L);
+        }
+        try {
+            for (Future<Client> future : clients) {
+                Client client = future.get();
+                client.histograms.forEach((operation, histogram) -> histograms.get(operation).add(histogram));
+                client.errors.forEach((operation, count) -> errors.merge(operation, count.get(), Long::sum));
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Load client failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(histograms, errors, config.duration);
+    }
+
+    /**
+     * Issues one request and returns its HTTP status, 599 for an I/O failure
+     * or {@link #SKIPPED} if there was no deposit to read or update yet.
+     */
+    private int execute(Operation operation) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            switch (operation) {
+                case CREATE -> {
+                    String body = "{\"accountNumber\":\"" + accountNumber(random.nextInt(config.accounts))
+                            + "\",\"amount\":" + (1 + random.nextInt(100_000)) + "." + random.nextInt(10) + "0"
+                            + ",\"currency\":\"USD\",\"description\":\"Load test deposit\"}";
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/v1/deposits"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body)));
+                    if (response.statusCode() == 201) {
+                        JsonNode created = objectMapper.readTree(response.body());
+                        long id = created.get("id").asLong();
+                        addKnownId(id);
+                        pendingIds.add(id);
+                    }
+                    return response.statusCode();
+                }
+                case GET -> {
+                    Long id = randomKnownId(random);
+                    if (id == null) {
+                        return SKIPPED;
+                    }
+                    return send(HttpRequest.newBuilder(uri("/api/v1/deposits/" + id)).GET()).statusCode();
+                }
+                case LIST -> {
+                    return send(HttpRequest.newBuilder(uri("/api/v1/deposits/account/"
+                            + accountNumber(random.nextInt(config.accounts)) + "?cursor=&size=20")).GET())
+                            .statusCode();
+                }
+                case UPDATE -> {
+                    // Only pending deposits can change status, so each one is updated once
+                    Long id = pendingIds.poll();
+                    if (id == null) {
+                        return SKIPPED;
+                    }
+                    String status = random.nextInt(10) == 0 ? "FAILED" : "COMPLETED";
+                    return send(HttpRequest.newBuilder(uri("/api/v1/deposits/" + id + "/status?status=" + status))
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody())).statusCode();
+                }
+                default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+            }
+        } catch (IOException ex) {
+            return 599;
+        }
+    }
+
+    /**
+     * Picks an operation by weight, falling back to a create while there is
+     * nothing to read or update.
+     */
+    private Operation pick(ThreadLocalRandom random) {
+        Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+        if ((operation == Operation.GET && knownIdCursor.get() == 0)
+                || (operation == Operation.UPDATE && pendingIds.isEmpty())) {
+            return Operation.CREATE;
+        }
+        return operation;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /**
+     * Stores a created id in a fixed ring, overwriting the oldest once it is
+     * full, so recording an id costs the same however long the run is.
+     */
+    private void addKnownId(long id) {
+        long slot = knownIdCursor.getAndIncrement();
+        knownIds.set((int) (slot % KNOWN_ID_CAPACITY), id);
+    }
+
+    /**
+     * A random id from the ring, or {@code null} if none is stored yet. A
+     * slot that was claimed but not yet written reads as 0 and counts as
+     * none.
+     */
+    private Long randomKnownId(ThreadLocalRandom random) {
+        int size = (int) Math.min(knownIdCursor.get(), KNOWN_ID_CAPACITY);
+        if (size == 0) {
+            return null;
+        }
+        long id = knownIds.get(random.nextInt(size));
+        return id == 0 ? null : id;
+    }
+
+    private static String accountNumber(int index) {
+        return String.format("LOAD%08d", index);
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private final class Client {
+
+        private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+        Client() {
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, newHistogram());
+                errors.put(operation, new AtomicLong());
+            }
+        }
+
+        Client run(long firstStart, long intervalNanos, long measureFrom, long measureUntil)
+                throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long scheduled = firstStart;
+            while (true) {
+                long now = System.nanoTime();
+                if (intervalNanos > 0) {
+                    if (scheduled > now) {
+                        LockSupport.parkNanos(scheduled - now);
+                    }
+                } else {
+                    scheduled = now;
+                }
+                if (scheduled >= measureUntil) {
+                    return this;
+                }
+
+                Operation operation = pick(random);
+                int status = execute(operation);
+                if (status == SKIPPED) {
+                    status = execute(operation = Operation.CREATE);
+                }
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+
+                if (scheduled >= measureFrom) {
+                    histograms.get(operation).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                    if (status >= 400) {
+                        errors.get(operation).incrementAndGet();
+                    }
+                }
+                scheduled += intervalNanos;
+            }
+        }
+    }
+
+    record Result(Map<Operation, Histogram> histograms, Map<Operation, Long> errors, Duration duration) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.banking.deposit.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}: starts or connects to the
+ * service, seeds it, runs the warmup and the measured period, and writes the
+ * report. See {@link LoadTestConfig} for the settings.
+ */
+public final class DepositLoadTest {
+
+    private DepositLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (LoadTestTarget target = LoadTestTarget.start(config)) {
+            System.out.printf("Load test against %s (%s): %d clients, rate %s, warmup %s, duration %s, mix %s%n",
+                    target.baseUrl(), target.description(), config.concurrency,
+                    config.rate > 0 ? config.rate + "/s" : "unbounded", config.warmup, config.duration, config.mix);
+
+            DepositLoadDriver driver = new DepositLoadDriver(config, target.baseUrl());
+            driver.seed();
+            DepositLoadDriver.Result result = driver.run();
+
+            Path report = new LoadTestReport().write(config, target, result);
+            System.out.println("Report written to " + report.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.deposit.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * <pre>
+ * loadtest.baseUrl       existing instance to drive; empty starts one in-process
+ * loadtest.database      h2 (default) or postgres (Testcontainers) for the in-process instance
+ * loadtest.profiles      extra Spring profiles for the in-process instance, e.g. virtual-threads
+ * loadtest.concurrency   number of concurrent clients (default 32)
+ * loadtest.rate          total operations per second, 0 = as fast as possible (default 0)
+ * loadtest.warmup        ISO-8601 duration not recorded (default PT30S)
+ * loadtest.duration      ISO-8601 duration recorded (default PT2M)
+ * loadtest.mix           weights, e.g. create=20,get=50,list=20,update=10
+ * loadtest.accounts      distinct account numbers (default 1000)
+ * loadtest.seedDeposits  deposits created before the warmup (default 1000)
+ * loadtest.reportDir     where reports are written (default build/reports/loadtest)
+ * </pre>
+ */
+final class LoadTestConfig {
+
+    final String baseUrl;
+    final String database;
+    final String profiles;
+    final int concurrency;
+    final int rate;
+    final Duration warmup;
+    final Duration duration;
+    final Map<Operation, Integer> mix;
+    final int accounts;
+    final int seedDeposits;
+    final String reportDir;
+
+    private LoadTestConfig() {
+        baseUrl = property("baseUrl", "");
+        database = property("database", "h2");
+        profiles = property("profiles", "");
+        concurrency = Integer.parseInt(property("concurrency", "32"));
+        rate = Integer.parseInt(property("rate", "0"));
+        warmup = Duration.parse(property("warmup", "PT30S"));
+        duration = Duration.parse(property("duration", "PT2M"));
+        mix = parseMix(property("mix", "create=20,get=50,list=20,update=10"));
+        accounts = Integer.parseInt(property("accounts", "1000"));
+        seedDeposits = Integer.parseInt(property("seedDeposits", "1000"));
+        reportDir = property("reportDir", "build/reports/loadtest");
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            mix.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix must have at least one positive weight");
+        }
+        return mix;
+    }
+}
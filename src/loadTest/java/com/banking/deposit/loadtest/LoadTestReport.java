@@ -0,0 +1,104 @@
+package com.banking.deposit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a run as {@code loadtest-<timestamp>.json} for comparing builds and
+ * one HdrHistogram percentile distribution ({@code .hgrm}) per operation for
+ * plotting. Latencies are in milliseconds. The summary is also printed as a
+ * row of the mode comparison table in {@code PERFORMANCE.md}.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    Path write(LoadTestConfig config, LoadTestTarget target, DepositLoadDriver.Result result) throws IOException {
+        Instant finishedAt = Instant.now();
+        Path directory = Path.of(config.reportDir);
+        Files.createDirectories(directory);
+        String name = "loadtest-" + FILE_TIMESTAMP.format(finishedAt);
+
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("finishedAt", finishedAt.toString());
+        report.put("target", target.description());
+        report.put("mode", target.mode());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        ObjectNode settings = report.putObject("config");
+        settings.put("concurrency", config.concurrency);
+        settings.put("rate", config.rate);
+        settings.put("warmup", config.warmup.toString());
+        settings.put("duration", config.duration.toString());
+        settings.put("accounts", config.accounts);
+        settings.put("seedDeposits", config.seedDeposits);
+        ObjectNode mix = settings.putObject("mix");
+        config.mix.forEach((operation, weight) -> mix.put(operation.name(), weight));
+
+        double seconds = result.duration().toMillis() / 1000.0;
+        long totalCount = 0;
+        long totalErrors = 0;
+        Histogram overall = null;
+        ObjectNode operations = report.putObject("operations");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = result.histograms().get(operation);
+            long errors = result.errors().get(operation);
+            totalCount += histogram.getTotalCount();
+            totalErrors += errors;
+            if (overall == null) {
+                overall = histogram.copy();
+            } else {
+                overall.add(histogram);
+            }
+
+            ObjectNode node = operations.putObject(operation.name());
+            node.put("count", histogram.getTotalCount());
+            node.put("errors", errors);
+            node.put("throughputPerSecond", round(histogram.getTotalCount() / seconds));
+            ObjectNode latency = node.putObject("latencyMillis");
+            latency.put("mean", round(histogram.getMean() / 1000.0));
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + String.valueOf(percentile).replace(".0", "").replace(".", "_"),
+                        round(histogram.getValueAtPercentile(percentile) / 1000.0));
+            }
+            latency.put("max", round(histogram.getMaxValue() / 1000.0));
+
+            if (histogram.getTotalCount() > 0) {
+                try (PrintStream out = new PrintStream(
+                        Files.newOutputStream(directory.resolve(name + "-" + operation.name().toLowerCase() + ".hgrm")))) {
+                    histogram.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+        report.put("totalCount", totalCount);
+        report.put("totalErrors", totalErrors);
+        report.put("throughputPerSecond", round(totalCount / seconds));
+
+        Path file = directory.resolve(name + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report.get("operations")));
+        System.out.printf("| %d | %s | %.0f | %.1f ms | %.1f ms | %d |%n", config.concurrency, target.mode(),
+                totalCount / seconds, overall.getValueAtPercentile(50) / 1000.0,
+                overall.getValueAtPercentile(99) / 1000.0, totalErrors);
+        return file;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
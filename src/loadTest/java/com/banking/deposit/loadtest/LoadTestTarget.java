@@ -0,0 +1,104 @@
+package com.banking.deposit.loadtest;
+
+import com.banking.deposit.DepositBankingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The instance under test: either an external URL or the application
+ * started in this JVM on a random port, backed by in-memory H2 or by a
+ * PostgreSQL container with the real Liquibase migrations.
+ */
+final class LoadTestTarget implements AutoCloseable {
+
+    // Passed as arguments: default properties would lose to application.yml
+    private static final String[] QUIET_LOGGING = {
+            "--logging.level.root=WARN",
+            "--logging.level.com.banking.deposit=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0"
+    };
+
+    private final String baseUrl;
+    private final String description;
+    private final String mode;
+    private final ConfigurableApplicationContext context;
+    private final PostgreSQLContainer<?> postgres;
+
+    private LoadTestTarget(String baseUrl, String description, String mode,
+                           ConfigurableApplicationContext context, PostgreSQLContainer<?> postgres) {
+        this.baseUrl = baseUrl;
+        this.description = description;
+        this.mode = mode;
+        this.context = context;
+        this.postgres = postgres;
+    }
+
+    static LoadTestTarget start(LoadTestConfig config) {
+        if (!config.baseUrl.isEmpty()) {
+            return new LoadTestTarget(config.baseUrl, "external", "unknown", null, null);
+        }
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DepositBankingApplication.class);
+        List<String> args = new ArrayList<>(List.of(QUIET_LOGGING));
+        // Every virtual client shares one address; the run would mostly measure 429s
+        args.add("--deposit.rate-limit.enabled=false");
+        PostgreSQLContainer<?> postgres = null;
+        String description;
+        switch (config.database) {
+            case "h2" -> {
+                builder.profiles("test");
+                description = "in-process, H2";
+            }
+            case "postgres" -> {
+                postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+                postgres.start();
+                args.add("--spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+                args.add("--spring.datasource.username=" + postgres.getUsername());
+                args.add("--spring.datasource.password=" + postgres.getPassword());
+                description = "in-process, " + postgres.getDockerImageName();
+            }
+            default -> throw new IllegalArgumentException("Unknown loadtest.database: " + config.database);
+        }
+        if (!config.profiles.isEmpty()) {
+            builder.profiles(config.profiles.split(","));
+        }
+        ConfigurableApplicationContext context = builder.run(args.toArray(new String[0]));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String mode = context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual" : "platform";
+        return new LoadTestTarget("http://localhost:" + port, description, mode, context, postgres);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    String description() {
+        return description;
+    }
+
+    /**
+     * {@code platform} or {@code virtual} request threads, or {@code unknown}
+     * for an external instance.
+     */
+    String mode() {
+        return mode;
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.banking.deposit.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Requests issued by the load driver.
+ */
+enum Operation {
+    /** {@code POST /api/v1/deposits} */
+    CREATE,
+    /** {@code GET /api/v1/deposits/{id}} */
+    GET,
+    /** {@code GET /api/v1/deposits/account/{accountNumber}?cursor=} */
+    LIST,
+    /** {@code PATCH /api/v1/deposits/{id}/status} on a pending deposit */
+    UPDATE;
+
+    static Operation fromKey(String key) {
+        return valueOf(key.toUpperCase(Locale.ROOT));
+    }
+}
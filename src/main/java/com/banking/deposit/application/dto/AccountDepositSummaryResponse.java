@@ -0,0 +1,33 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDepositSummaryResponse {
+    
+    private String accountNumber;
+    /** One entry per currency with completed deposits; empty if there are none. */
+    private List<CurrencySummary> currencies;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CurrencySummary {
+        private String currency;
+        private long completedCount;
+        private BigDecimal completedAmount;
+        /** Creation time of the most recent completed deposit. */
+        private LocalDateTime lastDepositAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryRebuildResponse {
+    
+    private int partitions;
+    private long summaryRows;
+    private long durationMillis;
+}
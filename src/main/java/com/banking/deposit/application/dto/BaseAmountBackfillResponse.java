@@ -0,0 +1,21 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BaseAmountBackfillResponse {
+    
+    private long updatedRows;
+    
+    /**
+     * Rows still without a base amount, because their currency is unknown.
+     */
+    private long unconvertedRows;
+    private long durationMillis;
+}
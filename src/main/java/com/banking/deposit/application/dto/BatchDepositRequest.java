@@ -0,0 +1,23 @@
+package com.banking.deposit.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDepositRequest {
+    
+    /**
+     * Items are validated one by one by the service so that a single bad
+     * item is reported in its result instead of failing the whole batch.
+     */
+    @NotEmpty(message = "Deposits are required")
+    private List<DepositRequest> deposits;
+}
@@ -0,0 +1,36 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDepositResponse {
+    
+    private int total;
+    private int created;
+    private int rejected;
+    private List<ItemResult> results;
+    
+    public enum ItemStatus {
+        CREATED,
+        REJECTED
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private ItemStatus status;
+        private DepositResponse deposit;
+        private List<ApiErrorResponse.ValidationError> validationErrors;
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.deposit.application.dto;
+
+import com.banking.deposit.domain.model.DepositStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusTransitionRequest {
+    
+    @NotNull(message = "Target status is required")
+    private DepositStatus targetStatus;
+    
+    /**
+     * Deposits to move; mutually exclusive with {@link #filter}.
+     */
+    private List<Long> ids;
+    
+    /**
+     * Selects the deposits to move; mutually exclusive with {@link #ids}.
+     */
+    private Filter filter;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+        private String accountNumber;
+        private DepositStatus status;
+        /** Exclusive upper bound on the creation time. */
+        private LocalDateTime createdBefore;
+    }
+}
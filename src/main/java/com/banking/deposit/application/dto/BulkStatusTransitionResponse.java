@@ -0,0 +1,44 @@
+package com.banking.deposit.application.dto;
+
+import com.banking.deposit.domain.model.DepositStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusTransitionResponse {
+    
+    private DepositStatus targetStatus;
+    private int transitioned;
+    private int conflicts;
+    private int notFound;
+    /**
+     * Set when a filter matched more deposits than one call moves; repeat the
+     * request to continue.
+     */
+    private boolean hasMore;
+    private List<ItemResult> results;
+    
+    public enum Outcome {
+        TRANSITIONED,
+        CONFLICT,
+        NOT_FOUND
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long id;
+        private Outcome outcome;
+        /** Status that blocked the transition, for {@link Outcome#CONFLICT}. */
+        private DepositStatus currentStatus;
+    }
+}
@@ -0,0 +1,25 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One window of a keyset-paginated listing. There is no total count: pass
+ * {@code nextCursor} back as the {@code cursor} parameter to get the next
+ * window; it is {@code null} on the last one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Deposits of one currency in a {@link DepositTotalsReport}. Selected
+ * straight from the grouped query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositCurrencyTotal {
+    
+    private String currency;
+    private Long depositCount;
+    private BigDecimal totalAmount;
+    private BigDecimal totalBaseAmount;
+    
+    /**
+     * Deposits without a base amount yet, left out of {@code totalBaseAmount}.
+     */
+    private Long unconvertedCount;
+}
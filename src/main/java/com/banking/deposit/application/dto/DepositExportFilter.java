@@ -0,0 +1,25 @@
+package com.banking.deposit.application.dto;
+
+import com.banking.deposit.domain.model.DepositStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria for a deposit export; {@code null} fields are ignored.
+ * {@code createdFrom} is inclusive and {@code createdTo} is exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositExportFilter {
+    
+    private String accountNumber;
+    private DepositStatus status;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
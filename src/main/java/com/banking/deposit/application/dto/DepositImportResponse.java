@@ -0,0 +1,36 @@
+package com.banking.deposit.application.dto;
+
+import com.banking.deposit.domain.model.DepositImportFormat;
+import com.banking.deposit.domain.model.DepositImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositImportResponse {
+    
+    private String importId;
+    private DepositImportFormat format;
+    private DepositImportStatus status;
+    private long recordsCommitted;
+    private long accepted;
+    private long rejected;
+    private List<RejectedRecord> rejects;
+    private LocalDateTime updatedAt;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRecord {
+        private long record;
+        private List<ApiErrorResponse.ValidationError> validationErrors;
+    }
+}
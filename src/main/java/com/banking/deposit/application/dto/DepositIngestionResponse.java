@@ -0,0 +1,24 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositIngestionResponse {
+    
+    private String trackingId;
+    private State state;
+    private DepositResponse deposit;
+    private String message;
+    
+    public enum State {
+        QUEUED,
+        STORED,
+        FAILED
+    }
+}
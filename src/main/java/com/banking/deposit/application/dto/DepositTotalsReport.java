@@ -0,0 +1,27 @@
+package com.banking.deposit.application.dto;
+
+import com.banking.deposit.domain.model.DepositStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositTotalsReport {
+    
+    private DepositStatus status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String baseCurrency;
+    private long depositCount;
+    private BigDecimal totalBaseAmount;
+    private long unconvertedCount;
+    private List<DepositCurrencyTotal> currencies;
+}
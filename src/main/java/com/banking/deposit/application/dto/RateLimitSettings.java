@@ -0,0 +1,27 @@
+package com.banking.deposit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Runtime request limits. On update, fields left out keep their value and
+ * {@code concurrencyLimit} and {@code inFlight}, which only report the
+ * current state, are ignored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitSettings {
+    
+    private Double clientPermitsPerSecond;
+    private Integer clientBurst;
+    private Double accountPermitsPerSecond;
+    private Integer accountBurst;
+    private Integer concurrencyMinLimit;
+    private Integer concurrencyMaxLimit;
+    private Integer concurrencyLimit;
+    private Integer inFlight;
+}
@@ -0,0 +1,14 @@
+package com.banking.deposit.application.event;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import lombok.Value;
+
+/**
+ * Published inside the transaction that created a deposit, once per deposit
+ * on every creation path.
+ */
+@Value
+public class DepositCreatedEvent {
+    
+    DepositResponse deposit;
+}
@@ -0,0 +1,14 @@
+package com.banking.deposit.application.event;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import lombok.Value;
+
+/**
+ * Published inside the transaction that deleted a deposit; carries the
+ * deposit as it was before deletion.
+ */
+@Value
+public class DepositDeletedEvent {
+    
+    DepositResponse deposit;
+}
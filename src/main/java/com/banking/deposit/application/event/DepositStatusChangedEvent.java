@@ -0,0 +1,15 @@
+package com.banking.deposit.application.event;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import lombok.Value;
+
+/**
+ * Published inside the transaction that changed a deposit's status.
+ * Listeners that must only see committed state use
+ * {@code @TransactionalEventListener}.
+ */
+@Value
+public class DepositStatusChangedEvent {
+    
+    DepositResponse deposit;
+}
@@ -0,0 +1,8 @@
+package com.banking.deposit.application.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("Idempotency key " + idempotencyKey + " was already used for a different request");
+    }
+}
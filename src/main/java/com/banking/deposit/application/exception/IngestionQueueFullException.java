@@ -0,0 +1,16 @@
+package com.banking.deposit.application.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class IngestionQueueFullException extends RuntimeException {
+    
+    private final Duration retryAfter;
+    
+    public IngestionQueueFullException(Duration retryAfter) {
+        super("Deposit ingestion queue is full, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,10 @@
+package com.banking.deposit.application.exception;
+
+import com.banking.deposit.domain.model.DepositStatus;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+    
+    public InvalidStatusTransitionException(Long id, DepositStatus current, DepositStatus target) {
+        super("Cannot change status of deposit " + id + " from " + current + " to " + target);
+    }
+}
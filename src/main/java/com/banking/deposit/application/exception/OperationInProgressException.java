@@ -0,0 +1,12 @@
+package com.banking.deposit.application.exception;
+
+/**
+ * A maintenance operation that runs at most once at a time was requested
+ * while it was already running.
+ */
+public class OperationInProgressException extends RuntimeException {
+    
+    public OperationInProgressException(String operation) {
+        super(operation + " is already running");
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.deposit.application.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    
+    private final Duration retryAfter;
+    
+    public RateLimitExceededException(String limitedBy, Duration retryAfter) {
+        super("Request rate limit exceeded for " + limitedBy + ", retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.deposit.application.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    
+    private final Duration retryAfter;
+    
+    public ServiceOverloadedException(Duration retryAfter) {
+        super("Deposit service is overloaded, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
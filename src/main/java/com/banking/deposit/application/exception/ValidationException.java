@@ -1,13 +1,30 @@
 package com.banking.deposit.application.exception;
 
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
 public class ValidationException extends RuntimeException {
     
+    /**
+     * Field errors to return with the message; {@code null} if there are none.
+     */
+    private final List<ApiErrorResponse.ValidationError> validationErrors;
+    
     public ValidationException(String message) {
         super(message);
+        this.validationErrors = null;
     }
     
     public ValidationException(String message, Throwable cause) {
         super(message, cause);
+        this.validationErrors = null;
+    }
+    
+    public ValidationException(String message, List<ApiErrorResponse.ValidationError> validationErrors) {
+        super(message);
+        this.validationErrors = validationErrors;
     }
 }
-
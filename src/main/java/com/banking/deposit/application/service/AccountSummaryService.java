@@ -0,0 +1,127 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.AccountDepositSummaryResponse;
+import com.banking.deposit.application.dto.AccountSummaryRebuildResponse;
+import com.banking.deposit.application.exception.OperationInProgressException;
+import com.banking.deposit.domain.model.AccountDepositSummary;
+import com.banking.deposit.infrastructure.config.AccountSummaryProperties;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads and rebuilds the per-account summary of completed deposits.
+ * <p>
+ * The summary is kept current by
+ * {@link com.banking.deposit.infrastructure.projection.AccountDepositSummaryProjector};
+ * a read is a primary-key range scan of a few rows, however many deposits
+ * the account has. The rebuild recomputes it from {@code deposits}, for
+ * the initial load or after a repair: account numbers are walked in order
+ * and cut into contiguous ranges, and each range is replaced in its own
+ * transaction on a pool of {@code deposit.account-summary.rebuild-parallelism}
+ * threads. The last range is open-ended, so rows of accounts that no longer
+ * have completed deposits are removed too.
+ */
+@Service
+@Slf4j
+public class AccountSummaryService {
+    
+    private final AccountDepositSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountSummaryProperties properties;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    
+    public AccountSummaryService(AccountDepositSummaryRepository summaryRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 AccountSummaryProperties properties) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+    
+    public AccountDepositSummaryResponse getSummary(String accountNumber) {
+        List<AccountDepositSummaryResponse.CurrencySummary> currencies = summaryRepository
+                .findByAccountNumberOrderByCurrency(accountNumber)
+                .stream()
+                .map(AccountSummaryService::toCurrencySummary)
+                .toList();
+        return AccountDepositSummaryResponse.builder()
+                .accountNumber(accountNumber)
+                .currencies(currencies)
+                .build();
+    }
+    
+    public AccountSummaryRebuildResponse rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new OperationInProgressException("An account summary rebuild");
+        }
+        long started = System.nanoTime();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getRebuildParallelism(),
+                task -> new Thread(task, "account-summary-rebuild-" + threadIndex.getAndIncrement()));
+        try {
+            List<Future<Integer>> partitions = new ArrayList<>();
+            String after = null;
+            while (true) {
+                List<String> accounts = summaryRepository.findCompletedAccountNumbers(
+                        after, properties.getRebuildPartitionSize());
+                if (accounts.size() < properties.getRebuildPartitionSize()) {
+                    partitions.add(submitPartition(executor, after, null));
+                    break;
+                }
+                String last = accounts.get(accounts.size() - 1);
+                partitions.add(submitPartition(executor, after, last));
+                after = last;
+            }
+            
+            long rows = 0;
+            for (Future<Integer> partition : partitions) {
+                rows += partition.get();
+            }
+            long durationMillis = (System.nanoTime() - started) / 1_000_000;
+            log.info("Rebuilt account summary: {} rows in {} partitions, {} ms",
+                    rows, partitions.size(), durationMillis);
+            return AccountSummaryRebuildResponse.builder()
+                    .partitions(partitions.size())
+                    .summaryRows(rows)
+                    .durationMillis(durationMillis)
+                    .build();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Account summary rebuild interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Account summary rebuild failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+            rebuilding.set(false);
+        }
+    }
+    
+    private Future<Integer> submitPartition(ExecutorService executor, String after, String last) {
+        return executor.submit(() -> {
+            Integer rows = transactionTemplate.execute(status ->
+                    summaryRepository.rebuildRange(after, last, LocalDateTime.now()));
+            return rows == null ? 0 : rows;
+        });
+    }
+    
+    private static AccountDepositSummaryResponse.CurrencySummary toCurrencySummary(AccountDepositSummary summary) {
+        return AccountDepositSummaryResponse.CurrencySummary.builder()
+                .currency(summary.getCurrency())
+                .completedCount(summary.getCompletedCount())
+                .completedAmount(summary.getCompletedAmount())
+                .lastDepositAt(summary.getLastDepositAt())
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.BatchDepositResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.DepositBatchProperties;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates many deposits in one transaction.
+ * <p>
+ * Valid items are persisted in chunks: each chunk is flushed as JDBC batches
+ * and then detached, so the persistence context never holds more than one
+ * chunk. Ids come from the pooled {@code deposit_sequence}, which costs one
+ * {@code nextval} per allocation block instead of one per row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositBatchService {
+
+    private final DepositRepository depositRepository;
+    private final DepositMapper depositMapper;
+    private final DepositRequestValidator depositRequestValidator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DepositBatchProperties properties;
+
+    @Transactional
+    public BatchDepositResponse createDeposits(List<DepositRequest> requests) {
+        if (requests.size() > properties.getMaxItems()) {
+            throw new ValidationException(
+                    "Batch must not contain more than " + properties.getMaxItems() + " deposits");
+        }
+        log.info("Creating batch of {} deposits", requests.size());
+
+        BatchDepositResponse.ItemResult[] results = new BatchDepositResponse.ItemResult[requests.size()];
+        List<Deposit> chunk = new ArrayList<>(properties.getChunkSize());
+        int[] chunkIndexes = new int[properties.getChunkSize()];
+        int created = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            DepositRequest request = requests.get(i);
+            List<ApiErrorResponse.ValidationError> errors = depositRequestValidator.validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = rejected(i, errors);
+                continue;
+            }
+
+            Deposit deposit = depositMapper.toEntity(request);
+            deposit.setStatus(DepositStatus.PENDING);
+            chunkIndexes[chunk.size()] = i;
+            chunk.add(deposit);
+
+            if (chunk.size() == properties.getChunkSize()) {
+                created += writeChunk(chunk, chunkIndexes, results);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += writeChunk(chunk, chunkIndexes, results);
+        }
+
+        log.info("Batch completed: {} created, {} rejected", created, requests.size() - created);
+        return BatchDepositResponse.builder()
+                .total(requests.size())
+                .created(created)
+                .rejected(requests.size() - created)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private int writeChunk(List<Deposit> chunk, int[] chunkIndexes,
+                           BatchDepositResponse.ItemResult[] results) {
+        depositRepository.saveAll(chunk);
+
+        for (int j = 0; j < chunk.size(); j++) {
+            int index = chunkIndexes[j];
+            DepositResponse deposit = depositMapper.toResponse(chunk.get(j));
+            eventPublisher.publishEvent(new DepositCreatedEvent(deposit));
+            results[index] = BatchDepositResponse.ItemResult.builder()
+                    .index(index)
+                    .status(BatchDepositResponse.ItemStatus.CREATED)
+                    .deposit(deposit)
+                    .build();
+        }
+        // Outbox rows from the events above are flushed with the chunk
+        entityManager.flush();
+
+        int written = chunk.size();
+        entityManager.clear();
+        chunk.clear();
+        return written;
+    }
+
+    private static BatchDepositResponse.ItemResult rejected(int index,
+                                                            List<ApiErrorResponse.ValidationError> errors) {
+        return BatchDepositResponse.ItemResult.builder()
+                .index(index)
+                .status(BatchDepositResponse.ItemStatus.REJECTED)
+                .validationErrors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.BulkStatusTransitionRequest;
+import com.banking.deposit.application.dto.BulkStatusTransitionResponse;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCache;
+import com.banking.deposit.infrastructure.config.DepositBulkTransitionProperties;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves many deposits to one status, for settlement runs.
+ * <p>
+ * Deposits are processed in chunks of {@code deposit.bulk-transition.chunk-size}
+ * ids. Each chunk is one transaction with one set-based conditional update,
+ * so a failure part-way keeps the chunks already committed and the request
+ * can simply be repeated: deposits already moved then report a conflict.
+ * A filter request walks the matching ids in id order and moves at most
+ * {@code deposit.bulk-transition.max-deposits} per call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositBulkTransitionService {
+    
+    private final DepositRepository depositRepository;
+    private final DepositMapper depositMapper;
+    private final DepositCache depositCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DepositBulkTransitionProperties properties;
+    
+    public BulkStatusTransitionResponse transition(BulkStatusTransitionRequest request) {
+        boolean byIds = request.getIds() != null;
+        if (byIds == (request.getFilter() != null)) {
+            throw new ValidationException("Exactly one of ids or filter must be given");
+        }
+        return byIds
+                ? transitionIds(request.getIds(), request.getTargetStatus())
+                : transitionFiltered(request.getFilter(), request.getTargetStatus());
+    }
+    
+    private BulkStatusTransitionResponse transitionIds(List<Long> ids, DepositStatus target) {
+        if (ids.isEmpty() || ids.size() > properties.getMaxDeposits()) {
+            throw new ValidationException(
+                    "Ids must contain between 1 and " + properties.getMaxDeposits() + " deposits");
+        }
+        log.info("Transitioning {} deposits to {}", ids.size(), target);
+        
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<BulkStatusTransitionResponse.ItemResult> results = new ArrayList<>(uniqueIds.size());
+        for (int from = 0; from < uniqueIds.size(); from += properties.getChunkSize()) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(from + properties.getChunkSize(), uniqueIds.size()));
+            results.addAll(transitionChunk(chunk, target));
+        }
+        return toResponse(target, results, false);
+    }
+    
+    private BulkStatusTransitionResponse transitionFiltered(BulkStatusTransitionRequest.Filter filter,
+                                                            DepositStatus target) {
+        if (filter.getAccountNumber() == null && filter.getStatus() == null && filter.getCreatedBefore() == null) {
+            throw new ValidationException("Filter must set at least one of accountNumber, status or createdBefore");
+        }
+        log.info("Transitioning deposits matching {} to {}", filter, target);
+        
+        List<BulkStatusTransitionResponse.ItemResult> results = new ArrayList<>();
+        long afterId = 0;
+        boolean hasMore = false;
+        while (true) {
+            int remaining = properties.getMaxDeposits() - results.size();
+            if (remaining == 0) {
+                hasMore = !findCandidates(filter, target, afterId, 1).isEmpty();
+                break;
+            }
+            List<Long> chunk = findCandidates(filter, target, afterId, Math.min(properties.getChunkSize(), remaining));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            results.addAll(transitionChunk(chunk, target));
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        return toResponse(target, results, hasMore);
+    }
+    
+    private List<Long> findCandidates(BulkStatusTransitionRequest.Filter filter, DepositStatus target,
+                                      long afterId, int limit) {
+        return depositRepository.findTransitionCandidateIds(target, filter.getAccountNumber(), filter.getStatus(),
+                filter.getCreatedBefore(), afterId, limit);
+    }
+    
+    private List<BulkStatusTransitionResponse.ItemResult> transitionChunk(List<Long> ids, DepositStatus target) {
+        return transactionTemplate.execute(tx -> {
+            List<Deposit> updated = depositRepository.transitionStatuses(ids, target, LocalDateTime.now());
+            Set<Long> updatedIds = new HashSet<>();
+            for (Deposit deposit : updated) {
+                updatedIds.add(deposit.getId());
+                eventPublisher.publishEvent(new DepositStatusChangedEvent(depositMapper.toResponse(deposit)));
+            }
+            depositCache.invalidateAll(updatedIds);
+            
+            List<Long> rejectedIds = ids.stream().filter(id -> !updatedIds.contains(id)).toList();
+            Map<Long, DepositStatus> currentStatuses = depositRepository.findStatusesByIds(rejectedIds);
+            
+            List<BulkStatusTransitionResponse.ItemResult> results = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                BulkStatusTransitionResponse.ItemResult.ItemResultBuilder result =
+                        BulkStatusTransitionResponse.ItemResult.builder().id(id);
+                if (updatedIds.contains(id)) {
+                    result.outcome(BulkStatusTransitionResponse.Outcome.TRANSITIONED);
+                } else if (currentStatuses.containsKey(id)) {
+                    result.outcome(BulkStatusTransitionResponse.Outcome.CONFLICT)
+                            .currentStatus(currentStatuses.get(id));
+                } else {
+                    result.outcome(BulkStatusTransitionResponse.Outcome.NOT_FOUND);
+                }
+                results.add(result.build());
+            }
+            log.debug("Transitioned {} of {} deposits to {}", updated.size(), ids.size(), target);
+            return results;
+        });
+    }
+    
+    private static BulkStatusTransitionResponse toResponse(DepositStatus target,
+                                                           List<BulkStatusTransitionResponse.ItemResult> results,
+                                                           boolean hasMore) {
+        int transitioned = 0;
+        int conflicts = 0;
+        int notFound = 0;
+        for (BulkStatusTransitionResponse.ItemResult result : results) {
+            switch (result.getOutcome()) {
+                case TRANSITIONED -> transitioned++;
+                case CONFLICT -> conflicts++;
+                case NOT_FOUND -> notFound++;
+            }
+        }
+        log.info("Bulk transition to {} completed: {} transitioned, {} conflicts, {} not found",
+                target, transitioned, conflicts, notFound);
+        return BulkStatusTransitionResponse.builder()
+                .targetStatus(target)
+                .transitioned(transitioned)
+                .conflicts(conflicts)
+                .notFound(notFound)
+                .hasMore(hasMore)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.exception.ValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque cursor for deposit listings ordered by {@code (createdAt, id)} descending.
+ * <p>
+ * The token is the base64url form of {@code createdAt|id} of the last row
+ * returned, which is all the keyset query needs to seek to the next row.
+ */
+final class DepositCursor {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+
+    private DepositCursor() {
+    }
+
+    static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, LocalDateTime.parse(value.substring(0, separator)));
+            keys.put(ID, Long.parseLong(value.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    static String encode(ScrollPosition position) {
+        Map<String, ?> keys = ((KeysetScrollPosition) position).getKeys();
+        String value = keys.get(CREATED_AT) + "|" + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,142 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositExportFilter;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositExportFormat;
+import com.banking.deposit.infrastructure.config.DepositExportProperties;
+import com.banking.deposit.infrastructure.repository.DepositExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes every deposit matching a filter to an output stream as NDJSON or CSV.
+ * <p>
+ * Rows are mapped with {@link DepositMapper} and written as they come off the
+ * database cursor; nothing is collected in between.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositExportService {
+
+    static final String CSV_HEADER = "id,accountNumber,amount,status,currency,description,createdAt,updatedAt";
+
+    private final DepositExportRepository depositExportRepository;
+    private final DepositMapper depositMapper;
+    private final ObjectMapper objectMapper;
+    private final DepositExportProperties properties;
+
+    public long export(DepositExportFilter filter, DepositExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting deposits as {} with filter: {}", format, filter);
+        long count = format == DepositExportFormat.NDJSON ? exportNdjson(filter, out) : exportCsv(filter, out);
+        log.info("Exported {} deposits", count);
+        return count;
+    }
+
+    private long exportNdjson(DepositExportFilter filter, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(DepositResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            return depositExportRepository.streamDeposits(filter, properties.getFetchSize(), new RowWriter() {
+                @Override
+                void write(DepositResponse response) throws IOException {
+                    writer.writeValue(generator, response);
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                void flush() throws IOException {
+                    generator.flush();
+                }
+            });
+        }
+    }
+
+    private long exportCsv(DepositExportFilter filter, OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            return depositExportRepository.streamDeposits(filter, properties.getFetchSize(), new RowWriter() {
+                @Override
+                void write(DepositResponse response) throws IOException {
+                    writer.write(String.valueOf(response.getId()));
+                    writer.write(',');
+                    writer.write(response.getAccountNumber());
+                    writer.write(',');
+                    writer.write(response.getAmount().toPlainString());
+                    writer.write(',');
+                    writer.write(response.getStatus().name());
+                    writer.write(',');
+                    writer.write(response.getCurrency());
+                    writer.write(',');
+                    writeCsvText(writer, response.getDescription());
+                    writer.write(',');
+                    writer.write(response.getCreatedAt().toString());
+                    writer.write(',');
+                    writer.write(response.getUpdatedAt().toString());
+                    writer.write('\n');
+                }
+
+                @Override
+                void flush() throws IOException {
+                    writer.flush();
+                }
+            });
+        }
+    }
+
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Maps each streamed entity and flushes the output every
+     * {@code deposit.export.flush-every} rows so the client receives chunks
+     * while the cursor is still open.
+     */
+    private abstract class RowWriter implements Consumer<Deposit> {
+
+        private long rows;
+
+        abstract void write(DepositResponse response) throws IOException;
+
+        abstract void flush() throws IOException;
+
+        @Override
+        public void accept(Deposit deposit) {
+            try {
+                write(depositMapper.toResponse(deposit));
+                if (++rows % properties.getFlushEvery() == 0) {
+                    flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
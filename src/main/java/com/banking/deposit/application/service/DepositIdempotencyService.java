@@ -0,0 +1,221 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.exception.IdempotencyKeyMismatchException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositIdempotencyKey;
+import com.banking.deposit.infrastructure.cache.IdempotencyKeyBloomFilter;
+import com.banking.deposit.infrastructure.concurrency.AccountWriteStripes;
+import com.banking.deposit.infrastructure.config.DepositIdempotencyProperties;
+import com.banking.deposit.infrastructure.repository.DepositIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Creates deposits at most once per client-supplied {@code Idempotency-Key}.
+ * <p>
+ * The deposit and its key row are written in one transaction; the key is the
+ * primary key of {@code deposit_idempotency_keys}, so of two concurrent
+ * requests with the same key only one commits and the other replays its
+ * response. A bloom filter of the keys this instance has stored lets a new
+ * key skip the lookup, which keeps the common no-retry case at the same
+ * number of round trips as a plain create. Recent responses are also kept
+ * in memory so a retry usually does not read the key table either.
+ * <p>
+ * A key is bound to a hash of the request it was first used with; reusing
+ * it for a different request is rejected. Keys expire after
+ * {@code deposit.idempotency.time-to-live} and are purged periodically.
+ */
+@Service
+@Slf4j
+public class DepositIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final DepositService depositService;
+    private final DepositIdempotencyKeyRepository keyRepository;
+    private final AccountWriteStripes writeStripes;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DepositIdempotencyProperties properties;
+    private final IdempotencyKeyBloomFilter bloomFilter;
+    private final Cache<String, StoredResponse> recentResponses;
+
+    public DepositIdempotencyService(DepositService depositService,
+                                     DepositIdempotencyKeyRepository keyRepository,
+                                     AccountWriteStripes writeStripes,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     DepositIdempotencyProperties properties) {
+        this.depositService = depositService;
+        this.keyRepository = keyRepository;
+        this.writeStripes = writeStripes;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.bloomFilter = new IdempotencyKeyBloomFilter(
+                properties.getBloomExpectedKeys(), properties.getBloomFalsePositiveRate(), properties.getTimeToLive());
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .build();
+    }
+
+    public Result createDeposit(String idempotencyKey, DepositRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+
+        StoredResponse recent = recentResponses.getIfPresent(idempotencyKey);
+        if (recent != null) {
+            return replay(idempotencyKey, requestHash, recent);
+        }
+        if (bloomFilter.mightContain(idempotencyKey)) {
+            Optional<Result> stored = findStored(idempotencyKey, requestHash);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+
+        try {
+            return create(idempotencyKey, requestHash, request);
+        } catch (DataIntegrityViolationException ex) {
+            // Another request with this key committed first, possibly on another instance
+            log.info("Idempotency key {} was stored concurrently", idempotencyKey);
+            return findStored(idempotencyKey, requestHash)
+                    .orElseGet(() -> create(idempotencyKey, requestHash, request));
+        }
+    }
+
+    /**
+     * Writes the deposit and its key as one striped write, so the account's
+     * stripe is taken before the transaction opens a connection.
+     */
+    private Result create(String idempotencyKey, String requestHash, DepositRequest request) {
+        DepositResponse response = writeStripes.execute(request.getAccountNumber(), () -> {
+            DepositResponse created = depositService.createDeposit(request);
+            LocalDateTime now = LocalDateTime.now();
+            keyRepository.saveAndFlush(DepositIdempotencyKey.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .depositId(created.getId())
+                    .responseBody(toJson(created))
+                    .expiresAt(now.plus(properties.getTimeToLive()))
+                    .build());
+            return created;
+        });
+        remember(idempotencyKey, new StoredResponse(requestHash, response));
+        return new Result(response, false);
+    }
+
+    /**
+     * Replays the stored response for the key, if it has one that has not
+     * expired. An expired row is deleted so the key can be used again.
+     */
+    private Optional<Result> findStored(String idempotencyKey, String requestHash) {
+        Optional<DepositIdempotencyKey> stored = keyRepository.findById(idempotencyKey);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.get().getExpiresAt().isBefore(now)) {
+            transactionTemplate.execute(status -> keyRepository.deleteExpired(idempotencyKey, now));
+            return Optional.empty();
+        }
+        StoredResponse response = new StoredResponse(
+                stored.get().getRequestHash(), fromJson(stored.get().getResponseBody()));
+        remember(idempotencyKey, response);
+        return Optional.of(replay(idempotencyKey, requestHash, response));
+    }
+
+    private Result replay(String idempotencyKey, String requestHash, StoredResponse stored) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(idempotencyKey);
+        }
+        log.info("Replaying deposit {} for idempotency key {}", stored.getResponse().getId(), idempotencyKey);
+        return new Result(stored.getResponse(), true);
+    }
+
+    private void remember(String idempotencyKey, StoredResponse response) {
+        bloomFilter.put(idempotencyKey);
+        recentResponses.put(idempotencyKey, response);
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.idempotency.cleanup-interval:PT10M}")
+    public void purgeExpiredKeys() {
+        Integer purged = transactionTemplate.execute(status -> keyRepository.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /**
+     * SHA-256 over the fields that define the deposit; the amount is
+     * normalised so {@code 10.0} and {@code 10.00} hash the same. The
+     * optional description is last and only present with its separator, so
+     * a missing description and the text {@code "null"} hash differently.
+     */
+    static String hash(DepositRequest request) {
+        String canonical = request.getAccountNumber()
+                + '\u0000' + (request.getAmount() == null ? "" : request.getAmount().stripTrailingZeros().toPlainString())
+                + '\u0000' + request.getCurrency()
+                + (request.getDescription() == null ? "" : '\u0000' + request.getDescription());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String toJson(DepositResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize deposit " + response.getId(), ex);
+        }
+    }
+
+    private DepositResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, DepositResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot read stored idempotent response", ex);
+        }
+    }
+
+    @Value
+    public static class Result {
+
+        DepositResponse response;
+
+        /** Whether the response was stored by an earlier request with the same key. */
+        boolean replayed;
+    }
+
+    @Value
+    private static class StoredResponse {
+
+        String requestHash;
+
+        DepositResponse response;
+    }
+}
@@ -0,0 +1,213 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositImportResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositImport;
+import com.banking.deposit.domain.model.DepositImportFormat;
+import com.banking.deposit.domain.model.DepositImportStatus;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.DepositImportProperties;
+import com.banking.deposit.infrastructure.repository.DepositImportRepository;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Imports deposit files of any size with bounded memory.
+ * <p>
+ * The body is read line by line and valid records are written in chunks of
+ * {@code deposit.import.chunk-size} records. Every chunk commits together with
+ * the import checkpoint, so an interrupted import can be resumed by uploading
+ * the same file again with its import id: records up to the checkpoint are
+ * skipped without being parsed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositImportService {
+
+    private final DepositRepository depositRepository;
+    private final DepositImportRepository depositImportRepository;
+    private final DepositMapper depositMapper;
+    private final DepositRequestValidator depositRequestValidator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DepositImportProperties properties;
+
+    public DepositImportResponse importDeposits(InputStream body, DepositImportFormat format, String importId) {
+        DepositImport checkpoint = importId == null ? start(format) : resume(importId, format);
+        if (checkpoint.getStatus() == DepositImportStatus.COMPLETED) {
+            return toResponse(checkpoint, List.of());
+        }
+        log.info("Importing {} deposits, import ID: {}, resuming after record {}",
+                format, checkpoint.getId(), checkpoint.getLastCommittedRecord());
+
+        DepositRecordReader reader = new DepositRecordReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8),
+                format, objectMapper.readerFor(DepositRequest.class));
+        List<DepositImportResponse.RejectedRecord> reportedRejects = new ArrayList<>();
+        List<Deposit> chunk = new ArrayList<>(properties.getChunkSize());
+        long chunkRecords = 0;
+        long chunkRejected = 0;
+
+        try {
+            while (reader.next()) {
+                if (reader.recordNumber() <= checkpoint.getLastCommittedRecord()) {
+                    continue;
+                }
+
+                List<ApiErrorResponse.ValidationError> errors;
+                DepositRequest request = null;
+                try {
+                    request = reader.parse();
+                    errors = depositRequestValidator.validate(request);
+                } catch (IllegalArgumentException ex) {
+                    errors = List.of(ApiErrorResponse.ValidationError.builder()
+                            .field("record")
+                            .message(ex.getMessage())
+                            .build());
+                }
+
+                if (errors.isEmpty()) {
+                    Deposit deposit = depositMapper.toEntity(request);
+                    deposit.setStatus(DepositStatus.PENDING);
+                    chunk.add(deposit);
+                } else {
+                    chunkRejected++;
+                    if (reportedRejects.size() < properties.getMaxReportedRejects()) {
+                        reportedRejects.add(DepositImportResponse.RejectedRecord.builder()
+                                .record(reader.recordNumber())
+                                .validationErrors(errors)
+                                .build());
+                    }
+                }
+
+                if (++chunkRecords == properties.getChunkSize()) {
+                    checkpoint = commitChunk(checkpoint, chunk, chunkRejected, reader.recordNumber(),
+                            DepositImportStatus.IN_PROGRESS);
+                    chunkRecords = 0;
+                    chunkRejected = 0;
+                }
+            }
+            checkpoint = commitChunk(checkpoint, chunk, chunkRejected, reader.recordNumber(),
+                    DepositImportStatus.COMPLETED);
+        } catch (IOException ex) {
+            markInterrupted(checkpoint.getId());
+            throw new UncheckedIOException("Deposit import " + checkpoint.getId() + " was interrupted", ex);
+        } catch (RuntimeException ex) {
+            markInterrupted(checkpoint.getId());
+            throw ex;
+        }
+
+        log.info("Deposit import {} completed: {} accepted, {} rejected",
+                checkpoint.getId(), checkpoint.getAcceptedCount(), checkpoint.getRejectedCount());
+        return toResponse(checkpoint, reportedRejects);
+    }
+
+    public DepositImportResponse getImport(String importId) {
+        return toResponse(findImport(importId), null);
+    }
+
+    private DepositImport start(DepositImportFormat format) {
+        return depositImportRepository.save(DepositImport.builder()
+                .id(UUID.randomUUID().toString())
+                .format(format)
+                .status(DepositImportStatus.IN_PROGRESS)
+                .build());
+    }
+
+    private DepositImport resume(String importId, DepositImportFormat format) {
+        DepositImport checkpoint = findImport(importId);
+        if (checkpoint.getFormat() != format) {
+            throw new ValidationException("Deposit import " + importId + " was started as " + checkpoint.getFormat());
+        }
+        if (checkpoint.getStatus() == DepositImportStatus.INTERRUPTED) {
+            checkpoint.setStatus(DepositImportStatus.IN_PROGRESS);
+            checkpoint = depositImportRepository.save(checkpoint);
+        }
+        return checkpoint;
+    }
+
+    private DepositImport findImport(String importId) {
+        return depositImportRepository.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Deposit import not found with id: " + importId));
+    }
+
+    /**
+     * Writes the pending deposits and moves the checkpoint in one transaction.
+     * The optimistic version on the checkpoint stops two uploads of the same
+     * import from committing the same records twice.
+     */
+    private DepositImport commitChunk(DepositImport checkpoint, List<Deposit> chunk, long rejected,
+                                      long lastRecord, DepositImportStatus status) {
+        DepositImport committed = transactionTemplate.execute(tx -> {
+            depositRepository.saveAll(chunk);
+            for (Deposit deposit : chunk) {
+                eventPublisher.publishEvent(new DepositCreatedEvent(depositMapper.toResponse(deposit)));
+            }
+            DepositImport next = DepositImport.builder()
+                    .id(checkpoint.getId())
+                    .format(checkpoint.getFormat())
+                    .status(status)
+                    .lastCommittedRecord(lastRecord)
+                    .acceptedCount(checkpoint.getAcceptedCount() + chunk.size())
+                    .rejectedCount(checkpoint.getRejectedCount() + rejected)
+                    .version(checkpoint.getVersion())
+                    .createdAt(checkpoint.getCreatedAt())
+                    .build();
+            DepositImport saved = depositImportRepository.save(next);
+            entityManager.flush();
+            entityManager.clear();
+            return saved;
+        });
+        log.debug("Deposit import {} committed through record {}", checkpoint.getId(), lastRecord);
+        chunk.clear();
+        return committed;
+    }
+
+    private void markInterrupted(String importId) {
+        try {
+            depositImportRepository.findById(importId).ifPresent(checkpoint -> {
+                checkpoint.setStatus(DepositImportStatus.INTERRUPTED);
+                depositImportRepository.save(checkpoint);
+            });
+        } catch (RuntimeException ex) {
+            log.error("Could not mark deposit import {} as interrupted", importId, ex);
+        }
+    }
+
+    private static DepositImportResponse toResponse(DepositImport checkpoint,
+                                                    List<DepositImportResponse.RejectedRecord> rejects) {
+        return DepositImportResponse.builder()
+                .importId(checkpoint.getId())
+                .format(checkpoint.getFormat())
+                .status(checkpoint.getStatus())
+                .recordsCommitted(checkpoint.getLastCommittedRecord())
+                .accepted(checkpoint.getAcceptedCount())
+                .rejected(checkpoint.getRejectedCount())
+                .rejects(rejects)
+                .updatedAt(checkpoint.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,340 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositIngestionResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.exception.IngestionQueueFullException;
+import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.DepositIngestionProperties;
+import com.banking.deposit.infrastructure.ingestion.DepositIngestionJournal;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind creation of deposits, enabled with {@code deposit.ingestion.enabled}.
+ * <p>
+ * {@link #submit} journals the request to local disk, queues it and returns a
+ * tracking id; the journal append is the only synchronous I/O and concurrent
+ * appends share one {@code fsync}. Writer threads take whatever has queued up,
+ * up to {@code deposit.ingestion.max-batch-size}, and store it with JDBC batch
+ * inserts in one transaction, so a burst of requests costs one database commit
+ * per batch instead of one per deposit. Each deposit carries its tracking id
+ * in a unique column; on startup the journal is replayed and records that
+ * were already stored before a crash are skipped.
+ * <p>
+ * If a batch fails its deposits are retried one at a time. A deposit the
+ * database rejects outright is reported as {@code FAILED}; on any other error
+ * the writer backs off and tries again, and the deposit stays in the journal
+ * until it is stored.
+ */
+@Service
+@Slf4j
+public class DepositIngestionService implements SmartLifecycle {
+
+    private final DepositRepository depositRepository;
+    private final DepositMapper depositMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final DepositIngestionProperties properties;
+
+    private final BlockingQueue<DepositIngestionJournal.Entry> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final Cache<String, String> failures = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+    private final Counter rejected;
+
+    private final List<Thread> writers = new ArrayList<>();
+    private DepositIngestionJournal journal;
+    private volatile boolean running;
+
+    public DepositIngestionService(DepositRepository depositRepository,
+                                   DepositMapper depositMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ObjectMapper objectMapper,
+                                   DepositIngestionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.depositRepository = depositRepository;
+        this.depositMapper = depositMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        Gauge.builder("deposit.ingestion.queue.depth", depth, AtomicInteger::get)
+                .description("Accepted deposits waiting to be stored")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("deposit.ingestion.batch.size")
+                .description("Deposits stored per ingestion commit")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("deposit.ingestion.commit")
+                .description("Time to store one ingestion batch")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("deposit.ingestion.rejected")
+                .description("Deposits rejected because the ingestion queue was full")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Accepts a validated deposit for asynchronous creation. Returns once the
+     * request is durable in the local journal.
+     *
+     * @throws IngestionQueueFullException if {@code deposit.ingestion.queue-capacity}
+     *                                     deposits are already waiting
+     */
+    public DepositIngestionResponse submit(DepositRequest request) {
+        if (!running) {
+            throw new IllegalStateException("Deposit ingestion is not running");
+        }
+        if (depth.incrementAndGet() > properties.getQueueCapacity()) {
+            depth.decrementAndGet();
+            rejected.increment();
+            throw new IngestionQueueFullException(properties.getRetryAfter());
+        }
+
+        String trackingId = UUID.randomUUID().toString();
+        DepositIngestionJournal.Entry entry;
+        try {
+            entry = journal.append(trackingId, request);
+        } catch (IOException ex) {
+            depth.decrementAndGet();
+            throw new UncheckedIOException("Could not journal deposit", ex);
+        }
+        queued.add(trackingId);
+        queue.add(entry);
+
+        return DepositIngestionResponse.builder()
+                .trackingId(trackingId)
+                .state(DepositIngestionResponse.State.QUEUED)
+                .build();
+    }
+
+    public DepositIngestionResponse getStatus(String trackingId) {
+        if (queued.contains(trackingId)) {
+            return DepositIngestionResponse.builder()
+                    .trackingId(trackingId)
+                    .state(DepositIngestionResponse.State.QUEUED)
+                    .build();
+        }
+        String failure = failures.getIfPresent(trackingId);
+        if (failure != null) {
+            return DepositIngestionResponse.builder()
+                    .trackingId(trackingId)
+                    .state(DepositIngestionResponse.State.FAILED)
+                    .message(failure)
+                    .build();
+        }
+        Deposit deposit = depositRepository.findByTrackingId(trackingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with tracking id: " + trackingId));
+        return DepositIngestionResponse.builder()
+                .trackingId(trackingId)
+                .state(DepositIngestionResponse.State.STORED)
+                .deposit(depositMapper.toResponse(deposit))
+                .build();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            journal = new DepositIngestionJournal(
+                    properties.getJournalDirectory(), properties.getSegmentSize().toBytes(), objectMapper);
+            for (DepositIngestionJournal.Entry entry : journal.recover()) {
+                depth.incrementAndGet();
+                queued.add(entry.getTrackingId());
+                queue.add(entry);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open deposit ingestion journal", ex);
+        }
+
+        running = true;
+        for (int i = 0; i < properties.getWriterThreads(); i++) {
+            Thread writer = new Thread(this::drain, "deposit-ingestion-" + i);
+            writer.start();
+            writers.add(writer);
+        }
+        log.info("Deposit ingestion started with {} writers, journal in {}",
+                properties.getWriterThreads(), properties.getJournalDirectory());
+    }
+
+    /**
+     * Stops accepting deposits and lets the writers store what is queued.
+     * Anything they cannot store stays in the journal for the next start.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writers.clear();
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.warn("Could not close deposit ingestion journal: {}", ex.getMessage());
+        }
+        log.info("Deposit ingestion stopped, {} deposits left in the journal", depth.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the embedded web server, so no request
+     * can be accepted while the journal is closed.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<DepositIngestionJournal.Entry> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                DepositIngestionJournal.Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+                store(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void store(List<DepositIngestionJournal.Entry> batch) throws InterruptedException {
+        try {
+            commitTimer.record(() -> insert(batch));
+            batchSize.record(batch.size());
+            batch.forEach(this::complete);
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Storing {} ingested deposits failed, retrying one by one: {}", batch.size(), ex.getMessage());
+        }
+        for (DepositIngestionJournal.Entry entry : batch) {
+            storeSingle(entry);
+        }
+    }
+
+    private void storeSingle(DepositIngestionJournal.Entry entry) throws InterruptedException {
+        while (true) {
+            try {
+                insert(List.of(entry));
+                batchSize.record(1);
+                complete(entry);
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                log.error("Ingested deposit {} was rejected: {}", entry.getTrackingId(), ex.getMostSpecificCause().getMessage());
+                failures.put(entry.getTrackingId(), "Deposit was rejected by the database");
+                complete(entry);
+                return;
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    log.warn("Leaving ingested deposit {} in the journal: {}", entry.getTrackingId(), ex.getMessage());
+                    return;
+                }
+                log.warn("Storing ingested deposit {} failed, retrying: {}", entry.getTrackingId(), ex.getMessage());
+                Thread.sleep(properties.getRetryBackoff().toMillis());
+            }
+        }
+    }
+
+    /**
+     * One transaction per batch. Replayed records are checked against the
+     * tracking ids already stored, since the crash may have happened between
+     * commit and journal release.
+     */
+    private void insert(List<DepositIngestionJournal.Entry> batch) {
+        transactionTemplate.execute(status -> {
+            Set<String> stored = storedTrackingIds(batch);
+            List<Deposit> deposits = new ArrayList<>(batch.size());
+            for (DepositIngestionJournal.Entry entry : batch) {
+                if (stored.contains(entry.getTrackingId())) {
+                    continue;
+                }
+                Deposit deposit = depositMapper.toEntity(entry.getRequest());
+                deposit.setStatus(DepositStatus.PENDING);
+                deposit.setTrackingId(entry.getTrackingId());
+                deposits.add(deposit);
+            }
+            depositRepository.saveAll(deposits);
+            for (Deposit deposit : deposits) {
+                eventPublisher.publishEvent(new DepositCreatedEvent(depositMapper.toResponse(deposit)));
+            }
+            return deposits.size();
+        });
+    }
+
+    private Set<String> storedTrackingIds(List<DepositIngestionJournal.Entry> batch) {
+        List<String> recovered = new ArrayList<>();
+        for (DepositIngestionJournal.Entry entry : batch) {
+            if (entry.isRecovered()) {
+                recovered.add(entry.getTrackingId());
+            }
+        }
+        return recovered.isEmpty() ? Set.of() : new HashSet<>(depositRepository.findStoredTrackingIds(recovered));
+    }
+
+    private void complete(DepositIngestionJournal.Entry entry) {
+        queued.remove(entry.getTrackingId());
+        depth.decrementAndGet();
+        journal.release(entry);
+    }
+}
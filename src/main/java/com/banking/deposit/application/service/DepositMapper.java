@@ -3,21 +3,38 @@ package com.banking.deposit.application.service;
 import com.banking.deposit.application.dto.DepositRequest;
 import com.banking.deposit.application.dto.DepositResponse;
 import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.math.BigDecimal;
+
+/**
+ * Every write path creates its entities here, so this is where the amount
+ * is normalized to the base currency.
+ */
 @Mapper(componentModel = "spring")
-public interface DepositMapper {
+public abstract class DepositMapper {
+    
+    private CurrencyRegistry currencyRegistry;
     
-    DepositMapper INSTANCE = Mappers.getMapper(DepositMapper.class);
+    @Autowired
+    public void setCurrencyRegistry(CurrencyRegistry currencyRegistry) {
+        this.currencyRegistry = currencyRegistry;
+    }
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
-    Deposit toEntity(DepositRequest request);
+    @Mapping(target = "trackingId", ignore = true)
+    @Mapping(target = "baseAmount", expression = "java(baseAmount(request))")
+    public abstract Deposit toEntity(DepositRequest request);
     
-    DepositResponse toResponse(Deposit deposit);
+    public abstract DepositResponse toResponse(Deposit deposit);
+    
+    protected BigDecimal baseAmount(DepositRequest request) {
+        return currencyRegistry.toBaseAmount(request.getAmount(), request.getCurrency());
+    }
 }
-
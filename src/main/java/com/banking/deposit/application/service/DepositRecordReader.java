@@ -0,0 +1,234 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads deposit records one at a time from an NDJSON or CSV stream.
+ * <p>
+ * A record ends at a line break; in CSV, line breaks inside a quoted field
+ * belong to the field, as the export writes them. At most
+ * {@link #MAX_RECORD_LENGTH} characters of a record are kept: the rest of a
+ * longer one is read past and the record is rejected, so a body without line
+ * breaks cannot fill the heap.
+ * <p>
+ * Blank lines are skipped and the CSV header is not counted, so record
+ * numbers are stable between two uploads of the same file. Records are only
+ * parsed on demand, so skipping already committed records is cheap.
+ */
+class DepositRecordReader {
+
+    static final int MAX_RECORD_LENGTH = 16 * 1024;
+
+    private static final String[] CSV_COLUMNS = {"accountNumber", "amount", "currency", "description"};
+
+    private final Reader reader;
+    private final DepositImportFormat format;
+    private final ObjectReader jsonReader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder record = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean oversized;
+    private int[] csvColumnIndexes;
+    private String line;
+    private long recordNumber;
+
+    DepositRecordReader(Reader reader, DepositImportFormat format, ObjectReader jsonReader) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = jsonReader;
+    }
+
+    /**
+     * Advances to the next non-blank record.
+     *
+     * @return {@code false} at the end of the stream
+     */
+    boolean next() throws IOException {
+        while (readRecord()) {
+            line = oversized ? null : record.toString();
+            if (line != null && line.isBlank()) {
+                continue;
+            }
+            if (format == DepositImportFormat.CSV && csvColumnIndexes == null) {
+                if (line == null) {
+                    throw new ValidationException("CSV header exceeds " + MAX_RECORD_LENGTH + " characters");
+                }
+                csvColumnIndexes = readHeader(line);
+                continue;
+            }
+            recordNumber++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads up to the next line break outside a quoted CSV field, keeping at
+     * most {@link #MAX_RECORD_LENGTH} characters.
+     *
+     * @return {@code false} if the stream ended before any character
+     */
+    private boolean readRecord() throws IOException {
+        record.setLength(0);
+        oversized = false;
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = read()) >= 0) {
+            read = true;
+            if (!quoted && (c == '\n' || c == '\r')) {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                return true;
+            }
+            if (c == '"' && format == DepositImportFormat.CSV) {
+                quoted = !quoted;
+            }
+            if (record.length() < MAX_RECORD_LENGTH) {
+                record.append((char) c);
+            } else {
+                oversized = true;
+            }
+        }
+        return read;
+    }
+
+    private int read() throws IOException {
+        return peek() < 0 ? -1 : buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            int count = reader.read(buffer);
+            if (count < 0) {
+                return -1;
+            }
+            position = 0;
+            limit = count;
+        }
+        return buffer[position];
+    }
+
+    long recordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Parses the current record.
+     *
+     * @throws IllegalArgumentException if the line is not a well-formed record
+     */
+    DepositRequest parse() {
+        if (oversized) {
+            throw new IllegalArgumentException("Record exceeds " + MAX_RECORD_LENGTH + " characters");
+        }
+        return format == DepositImportFormat.NDJSON ? parseJson(line) : parseCsv(line);
+    }
+
+    private DepositRequest parseJson(String json) {
+        try {
+            return jsonReader.readValue(json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON record: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private DepositRequest parseCsv(String csv) {
+        List<String> fields = splitCsv(csv);
+        BigDecimal amount = null;
+        String amountField = field(fields, 1);
+        if (amountField != null && !amountField.isEmpty()) {
+            try {
+                amount = new BigDecimal(amountField.trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Malformed amount: " + amountField);
+            }
+        }
+        return DepositRequest.builder()
+                .accountNumber(field(fields, 0))
+                .amount(amount)
+                .currency(field(fields, 2))
+                .description(emptyToNull(field(fields, 3)))
+                .build();
+    }
+
+    private String field(List<String> fields, int column) {
+        int index = csvColumnIndexes[column];
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static int[] readHeader(String header) {
+        List<String> names = splitCsv(header);
+        int[] indexes = new int[CSV_COLUMNS.length];
+        for (int column = 0; column < CSV_COLUMNS.length; column++) {
+            indexes[column] = -1;
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "")
+                        .equals(CSV_COLUMNS[column].toLowerCase(Locale.ROOT))) {
+                    indexes[column] = i;
+                    break;
+                }
+            }
+        }
+        for (int column = 0; column < 3; column++) {
+            if (indexes[column] < 0) {
+                throw new ValidationException("CSV header is missing column: " + CSV_COLUMNS[column]);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Splits one RFC 4180 record. Quoted fields may contain commas, doubled
+     * quotes and line breaks.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
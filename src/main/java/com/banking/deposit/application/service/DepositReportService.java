@@ -0,0 +1,112 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.BaseAmountBackfillResponse;
+import com.banking.deposit.application.dto.DepositCurrencyTotal;
+import com.banking.deposit.application.dto.DepositTotalsReport;
+import com.banking.deposit.application.exception.OperationInProgressException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyDefinition;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports across currencies. They add up {@code base_amount}, written with
+ * every deposit, so a report is one grouped query and no row is converted
+ * when it is read.
+ * <p>
+ * Deposits from before the column existed are converted by
+ * {@link #backfillBaseAmounts()} at the current rates, in id ranges of
+ * {@code deposit.currency.backfill-chunk-size}, one transaction each.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepositReportService {
+
+    private final DepositRepository depositRepository;
+    private final CurrencyRegistry currencyRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final CurrencyProperties properties;
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+
+    @Transactional(readOnly = true)
+    public DepositTotalsReport getTotals(DepositStatus status, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("'from' must be before 'to'");
+        }
+        List<DepositCurrencyTotal> currencies = depositRepository.sumByCurrency(status, from, to);
+        long depositCount = 0;
+        long unconvertedCount = 0;
+        BigDecimal totalBaseAmount = BigDecimal.ZERO;
+        for (DepositCurrencyTotal currency : currencies) {
+            depositCount += currency.getDepositCount();
+            unconvertedCount += currency.getUnconvertedCount();
+            if (currency.getTotalBaseAmount() != null) {
+                totalBaseAmount = totalBaseAmount.add(currency.getTotalBaseAmount());
+            }
+        }
+        return DepositTotalsReport.builder()
+                .status(status)
+                .from(from)
+                .to(to)
+                .baseCurrency(currencyRegistry.getBaseCurrency())
+                .depositCount(depositCount)
+                .totalBaseAmount(totalBaseAmount)
+                .unconvertedCount(unconvertedCount)
+                .currencies(currencies)
+                .build();
+    }
+
+    public BaseAmountBackfillResponse backfillBaseAmounts() {
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new OperationInProgressException("A base amount backfill");
+        }
+        long started = System.nanoTime();
+        try {
+            Map<String, BigDecimal> ratesToBase = new HashMap<>();
+            for (CurrencyDefinition currency : currencyRegistry.getCurrencies()) {
+                ratesToBase.put(currency.getCode(), currency.getRateToBase());
+            }
+            int scale = currencyRegistry.find(currencyRegistry.getBaseCurrency()).getMinorUnits();
+
+            long updated = 0;
+            Optional<Long> minId = depositRepository.findMinIdWithoutBaseAmount();
+            Optional<Long> maxId = depositRepository.findMaxIdWithoutBaseAmount();
+            if (minId.isPresent() && maxId.isPresent()) {
+                long chunkSize = properties.getBackfillChunkSize();
+                for (long fromId = minId.get(); fromId <= maxId.get(); fromId += chunkSize) {
+                    long chunkFrom = fromId;
+                    Integer rows = transactionTemplate.execute(status -> depositRepository.backfillBaseAmounts(
+                            chunkFrom, chunkFrom + chunkSize, ratesToBase, scale));
+                    updated += rows == null ? 0 : rows;
+                }
+            }
+            long unconverted = depositRepository.countByBaseAmountIsNull();
+            long durationMillis = (System.nanoTime() - started) / 1_000_000;
+            log.info("Backfilled base amounts: {} deposits converted, {} left without a known currency, {} ms",
+                    updated, unconverted, durationMillis);
+            return BaseAmountBackfillResponse.builder()
+                    .updatedRows(updated)
+                    .unconvertedRows(unconverted)
+                    .durationMillis(durationMillis)
+                    .build();
+        } finally {
+            backfilling.set(false);
+        }
+    }
+}
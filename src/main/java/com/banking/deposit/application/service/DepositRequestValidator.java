@@ -0,0 +1,190 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.infrastructure.currency.CurrencyDefinition;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates {@link DepositRequest}s against the constraints declared on
+ * the class, without going through Bean Validation: each field is checked
+ * with a plain loop or comparison instead of reflective constraint lookup,
+ * regex matching and message interpolation. Every violated constraint is
+ * reported with its annotation's message, in the same field/message shape
+ * as the REST validation errors; {@code DepositRequestValidatorTest} keeps
+ * the two in step.
+ * <p>
+ * Beyond the annotations, the currency must be in the {@link CurrencyRegistry}
+ * and the amount must not have more decimal places than the currency's minor
+ * units; both are checked in memory.
+ * <p>
+ * Used for single requests as well as items of a batch or records of an
+ * imported file. A change to the annotations on {@link DepositRequest} must
+ * be made here as well.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepositRequestValidator {
+    
+    private static final String ACCOUNT_NUMBER = "accountNumber";
+    private static final String AMOUNT = "amount";
+    private static final String CURRENCY = "currency";
+    private static final String DESCRIPTION = "description";
+    
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+    private static final int MAX_AMOUNT_INTEGER_DIGITS = 15;
+    private static final int MAX_AMOUNT_FRACTION_DIGITS = 2;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+    
+    private final CurrencyRegistry currencyRegistry;
+    
+    public List<ApiErrorResponse.ValidationError> validate(DepositRequest request) {
+        if (request == null) {
+            return List.of(error("deposit", "Deposit is required"));
+        }
+        List<ApiErrorResponse.ValidationError> errors = null;
+        
+        String accountNumber = request.getAccountNumber();
+        if (isBlank(accountNumber)) {
+            errors = add(errors, ACCOUNT_NUMBER, "Account number is required");
+        }
+        if (accountNumber != null) {
+            if (accountNumber.length() < 8 || accountNumber.length() > 20) {
+                errors = add(errors, ACCOUNT_NUMBER, "Account number must be between 8 and 20 characters");
+            }
+            if (!isUppercaseAlphanumeric(accountNumber)) {
+                errors = add(errors, ACCOUNT_NUMBER, "Account number must contain only uppercase letters and numbers");
+            }
+        }
+        
+        BigDecimal amount = request.getAmount();
+        boolean amountDigitsValid = false;
+        if (amount == null) {
+            errors = add(errors, AMOUNT, "Amount is required");
+        } else {
+            if (amount.compareTo(MIN_AMOUNT) < 0) {
+                errors = add(errors, AMOUNT, "Amount must be greater than 0");
+            }
+            // As @Digits counts them: integer digits are precision - scale
+            int fractionDigits = Math.max(amount.scale(), 0);
+            amountDigitsValid = amount.precision() - amount.scale() <= MAX_AMOUNT_INTEGER_DIGITS
+                    && fractionDigits <= MAX_AMOUNT_FRACTION_DIGITS;
+            if (!amountDigitsValid) {
+                errors = add(errors, AMOUNT, "Amount must have at most 2 decimal places");
+            }
+        }
+        
+        String currency = request.getCurrency();
+        if (isBlank(currency)) {
+            errors = add(errors, CURRENCY, "Currency is required");
+        }
+        if (currency != null) {
+            if (currency.length() != 3) {
+                errors = add(errors, CURRENCY, "Currency must be exactly 3 characters");
+            }
+            if (currency.length() != 3 || !isUppercaseLetters(currency)) {
+                errors = add(errors, CURRENCY, "Currency must be uppercase ISO currency code");
+            } else {
+                CurrencyDefinition definition = currencyRegistry.find(currency);
+                if (definition == null) {
+                    errors = add(errors, CURRENCY, "Currency is not supported");
+                } else if (amountDigitsValid && exceedsMinorUnits(amount, definition.getMinorUnits())) {
+                    errors = add(errors, AMOUNT, "Amount has more decimal places than the currency allows");
+                }
+            }
+        }
+        
+        String description = request.getDescription();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            errors = add(errors, DESCRIPTION, "Description must not exceed 500 characters");
+        }
+        
+        return errors == null ? List.of() : errors;
+    }
+    
+    /**
+     * Fails with a {@link ValidationException} carrying all errors, answered
+     * like a failed {@code @Valid} binding.
+     */
+    public void requireValid(DepositRequest request) {
+        List<ApiErrorResponse.ValidationError> errors = validate(request);
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Validation failed", errors);
+        }
+    }
+    
+    /**
+     * Trailing zeros do not count: 100.00 is a valid JPY amount.
+     */
+    private static boolean exceedsMinorUnits(BigDecimal amount, int minorUnits) {
+        return amount.scale() > minorUnits && amount.stripTrailingZeros().scale() > minorUnits;
+    }
+    
+    /**
+     * {@code @NotBlank}: null, empty, or only characters {@link String#trim()}
+     * removes.
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * {@code ^[A-Z0-9]+$}.
+     */
+    private static boolean isUppercaseAlphanumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * {@code [A-Z]*}; the length is checked by the caller.
+     */
+    private static boolean isUppercaseLetters(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static List<ApiErrorResponse.ValidationError> add(List<ApiErrorResponse.ValidationError> errors,
+                                                              String field, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        errors.add(error(field, message));
+        return errors;
+    }
+    
+    private static ApiErrorResponse.ValidationError error(String field, String message) {
+        return ApiErrorResponse.ValidationError.builder()
+                .field(field)
+                .message(message)
+                .build();
+    }
+}
@@ -1,81 +1,200 @@
 package com.banking.deposit.application.service;
 
+import com.banking.deposit.application.dto.CursorPageResponse;
 import com.banking.deposit.application.dto.DepositRequest;
 import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.event.DepositDeletedEvent;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.InvalidStatusTransitionException;
 import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ValidationException;
 import com.banking.deposit.domain.model.Deposit;
 import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCache;
+import com.banking.deposit.infrastructure.concurrency.AccountWriteStripes;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingContext;
 import com.banking.deposit.infrastructure.repository.DepositRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * Deposit use cases. Creates and status changes run through
+ * {@link AccountWriteStripes}, which owns their transactions; every other
+ * method is transactional itself.
+ */
 @Service
-@Transactional
+@Timed(value = "deposit.service", description = "Latency of DepositService operations")
 @RequiredArgsConstructor
 @Slf4j
 public class DepositService {
     
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final DepositRepository depositRepository;
     private final DepositMapper depositMapper;
+    private final DepositCache depositCache;
+    private final AccountWriteStripes writeStripes;
+    private final ApplicationEventPublisher eventPublisher;
     
     public DepositResponse createDeposit(DepositRequest request) {
         log.info("Creating deposit for account: {}", request.getAccountNumber());
-        
+        return writeStripes.execute(request.getAccountNumber(), () -> insertDeposit(request));
+    }
+    
+    private DepositResponse insertDeposit(DepositRequest request) {
         Deposit deposit = depositMapper.toEntity(request);
         deposit.setStatus(DepositStatus.PENDING);
         
         Deposit savedDeposit = depositRepository.save(deposit);
         log.info("Deposit created with ID: {}", savedDeposit.getId());
         
-        return depositMapper.toResponse(savedDeposit);
+        DepositResponse response = depositMapper.toResponse(savedDeposit);
+        eventPublisher.publishEvent(new DepositCreatedEvent(response));
+        return response;
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * Served from {@link DepositCache}; only a miss opens a (read-only)
+     * repository transaction. Misses are read from the primary: a row from
+     * a lagging replica would stay cached after the write that replaced it,
+     * and the writer, pinned to the primary, would still be served it from
+     * the cache.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public DepositResponse getDepositById(Long id) {
         log.info("Fetching deposit with ID: {}", id);
-        Deposit deposit = depositRepository.findById(id)
+        return depositCache.get(id, key -> ReplicaRoutingContext.onPrimary(() -> loadDeposit(key)));
+    }
+    
+    private DepositResponse loadDeposit(Long id) {
+        return depositRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with id: " + id));
-        return depositMapper.toResponse(deposit);
     }
     
     @Transactional(readOnly = true)
     public Page<DepositResponse> getAllDeposits(Pageable pageable) {
         log.info("Fetching all deposits with pagination");
-        return depositRepository.findAll(pageable)
-                .map(depositMapper::toResponse);
+        return depositRepository.findAllResponses(pageable);
     }
     
     @Transactional(readOnly = true)
     public Page<DepositResponse> getDepositsByAccountNumber(String accountNumber, Pageable pageable) {
         log.info("Fetching deposits for account: {}", accountNumber);
-        return depositRepository.findByAccountNumber(accountNumber, pageable)
-                .map(depositMapper::toResponse);
+        return depositRepository.findResponsesByAccountNumber(accountNumber, pageable);
+    }
+    
+    /**
+     * Account history created within {@code [createdFrom, createdTo)}; on a
+     * partitioned table only the months in range are read.
+     */
+    @Transactional(readOnly = true)
+    public Page<DepositResponse> getDepositsByAccountNumber(String accountNumber, LocalDateTime createdFrom,
+                                                            LocalDateTime createdTo, Pageable pageable) {
+        log.info("Fetching deposits for account: {} created from {} to {}", accountNumber, createdFrom, createdTo);
+        validateCreatedRange(createdFrom, createdTo);
+        return depositRepository.findResponsesByAccountNumberAndCreatedAtBetween(
+                accountNumber, createdFrom, createdTo, pageable);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DepositResponse> getDeposits(String cursor, int size) {
+        log.info("Fetching deposits after cursor");
+        return scroll(size, limit -> depositRepository.scrollResponses(DepositCursor.decode(cursor), limit));
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DepositResponse> getDepositsByAccountNumber(String accountNumber, String cursor, int size) {
+        log.info("Fetching deposits for account: {} after cursor", accountNumber);
+        return scroll(size, limit -> depositRepository.scrollResponsesByAccountNumber(
+                accountNumber, DepositCursor.decode(cursor), limit));
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DepositResponse> getDepositsByAccountNumber(
+            String accountNumber, LocalDateTime createdFrom, LocalDateTime createdTo, String cursor, int size) {
+        log.info("Fetching deposits for account: {} created from {} to {} after cursor",
+                accountNumber, createdFrom, createdTo);
+        validateCreatedRange(createdFrom, createdTo);
+        return scroll(size, limit -> depositRepository.scrollResponsesByAccountNumberAndCreatedAtBetween(
+                accountNumber, createdFrom, createdTo, DepositCursor.decode(cursor), limit));
+    }
+    
+    private static void validateCreatedRange(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom == null || createdTo == null) {
+            throw new ValidationException("from and to must be given together");
+        }
+        if (!createdFrom.isBefore(createdTo)) {
+            throw new ValidationException("from must be before to");
+        }
+    }
+    
+    private CursorPageResponse<DepositResponse> scroll(int size, Function<Limit, Window<DepositResponse>> query) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        Window<DepositResponse> window = query.apply(Limit.of(size));
+        List<DepositResponse> content = window.getContent();
+        return CursorPageResponse.<DepositResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(window.hasNext())
+                .nextCursor(window.hasNext() ? DepositCursor.encode(window.positionAt(window.size() - 1)) : null)
+                .build();
     }
     
+    /**
+     * Applies the change with a single conditional update; see
+     * {@link DepositStatus#canTransitionTo} for the legal transitions. The
+     * current status is only read to explain a rejected change. With write
+     * striping the deposit's account is looked up first to pick its stripe.
+     */
     public DepositResponse updateDepositStatus(Long id, DepositStatus status) {
         log.info("Updating deposit status for ID: {} to {}", id, status);
-        Deposit deposit = depositRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with id: " + id));
-        
-        deposit.setStatus(status);
-        Deposit updatedDeposit = depositRepository.save(deposit);
+        String accountNumber = writeStripes.isEnabled()
+                ? depositRepository.findAccountNumberById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with id: " + id))
+                : null;
+        return writeStripes.execute(accountNumber, () -> transitionStatus(id, status));
+    }
+    
+    private DepositResponse transitionStatus(Long id, DepositStatus status) {
+        Optional<Deposit> updatedDeposit = depositRepository.transitionStatus(id, status, LocalDateTime.now());
+        if (updatedDeposit.isEmpty()) {
+            DepositStatus current = depositRepository.findStatusById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with id: " + id));
+            throw new InvalidStatusTransitionException(id, current, status);
+        }
+        depositCache.invalidate(id);
         log.info("Deposit status updated for ID: {}", id);
         
-        return depositMapper.toResponse(updatedDeposit);
+        DepositResponse response = depositMapper.toResponse(updatedDeposit.get());
+        eventPublisher.publishEvent(new DepositStatusChangedEvent(response));
+        return response;
     }
     
+    @Transactional
     public void deleteDeposit(Long id) {
         log.info("Deleting deposit with ID: {}", id);
-        if (!depositRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Deposit not found with id: " + id);
-        }
-        depositRepository.deleteById(id);
+        Deposit deposit = depositRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Deposit not found with id: " + id));
+        depositRepository.delete(deposit);
+        depositCache.invalidate(id);
+        eventPublisher.publishEvent(new DepositDeletedEvent(depositMapper.toResponse(deposit)));
         log.info("Deposit deleted with ID: {}", id);
     }
 }
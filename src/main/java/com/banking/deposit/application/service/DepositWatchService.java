@@ -0,0 +1,159 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCacheInvalidationBus;
+import com.banking.deposit.infrastructure.config.DepositWatchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-poll registry for deposit status changes.
+ * <p>
+ * A watch parks a {@link DeferredResult} instead of a thread, so the number
+ * of waiters is bounded by memory and {@code deposit.watch.max-waiters}, not
+ * by the request thread pool. Waiters are completed after the status change
+ * commits, or with the current state when their timeout expires.
+ * <p>
+ * Changes committed on this instance arrive as {@link DepositStatusChangedEvent}s.
+ * Changes committed on other instances arrive through the
+ * {@link DepositCacheInvalidationBus}, which only carries the deposit id, so the
+ * deposit is re-read and waiters whose status it left are completed. With the
+ * default in-process bus that covers a single JVM only.
+ */
+@Service
+@Slf4j
+public class DepositWatchService {
+
+    private final DepositService depositService;
+    private final DepositWatchProperties properties;
+    private final Map<Long, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    public DepositWatchService(DepositService depositService, DepositWatchProperties properties,
+                               DepositCacheInvalidationBus invalidationBus) {
+        this.depositService = depositService;
+        this.properties = properties;
+        // DepositCache subscribed first (it is built before DepositService), so
+        // the re-read below no longer sees the cached entry.
+        invalidationBus.subscribe(this::onDepositInvalidated);
+    }
+
+    /**
+     * Waits until the deposit leaves {@code knownStatus}. With no known status
+     * the caller waits for the next change from the current one.
+     *
+     * @throws ValidationException if {@code timeout} is not positive; the
+     *         container would treat it as no timeout at all
+     */
+    public DeferredResult<DepositResponse> watch(Long id, DepositStatus knownStatus, Duration timeout) {
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            throw new ValidationException("timeoutSeconds must be greater than 0");
+        }
+        Duration effectiveTimeout = timeout == null ? properties.getDefaultTimeout() : timeout;
+        if (effectiveTimeout.compareTo(properties.getMaxTimeout()) > 0) {
+            effectiveTimeout = properties.getMaxTimeout();
+        }
+
+        DeferredResult<DepositResponse> result = new DeferredResult<>(effectiveTimeout.toMillis(),
+                () -> depositService.getDepositById(id));
+        if (waiterCount.incrementAndGet() > properties.getMaxWaiters()) {
+            waiterCount.decrementAndGet();
+            log.warn("Watch limit of {} reached, answering deposit {} immediately", properties.getMaxWaiters(), id);
+            result.setResult(depositService.getDepositById(id));
+            return result;
+        }
+
+        // Register before reading the current state so a commit in between is not missed.
+        Waiter waiter = new Waiter(result, knownStatus);
+        waiters.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        result.onCompletion(() -> unregister(id, waiter));
+
+        DepositResponse current;
+        try {
+            current = depositService.getDepositById(id);
+        } catch (RuntimeException ex) {
+            // The result never reaches MVC, so its completion callback will not run.
+            unregister(id, waiter);
+            throw ex;
+        }
+        DepositStatus expected = knownStatus == null ? current.getStatus() : knownStatus;
+        waiter.expected = expected;
+        if (current.getStatus() != expected) {
+            result.setResult(current);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(DepositStatusChangedEvent event) {
+        DepositResponse deposit = event.getDeposit();
+        Set<Waiter> watching = waiters.remove(deposit.getId());
+        if (watching == null) {
+            return;
+        }
+        log.debug("Notifying {} watchers of deposit {}", watching.size(), deposit.getId());
+        for (Waiter waiter : watching) {
+            waiter.result.setResult(deposit);
+        }
+    }
+
+    /**
+     * Handles an invalidation, which may come from another instance. Waiters
+     * registered before their expected status was known are completed too,
+     * since the change may have landed between registering and reading.
+     */
+    void onDepositInvalidated(Long depositId) {
+        Set<Waiter> watching = waiters.get(depositId);
+        if (watching == null || watching.isEmpty()) {
+            return;
+        }
+        DepositResponse current;
+        try {
+            current = depositService.getDepositById(depositId);
+        } catch (ResourceNotFoundException ex) {
+            watching.forEach(waiter -> waiter.result.setErrorResult(ex));
+            return;
+        }
+        for (Waiter waiter : watching) {
+            DepositStatus expected = waiter.expected;
+            if (expected == null || expected != current.getStatus()) {
+                waiter.result.setResult(current);
+            }
+        }
+    }
+
+    int waiterCount() {
+        return waiterCount.get();
+    }
+
+    private void unregister(Long id, Waiter waiter) {
+        waiterCount.decrementAndGet();
+        waiters.computeIfPresent(id, (key, watching) -> {
+            watching.remove(waiter);
+            return watching.isEmpty() ? null : watching;
+        });
+    }
+
+    private static final class Waiter {
+
+        private final DeferredResult<DepositResponse> result;
+        private volatile DepositStatus expected;
+
+        private Waiter(DeferredResult<DepositResponse> result, DepositStatus expected) {
+            this.result = result;
+            this.expected = expected;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.RateLimitSettings;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import com.banking.deposit.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.banking.deposit.infrastructure.ratelimit.DepositRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads and changes the request limits of the running instance. Changes are
+ * not persisted; a restart goes back to {@code deposit.rate-limit}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitService {
+    
+    private final DepositRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    
+    /**
+     * @throws com.banking.deposit.application.exception.RateLimitExceededException
+     *         if the account has used up its rate limit
+     */
+    public void checkAccount(String accountNumber) {
+        rateLimiter.checkAccount(accountNumber);
+    }
+    
+    public RateLimitSettings getSettings() {
+        DepositRateLimitProperties.Bucket client = rateLimiter.getClientLimit();
+        DepositRateLimitProperties.Bucket account = rateLimiter.getAccountLimit();
+        return RateLimitSettings.builder()
+                .clientPermitsPerSecond(client.getPermitsPerSecond())
+                .clientBurst(client.getBurst())
+                .accountPermitsPerSecond(account.getPermitsPerSecond())
+                .accountBurst(account.getBurst())
+                .concurrencyMinLimit(concurrencyLimiter.getMinLimit())
+                .concurrencyMaxLimit(concurrencyLimiter.getMaxLimit())
+                .concurrencyLimit(concurrencyLimiter.getLimit())
+                .inFlight(concurrencyLimiter.getInFlight())
+                .build();
+    }
+    
+    /**
+     * Applies the given limits; all of them are checked before any is
+     * changed.
+     */
+    public synchronized RateLimitSettings updateSettings(RateLimitSettings update) {
+        RateLimitSettings current = getSettings();
+        double clientRate = valueOr(update.getClientPermitsPerSecond(), current.getClientPermitsPerSecond());
+        int clientBurst = valueOr(update.getClientBurst(), current.getClientBurst());
+        double accountRate = valueOr(update.getAccountPermitsPerSecond(), current.getAccountPermitsPerSecond());
+        int accountBurst = valueOr(update.getAccountBurst(), current.getAccountBurst());
+        int minLimit = valueOr(update.getConcurrencyMinLimit(), current.getConcurrencyMinLimit());
+        int maxLimit = valueOr(update.getConcurrencyMaxLimit(), current.getConcurrencyMaxLimit());
+        
+        if (!(clientRate > 0) || !(accountRate > 0)) {
+            throw new ValidationException("Permits per second must be greater than 0");
+        }
+        if (clientBurst < 1 || accountBurst < 1) {
+            throw new ValidationException("Burst must be at least 1");
+        }
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new ValidationException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        
+        rateLimiter.setClientLimit(clientRate, clientBurst);
+        rateLimiter.setAccountLimit(accountRate, accountBurst);
+        concurrencyLimiter.setLimits(minLimit, maxLimit);
+        log.info("Rate limits changed: client {}/s burst {}, account {}/s burst {}, concurrency {}..{}",
+                clientRate, clientBurst, accountRate, accountBurst, minLimit, maxLimit);
+        return getSettings();
+    }
+    
+    private static <T> T valueOr(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+}
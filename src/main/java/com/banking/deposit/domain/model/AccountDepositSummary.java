@@ -0,0 +1,43 @@
+package com.banking.deposit.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Count, sum and latest creation time of an account's completed deposits in
+ * one currency. Rows are written with SQL only, by the incremental projection
+ * and by the rebuild; the entity is read-only.
+ */
+@Entity
+@Table(name = "account_deposit_summary")
+@IdClass(AccountDepositSummaryId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDepositSummary {
+    
+    @Id
+    @Column(length = 50)
+    private String accountNumber;
+    
+    @Id
+    private String currency;
+    
+    @Column(nullable = false)
+    private long completedCount;
+    
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal completedAmount;
+    
+    private LocalDateTime lastDepositAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.banking.deposit.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDepositSummaryId implements Serializable {
+    
+    private String accountNumber;
+    private String currency;
+}
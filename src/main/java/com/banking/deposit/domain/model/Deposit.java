@@ -9,6 +9,11 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * On PostgreSQL the table is range-partitioned by month on {@code createdAt}
+ * with primary key {@code (id, created_at)}; ids still come from one sequence
+ * and stay unique.
+ */
 @Entity
 @Table(name = "deposits")
 @Data
@@ -19,7 +24,7 @@ public class Deposit {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deposit_seq")
-    @SequenceGenerator(name = "deposit_seq", sequenceName = "deposit_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "deposit_seq", sequenceName = "deposit_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 50)
@@ -35,9 +40,24 @@ public class Deposit {
     @Column(nullable = false)
     private String currency;
     
+    /**
+     * {@code amount} in the base currency at the rate of the time of
+     * writing, for reports across currencies. {@code null} for deposits
+     * written before the column existed, until backfilled.
+     */
+    @Column(precision = 19, scale = 2)
+    private BigDecimal baseAmount;
+    
     @Column(length = 500)
     private String description;
     
+    /**
+     * Set for deposits created through asynchronous ingestion. Only indexed,
+     * not unique, once the table is partitioned by month on PostgreSQL.
+     */
+    @Column(length = 36, unique = true)
+    private String trackingId;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -0,0 +1,48 @@
+package com.banking.deposit.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for one change to a deposit, written in the transaction that
+ * made the change. {@code payload} is the deposit as JSON after the change
+ * (before it, for {@link DepositEventType#DELETED}).
+ */
+@Entity
+@Table(name = "deposit_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deposit_event_seq")
+    @SequenceGenerator(name = "deposit_event_seq", sequenceName = "deposit_event_sequence", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long depositId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DepositEventType eventType;
+    
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime publishedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
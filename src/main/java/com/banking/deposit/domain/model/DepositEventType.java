@@ -0,0 +1,11 @@
+package com.banking.deposit.domain.model;
+
+/**
+ * Declared in the order the events can happen to one deposit, which is the
+ * order the outbox relay publishes them in.
+ */
+public enum DepositEventType {
+    CREATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,6 @@
+package com.banking.deposit.domain.model;
+
+public enum DepositExportFormat {
+    NDJSON,
+    CSV
+}
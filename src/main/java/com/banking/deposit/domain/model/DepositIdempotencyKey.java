@@ -0,0 +1,60 @@
+package com.banking.deposit.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Client-supplied {@code Idempotency-Key} of a created deposit, with a hash
+ * of the request it was first used for and the response that was returned.
+ * <p>
+ * The key is the primary key, so of two concurrent requests with the same
+ * key only one can commit. A new instance is always inserted, never merged.
+ */
+@Entity
+@Table(name = "deposit_idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositIdempotencyKey implements Persistable<String> {
+    
+    @Id
+    @Column(length = 255)
+    private String idempotencyKey;
+    
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+    
+    @Column(nullable = false)
+    private Long depositId;
+    
+    @Column(nullable = false, columnDefinition = "text")
+    private String responseBody;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.banking.deposit.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of a streaming deposit import.
+ * <p>
+ * {@code lastCommittedRecord} is advanced in the same transaction as the
+ * chunk it covers, so a resumed import skips exactly the records whose
+ * deposits are already stored.
+ */
+@Entity
+@Table(name = "deposit_imports")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepositImport {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DepositImportFormat format;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DepositImportStatus status;
+    
+    @Column(nullable = false)
+    private long lastCommittedRecord;
+    
+    @Column(nullable = false)
+    private long acceptedCount;
+    
+    @Column(nullable = false)
+    private long rejectedCount;
+    
+    @Version
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.banking.deposit.domain.model;
+
+public enum DepositImportStatus {
+    IN_PROGRESS,
+    INTERRUPTED,
+    COMPLETED
+}
@@ -1,9 +1,33 @@
 package com.banking.deposit.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum DepositStatus {
     PENDING,
     COMPLETED,
     FAILED,
-    CANCELLED
+    CANCELLED;
+    
+    /**
+     * Legal transitions: a pending deposit may complete, fail or be
+     * cancelled; every other status is final.
+     */
+    public boolean canTransitionTo(DepositStatus target) {
+        return this == PENDING && target != PENDING;
+    }
+    
+    /**
+     * Statuses from which a deposit may move to {@code target}; empty if no
+     * status may.
+     */
+    public static Set<DepositStatus> sourcesOf(DepositStatus target) {
+        Set<DepositStatus> sources = EnumSet.noneOf(DepositStatus.class);
+        for (DepositStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
-
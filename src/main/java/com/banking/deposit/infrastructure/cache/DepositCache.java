@@ -0,0 +1,110 @@
+package com.banking.deposit.infrastructure.cache;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.infrastructure.config.DepositCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of {@link DepositResponse} by deposit id.
+ * <p>
+ * Entries are bounded by size and time to live. Writers call
+ * {@link #invalidate(Long)}: the local entry is dropped at once and again
+ * after the surrounding transaction commits, so a concurrent reader cannot
+ * re-cache the pre-commit row. Other instances are told through the
+ * {@link DepositCacheInvalidationBus} once the change is committed.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics
+ * tagged {@code cache=deposits}.
+ */
+@Component
+public class DepositCache {
+
+    static final String CACHE_NAME = "deposits";
+
+    private final boolean enabled;
+    private final Cache<Long, DepositResponse> cache;
+    private final DepositCacheInvalidationBus invalidationBus;
+
+    @Autowired
+    public DepositCache(DepositCacheProperties properties, DepositCacheInvalidationBus invalidationBus,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, invalidationBus, Ticker.systemTicker());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    DepositCache(DepositCacheProperties properties, DepositCacheInvalidationBus invalidationBus, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        invalidationBus.subscribe(cache::invalidate);
+    }
+
+    /**
+     * Returns the cached deposit or loads it. Concurrent misses for the same
+     * id share one load; exceptions from the loader are not cached.
+     */
+    public DepositResponse get(Long id, Function<Long, DepositResponse> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                    invalidationBus.publish(id);
+                }
+            });
+        } else {
+            invalidationBus.publish(id);
+        }
+    }
+
+    /**
+     * Same as {@link #invalidate(Long)} for many ids, with a single
+     * after-commit callback.
+     */
+    public void invalidateAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(ids);
+                    ids.forEach(invalidationBus::publish);
+                }
+            });
+        } else {
+            ids.forEach(invalidationBus::publish);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,18 @@
+package com.banking.deposit.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries deposit cache invalidations between application instances.
+ * <p>
+ * The default {@link InProcessDepositCacheInvalidationBus} only reaches caches
+ * in the same JVM. A clustered deployment registers a {@code @Primary}
+ * implementation backed by its messaging system (for example PostgreSQL
+ * {@code LISTEN/NOTIFY} or a pub/sub topic).
+ */
+public interface DepositCacheInvalidationBus {
+
+    void publish(Long depositId);
+
+    void subscribe(Consumer<Long> listener);
+}
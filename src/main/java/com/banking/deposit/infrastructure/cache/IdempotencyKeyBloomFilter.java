@@ -0,0 +1,140 @@
+package com.banking.deposit.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom filter over idempotency keys seen by this instance.
+ * <p>
+ * {@link #mightContain} never returns {@code false} for a key added during
+ * the last {@code retention}, so a negative answer means the key table does
+ * not need to be consulted. Keys are added to the current generation; when
+ * it is older than {@code retention} it becomes the previous generation and
+ * the one before is dropped, which bounds the false positive rate without
+ * ever removing single keys. Thread-safe and lock-free except for rotation.
+ */
+public class IdempotencyKeyBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int bits;
+    private final int hashes;
+    private final long retentionNanos;
+    private final LongSupplier nanoTime;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public IdempotencyKeyBloomFilter(int expectedKeys, double falsePositiveRate, Duration retention) {
+        this(expectedKeys, falsePositiveRate, retention, System::nanoTime);
+    }
+
+    IdempotencyKeyBloomFilter(int expectedKeys, double falsePositiveRate, Duration retention, LongSupplier nanoTime) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected keys must be positive and false positive rate in (0, 1)");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = (int) Math.min(Math.max(optimalBits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * ln2));
+        this.retentionNanos = retention.toNanos();
+        this.nanoTime = nanoTime;
+        this.current = new Generation(bits, nanoTime.getAsLong());
+        this.previous = new Generation(bits, current.createdAt);
+    }
+
+    public void put(String key) {
+        rotateIfExpired();
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            current.set(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        rotateIfExpired();
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return current.containsAll(h1, h2) || previous.containsAll(h1, h2);
+    }
+
+    int getBits() {
+        return bits;
+    }
+
+    int getHashes() {
+        return hashes;
+    }
+
+    private void rotateIfExpired() {
+        if (nanoTime.getAsLong() - current.createdAt < retentionNanos) {
+            return;
+        }
+        synchronized (this) {
+            long now = nanoTime.getAsLong();
+            if (now - current.createdAt >= retentionNanos) {
+                previous = current;
+                current = new Generation(bits, now);
+            }
+        }
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bits;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes with a final avalanche step; the
+     * two halves seed the double hashing {@code h1 + i * h2}.
+     */
+    static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private final class Generation {
+
+        private final AtomicLongArray words;
+        private final long createdAt;
+
+        Generation(int bits, long createdAt) {
+            this.words = new AtomicLongArray((bits + Long.SIZE - 1) / Long.SIZE);
+            this.createdAt = createdAt;
+        }
+
+        void set(int bit) {
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long value;
+            do {
+                value = words.get(word);
+                if ((value & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(word, value, value | mask));
+        }
+
+        boolean containsAll(int h1, int h2) {
+            for (int i = 0; i < hashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.banking.deposit.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+public class InProcessDepositCacheInvalidationBus implements DepositCacheInvalidationBus {
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long depositId) {
+        for (Consumer<Long> listener : listeners) {
+            listener.accept(depositId);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,316 @@
+package com.banking.deposit.infrastructure.concurrency;
+
+import com.banking.deposit.infrastructure.config.DepositWriteStripingProperties;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingContext;
+import com.banking.deposit.infrastructure.metrics.JdbcStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Runs deposit writes one account stripe at a time and commits writes that
+ * queue up on the same stripe together.
+ * <p>
+ * Account numbers are hashed onto a fixed set of stripes, each a lock and a
+ * queue of pending writes. A caller queues its write and takes the stripe
+ * lock; whoever holds it runs everything queued so far, up to
+ * {@code maxBatchSize}, in one transaction, and the callers whose writes were
+ * taken along just return the result. Writes to the same account therefore
+ * never compete for the same index pages, and a burst on a hot account costs
+ * one commit per batch. Different stripes share nothing and run in parallel.
+ * No threads are started: batches run on the calling threads.
+ * <p>
+ * Each write in a batch runs inside a JDBC savepoint and is flushed before it
+ * is released. A write that throws is rolled back to its savepoint, and the
+ * persistence context is cleared of whatever it left behind. Its caller gets
+ * the exception, while the rest of the batch goes on and commits. JPA itself
+ * cannot nest transactions here, so the savepoints are set on the
+ * transaction's connection. Hibernate marks the whole transaction
+ * rollback-only when a flush fails, for example on a duplicate key. Only then
+ * is the batch rolled back and each write run again alone in its own
+ * transaction, so every caller still sees its own outcome.
+ * A caller that is already inside a transaction cannot commit with others,
+ * and must not wait for a stripe either: it holds a pooled connection, and the
+ * stripe's holder may be waiting for one to run its batch. Its write joins
+ * that transaction without the stripe. Callers that want their transaction
+ * serialized per account pass all of it to {@link #execute}.
+ * <p>
+ * A queued write may run on the thread that holds the stripe. It runs with
+ * its caller's MDC and {@link ReplicaRoutingContext}, and the statements it
+ * executes are added to its caller's {@link JdbcStatementCounter}, so
+ * per-request metrics and logs stay with the request that made the write.
+ * <p>
+ * Publishes {@code deposit.write.stripes.contended} (lock acquisitions that
+ * had to wait), {@code deposit.write.stripes.wait} (how long they waited) and
+ * {@code deposit.write.stripes.batch.size} (writes per transaction).
+ */
+@Component
+@Slf4j
+public class AccountWriteStripes {
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Stripe[] stripes;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final JdbcStatementCounter statementCounter;
+
+    private final Counter contended;
+    private final Timer lockWait;
+    private final DistributionSummary batchSize;
+
+    public AccountWriteStripes(DepositWriteStripingProperties properties, TransactionTemplate transactionTemplate,
+                               EntityManager entityManager, JdbcStatementCounter statementCounter,
+                               MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.stripes = new Stripe[properties.getStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.statementCounter = statementCounter;
+        this.contended = Counter.builder("deposit.write.stripes.contended")
+                .description("Account stripe lock acquisitions that had to wait")
+                .register(meterRegistry);
+        this.lockWait = Timer.builder("deposit.write.stripes.wait")
+                .description("Time spent waiting for a contended account stripe")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("deposit.write.stripes.batch.size")
+                .description("Deposit writes committed per striped transaction")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs {@code write} in a transaction, serialized with the other writes
+     * to accounts on the same stripe. Without striping the write simply runs
+     * in its own transaction, or joins the caller's.
+     *
+     * @param accountNumber the account written to; ignored when striping is
+     *                      disabled
+     */
+    public <T> T execute(String accountNumber, Supplier<T> write) {
+        if (!enabled) {
+            return transactionTemplate.execute(status -> write.get());
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return write.get();
+        }
+        Stripe stripe = stripes[indexFor(accountNumber)];
+        PendingWrite<T> pending = new PendingWrite<>(write, statementCounter);
+        stripe.queue.add(pending);
+        while (!pending.isDone()) {
+            lock(stripe);
+            try {
+                if (!pending.isDone()) {
+                    runQueued(stripe);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        statementCounter.add(pending.getStatements());
+        return pending.getResult();
+    }
+
+    int indexFor(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    private void lock(Stripe stripe) {
+        if (stripe.lock.tryLock()) {
+            return;
+        }
+        contended.increment();
+        long start = System.nanoTime();
+        stripe.lock.lock();
+        lockWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void runQueued(Stripe stripe) {
+        List<PendingWrite<?>> batch = new ArrayList<>(Math.min(maxBatchSize, stripe.queue.size()));
+        PendingWrite<?> next;
+        while (batch.size() < maxBatchSize && (next = stripe.queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() > 1) {
+            try {
+                transactionTemplate.execute(status -> {
+                    for (PendingWrite<?> pending : batch) {
+                        runToSavepoint(pending);
+                        if (status.isRollbackOnly()) {
+                            throw new IllegalStateException("Striped batch was marked rollback-only");
+                        }
+                    }
+                    return null;
+                });
+                batchSize.record(batch.size());
+                batch.forEach(PendingWrite::complete);
+                return;
+            } catch (RuntimeException | Error ex) {
+                log.debug("Striped batch of {} writes failed, running them one by one: {}",
+                        batch.size(), ex.getMessage());
+            }
+        }
+        for (PendingWrite<?> pending : batch) {
+            pending.runAlone(transactionTemplate);
+            batchSize.record(1);
+        }
+    }
+
+    /**
+     * Runs one write of a batch, rolling back only that write if it throws.
+     */
+    private void runToSavepoint(PendingWrite<?> pending) {
+        Session session = entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        try {
+            pending.inCallerContext(() -> {
+                pending.run();
+                entityManager.flush();
+                return null;
+            });
+            session.doWork(connection -> connection.releaseSavepoint(savepoint));
+        } catch (RuntimeException | Error ex) {
+            session.doWork(connection -> connection.rollback(savepoint));
+            entityManager.clear();
+            pending.fail(ex);
+        }
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<PendingWrite<?>> queue = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * A queued write, its caller's thread context and, once done, its result
+     * or failure. Everything is written before {@code done} and read after
+     * it.
+     */
+    private static class PendingWrite<T> {
+
+        private final Supplier<T> write;
+        private final JdbcStatementCounter statementCounter;
+        private final Thread caller = Thread.currentThread();
+        private final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        private final boolean primaryRequired = ReplicaRoutingContext.isPrimaryRequired();
+        private T result;
+        private Throwable failure;
+        private int statements;
+        private volatile boolean done;
+
+        PendingWrite(Supplier<T> write, JdbcStatementCounter statementCounter) {
+            this.write = write;
+            this.statementCounter = statementCounter;
+        }
+
+        void run() {
+            result = write.get();
+            failure = null;
+        }
+
+        void fail(Throwable ex) {
+            result = null;
+            failure = ex;
+        }
+
+        void complete() {
+            done = true;
+        }
+
+        void runAlone(TransactionTemplate transactionTemplate) {
+            try {
+                inCallerContext(() -> transactionTemplate.execute(status -> {
+                    run();
+                    return null;
+                }));
+            } catch (RuntimeException | Error ex) {
+                fail(ex);
+            }
+            done = true;
+        }
+
+        /**
+         * Runs {@code work} with the caller's MDC and replica routing, and
+         * sets the statements it executes aside for the caller, when this
+         * thread is not the caller.
+         */
+        <R> R inCallerContext(Supplier<R> work) {
+            if (Thread.currentThread() == caller) {
+                return work.get();
+            }
+            Map<String, String> ownMdc = MDC.getCopyOfContextMap();
+            boolean ownPrimaryRequired = ReplicaRoutingContext.isPrimaryRequired();
+            int ownStatements = statementCounter.getAndReset();
+            setContext(mdc, primaryRequired);
+            try {
+                return work.get();
+            } finally {
+                statements += statementCounter.getAndReset();
+                statementCounter.add(ownStatements);
+                setContext(ownMdc, ownPrimaryRequired);
+            }
+        }
+
+        private static void setContext(Map<String, String> mdc, boolean primaryRequired) {
+            if (mdc == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(mdc);
+            }
+            if (primaryRequired) {
+                ReplicaRoutingContext.requirePrimary();
+            } else {
+                ReplicaRoutingContext.clear();
+            }
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        int getStatements() {
+            return statements;
+        }
+
+        T getResult() {
+            if (failure instanceof RuntimeException ex) {
+                throw ex;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            return result;
+        }
+    }
+}
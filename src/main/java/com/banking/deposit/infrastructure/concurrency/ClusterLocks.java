@@ -0,0 +1,114 @@
+package com.banking.deposit.infrastructure.concurrency;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Locks shared by all instances, for scheduled jobs that every instance runs
+ * but only one may run at a time.
+ * <p>
+ * On PostgreSQL they are advisory locks. Other databases (H2 in tests and
+ * local runs) serve a single instance, so the locks are always granted there.
+ */
+@Component
+public class ClusterLocks {
+
+    /**
+     * The locks, each with its advisory lock key.
+     */
+    public enum Lock {
+        OUTBOX_RELAY(0x6465706f7369_01L),
+        PARTITION_MAINTENANCE(0x6465706f7369_02L);
+
+        private final long key;
+
+        Lock(long key) {
+            this.key = key;
+        }
+
+        public long getKey() {
+            return key;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public ClusterLocks(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Takes {@code lock} until the surrounding transaction ends, without
+     * waiting.
+     *
+     * @return {@code false} if another transaction holds it
+     */
+    public boolean tryLockForTransaction(Lock lock) {
+        if (!isPostgres()) {
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lock.getKey()));
+    }
+
+    /**
+     * Runs {@code work} while holding {@code lock}, for jobs that cannot run
+     * in one transaction. The lock is a session lock on a connection kept
+     * for the duration, so {@code work} needs a second one from the pool;
+     * if the instance dies the database releases the lock with the session.
+     *
+     * @return {@code false}, without running {@code work}, if another
+     *         session holds the lock
+     */
+    public boolean runExclusively(Lock lock, Runnable work) {
+        if (!isPostgres()) {
+            work.run();
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)", lock)) {
+                return false;
+            }
+            try {
+                work.run();
+                return true;
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)", lock);
+            }
+        }));
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, Lock lock) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, lock.getKey());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean supported = postgres;
+        if (supported == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                supported = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException ex) {
+                supported = false;
+            }
+            postgres = supported;
+        }
+        return supported;
+    }
+}
@@ -0,0 +1,18 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rebuild of {@code account_deposit_summary}: accounts are split into
+ * partitions of {@code rebuildPartitionSize} consecutive account numbers,
+ * recomputed by {@code rebuildParallelism} threads, one transaction each.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.account-summary")
+public class AccountSummaryProperties {
+
+    private int rebuildParallelism = 4;
+
+    private int rebuildPartitionSize = 1_000;
+}
@@ -0,0 +1,24 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Currency reference data: the currencies deposits may be made in, their
+ * minor units and their rate to {@code baseCurrency}, read from
+ * {@code ratesLocation} (any Spring resource location) and re-read every
+ * {@code refresh-interval}.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.currency")
+public class CurrencyProperties {
+
+    private String baseCurrency = "USD";
+
+    private String ratesLocation = "classpath:currencies.csv";
+
+    /**
+     * Deposit ids per transaction when backfilling base amounts.
+     */
+    private int backfillChunkSize = 10_000;
+}
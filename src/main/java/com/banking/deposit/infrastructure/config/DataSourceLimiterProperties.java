@@ -0,0 +1,21 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limit in front of the datasource. {@code maxConcurrency} of
+ * zero means the maximum size of the Hikari pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.datasource.limiter")
+public class DataSourceLimiterProperties {
+
+    private boolean enabled = false;
+
+    private int maxConcurrency = 0;
+
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
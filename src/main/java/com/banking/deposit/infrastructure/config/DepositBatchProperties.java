@@ -0,0 +1,19 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits for bulk deposit ingestion.
+ * <p>
+ * {@code chunkSize} controls how many entities are flushed and detached at once;
+ * keep it a multiple of {@code hibernate.jdbc.batch_size}.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.batch")
+public class DepositBatchProperties {
+
+    private int maxItems = 5000;
+
+    private int chunkSize = 500;
+}
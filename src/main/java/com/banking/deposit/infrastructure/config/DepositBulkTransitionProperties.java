@@ -0,0 +1,17 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits for bulk status transitions. {@code maxDeposits} caps both the ids
+ * of one request and the deposits a filter request moves in one call.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.bulk-transition")
+public class DepositBulkTransitionProperties {
+
+    private int maxDeposits = 50_000;
+
+    private int chunkSize = 1_000;
+}
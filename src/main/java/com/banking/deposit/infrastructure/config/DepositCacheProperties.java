@@ -0,0 +1,21 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the local deposit-by-id cache. {@code timeToLive} is the upper
+ * limit on how stale an entry can be if an invalidation message is lost.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.cache")
+public class DepositCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration timeToLive = Duration.ofSeconds(30);
+}
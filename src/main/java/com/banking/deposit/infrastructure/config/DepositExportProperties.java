@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for streaming deposit exports.
+ * <p>
+ * {@code fetchSize} is the number of rows the JDBC cursor pulls per round
+ * trip; {@code flushEvery} is how many rows are written before the response
+ * is flushed to the client.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.export")
+public class DepositExportProperties {
+
+    private int fetchSize = 1000;
+
+    private int flushEvery = 1000;
+}
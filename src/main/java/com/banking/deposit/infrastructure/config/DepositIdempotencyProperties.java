@@ -0,0 +1,27 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-key retention and the sizes of the in-memory structures in
+ * front of the key table. The bloom filter is sized for
+ * {@code bloomExpectedKeys} keys per {@code timeToLive} at the given false
+ * positive rate.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.idempotency")
+public class DepositIdempotencyProperties {
+
+    private Duration timeToLive = Duration.ofHours(24);
+
+    private long cacheSize = 10_000;
+
+    private int bloomExpectedKeys = 1_000_000;
+
+    private double bloomFalsePositiveRate = 0.01;
+
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
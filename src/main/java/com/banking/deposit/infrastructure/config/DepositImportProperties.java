@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for streaming deposit file imports.
+ * <p>
+ * {@code chunkSize} is the number of records (accepted or rejected) written
+ * and checkpointed per transaction. {@code maxReportedRejects} caps how many
+ * rejected records are echoed back in the response; all of them are counted.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.import")
+public class DepositImportProperties {
+
+    private int chunkSize = 1000;
+
+    private int maxReportedRejects = 100;
+}
@@ -0,0 +1,39 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Asynchronous deposit creation. When enabled, {@code POST /api/v1/deposits}
+ * journals the request to {@code journalDirectory} and answers 202; up to
+ * {@code queueCapacity} accepted deposits wait for the writer threads, which
+ * store at most {@code maxBatchSize} per transaction. A full queue answers 429
+ * with a {@code Retry-After} of {@code retryAfter}.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.ingestion")
+public class DepositIngestionProperties {
+
+    private boolean enabled = false;
+
+    private int queueCapacity = 10_000;
+
+    private int writerThreads = 2;
+
+    private int maxBatchSize = 500;
+
+    private Path journalDirectory = Path.of("data", "ingestion");
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Pause before a writer retries a deposit after a database error.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+}
@@ -0,0 +1,39 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Relay of the {@code deposit_events} outbox. Every {@code pollInterval} the
+ * relay publishes unpublished events in batches of {@code batchSize} until
+ * none are left; published events are deleted after {@code retention}.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.outbox")
+public class DepositOutboxProperties {
+
+    private boolean relayEnabled = true;
+
+    private int batchSize = 500;
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private Duration retention = Duration.ofHours(1);
+
+    private Duration pruneInterval = Duration.ofMinutes(1);
+
+    private Sink sink = Sink.FILE;
+
+    /**
+     * NDJSON file the {@code FILE} sink appends to.
+     */
+    private Path file = Path.of("data", "outbox", "deposit-events.ndjson");
+
+    public enum Sink {
+        MEMORY,
+        FILE
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Maintenance of the monthly {@code deposits} partitions on PostgreSQL.
+ * Partitions are kept {@code premakeMonths} ahead of the current month.
+ * With {@code archiveEnabled}, partitions that ended more than
+ * {@code archiveAfterMonths} ago are detached into {@code archiveSchema},
+ * optionally moved to {@code archiveTablespace}; their deposits are then no
+ * longer served by the API.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.partitioning")
+public class DepositPartitioningProperties {
+
+    private int premakeMonths = 3;
+
+    private boolean archiveEnabled = false;
+
+    private int archiveAfterMonths = 24;
+
+    private String archiveSchema = "deposit_archive";
+
+    private String archiveTablespace;
+}
@@ -0,0 +1,72 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Request limits in front of the deposit API: a token bucket per client and
+ * one per account, and an adaptive cap on concurrent requests that shrinks
+ * while connection-pool waits exceed {@code concurrency.targetPoolWait}.
+ * These are the startup values; the limits can be changed at runtime through
+ * {@code /api/v1/admin/rate-limits}.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.rate-limit")
+public class DepositRateLimitProperties {
+
+    private boolean enabled = true;
+
+    private String clientIdHeader = "X-Client-Id";
+
+    /**
+     * Buckets idle for longer than this are dropped and start full again.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private long maxTrackedKeys = 100_000;
+
+    private Bucket client = new Bucket(100, 200);
+
+    private Bucket account = new Bucket(200, 400);
+
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class Bucket {
+
+        private double permitsPerSecond;
+
+        private int burst;
+
+        public Bucket() {
+        }
+
+        public Bucket(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    @Data
+    public static class Concurrency {
+
+        private boolean enabled = true;
+
+        private int initialLimit = 40;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 40;
+
+        private Duration targetPoolWait = Duration.ofMillis(20);
+
+        /**
+         * Factor the limit is multiplied by when pool waits are too long.
+         */
+        private double backoffRatio = 0.9;
+
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits for long-poll status watches. Once {@code maxWaiters} requests are
+ * parked, further watches answer immediately with the current state.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.watch")
+public class DepositWatchProperties {
+
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    private int maxWaiters = 50_000;
+}
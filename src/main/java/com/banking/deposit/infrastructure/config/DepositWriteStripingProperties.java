@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-account serialization of deposit writes. Accounts are hashed onto
+ * {@code stripes} locks; writes that queue up behind the same stripe are
+ * committed together, at most {@code maxBatchSize} per transaction.
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.write-striping")
+public class DepositWriteStripingProperties {
+
+    private boolean enabled = true;
+
+    private int stripes = 64;
+
+    private int maxBatchSize = 50;
+}
@@ -0,0 +1,59 @@
+package com.banking.deposit.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas behind the application datasource. Read-only transactions go
+ * to a replica whose lag, as reported by {@code lagQuery} in seconds, is at
+ * most {@code maxLag}; everything else goes to the primary
+ * ({@code spring.datasource}).
+ */
+@Data
+@ConfigurationProperties(prefix = "deposit.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * Replay lag in seconds on a PostgreSQL standby; zero on the primary and
+     * on a standby that has replayed everything it received.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private boolean enabled = false;
+
+    private List<Instance> instances = new ArrayList<>();
+
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    private Duration lagCheckTimeout = Duration.ofSeconds(1);
+
+    private String lagQuery = POSTGRES_LAG_QUERY;
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private String clientIdHeader = "X-Client-Id";
+
+    private int maxStickyClients = 100000;
+
+    @Data
+    public static class Instance {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,17 @@
+package com.banking.deposit.infrastructure.currency;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the currency reference file: {@code rateToBase} units of the
+ * base currency buy one unit of {@code code}.
+ */
+@Value
+public class CurrencyDefinition {
+    
+    String code;
+    int minorUnits;
+    BigDecimal rateToBase;
+}
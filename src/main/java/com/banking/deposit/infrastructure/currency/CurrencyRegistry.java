@@ -0,0 +1,167 @@
+package com.banking.deposit.infrastructure.currency;
+
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory currency reference data, so that validating a currency or
+ * normalizing an amount never reads the database.
+ * <p>
+ * The file at {@code deposit.currency.rates-location} has one
+ * {@code code,minor_units,rate_to_base} line per currency, after a header
+ * line; {@code #} starts a comment. It is loaded at startup, where an
+ * unreadable or inconsistent file fails the application, and re-read every
+ * {@code deposit.currency.refresh-interval}, where it is logged and the
+ * previous data kept. A reload replaces all currencies at once, so a caller
+ * never sees a mix of old and new rates.
+ */
+@Component
+@Slf4j
+public class CurrencyRegistry {
+
+    /**
+     * Scale of {@code deposits.base_amount}.
+     */
+    private static final int MAX_BASE_MINOR_UNITS = 2;
+
+    private final CurrencyProperties properties;
+    private final Resource ratesResource;
+    private volatile Map<String, CurrencyDefinition> currencies;
+
+    public CurrencyRegistry(CurrencyProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.ratesResource = resourceLoader.getResource(properties.getRatesLocation());
+        try {
+            this.currencies = load();
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Cannot load currencies from " + properties.getRatesLocation(), ex);
+        }
+        log.info("Loaded {} currencies, base currency {}", currencies.size(), properties.getBaseCurrency());
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.currency.refresh-interval:PT5M}",
+            initialDelayString = "${deposit.currency.refresh-interval:PT5M}")
+    public void refresh() {
+        Map<String, CurrencyDefinition> loaded;
+        try {
+            loaded = load();
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Keeping current currencies, reload from {} failed: {}",
+                    properties.getRatesLocation(), ex.getMessage());
+            return;
+        }
+        if (!loaded.equals(currencies)) {
+            log.info("Reloaded {} currencies", loaded.size());
+        }
+        currencies = loaded;
+    }
+
+    /**
+     * The definition of {@code code}, or {@code null} if it is not a
+     * supported currency.
+     */
+    public CurrencyDefinition find(String code) {
+        return code == null ? null : currencies.get(code);
+    }
+
+    public Collection<CurrencyDefinition> getCurrencies() {
+        return currencies.values();
+    }
+
+    public String getBaseCurrency() {
+        return properties.getBaseCurrency();
+    }
+
+    /**
+     * {@code amount} converted at the current rate and rounded half up to
+     * the base currency's minor units, as SQL {@code ROUND} does; {@code null}
+     * if the currency is not (or no longer) supported. Such deposits are
+     * converted by the backfill once their currency is added.
+     */
+    public BigDecimal toBaseAmount(BigDecimal amount, String currency) {
+        Map<String, CurrencyDefinition> snapshot = currencies;
+        CurrencyDefinition definition = currency == null ? null : snapshot.get(currency);
+        if (amount == null || definition == null) {
+            return null;
+        }
+        CurrencyDefinition base = snapshot.get(properties.getBaseCurrency());
+        if (definition == base) {
+            return amount.setScale(base.getMinorUnits(), RoundingMode.HALF_UP);
+        }
+        return amount.multiply(definition.getRateToBase()).setScale(base.getMinorUnits(), RoundingMode.HALF_UP);
+    }
+
+    private Map<String, CurrencyDefinition> load() throws IOException {
+        Map<String, CurrencyDefinition> loaded = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(ratesResource.getInputStream(), StandardCharsets.UTF_8))) {
+            boolean header = true;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                CurrencyDefinition definition = parse(line, lineNumber);
+                if (loaded.put(definition.getCode(), definition) != null) {
+                    throw new IllegalArgumentException("Duplicate currency " + definition.getCode()
+                            + " on line " + lineNumber);
+                }
+            }
+        }
+        CurrencyDefinition base = loaded.get(properties.getBaseCurrency());
+        if (base == null) {
+            throw new IllegalArgumentException("Base currency " + properties.getBaseCurrency() + " is not listed");
+        }
+        if (base.getRateToBase().compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException("Base currency " + base.getCode() + " must have rate 1");
+        }
+        if (base.getMinorUnits() > MAX_BASE_MINOR_UNITS) {
+            throw new IllegalArgumentException("Base currency " + base.getCode() + " must have at most "
+                    + MAX_BASE_MINOR_UNITS + " minor units");
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static CurrencyDefinition parse(String line, int lineNumber) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Expected code,minor_units,rate_to_base on line " + lineNumber);
+        }
+        String code = fields[0].strip();
+        if (!code.matches("[A-Z]{3}")) {
+            throw new IllegalArgumentException("Invalid currency code '" + code + "' on line " + lineNumber);
+        }
+        try {
+            int minorUnits = Integer.parseInt(fields[1].strip());
+            BigDecimal rateToBase = new BigDecimal(fields[2].strip());
+            if (minorUnits < 0 || minorUnits > 4 || rateToBase.signum() <= 0) {
+                throw new IllegalArgumentException("Invalid minor units or rate for " + code
+                        + " on line " + lineNumber);
+            }
+            return new CurrencyDefinition(code, minorUnits, rateToBase);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + code + " on line " + lineNumber, ex);
+        }
+    }
+}
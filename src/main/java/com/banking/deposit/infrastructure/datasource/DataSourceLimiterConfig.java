@@ -0,0 +1,86 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import com.banking.deposit.infrastructure.config.DataSourceLimiterProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application datasource in a {@link ConcurrencyLimitedDataSource}
+ * when {@code deposit.datasource.limiter.enabled} is set, which the
+ * {@code virtual-threads} profile does.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "deposit.datasource.limiter", name = "enabled", havingValue = "true")
+@Slf4j
+public class DataSourceLimiterConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceLimiterPostProcessor(Environment environment) {
+        // Bound here rather than injected: post-processors are created before
+        // configuration properties beans are ready.
+        DataSourceLimiterProperties properties = Binder.get(environment)
+                .bindOrCreate("deposit.datasource.limiter", DataSourceLimiterProperties.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The replica router is only reached through the application
+                // datasource, which is limited itself
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof ReplicaRoutingDataSource) {
+                    return bean;
+                }
+                int maxConcurrency = properties.getMaxConcurrency() > 0
+                        ? properties.getMaxConcurrency()
+                        : poolSize(dataSource);
+                log.info("Limiting datasource '{}' to {} concurrent connections", beanName, maxConcurrency);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, properties.getAcquireTimeout());
+            }
+        };
+    }
+
+    /**
+     * Publishes {@code deposit.datasource.limiter.active} and
+     * {@code deposit.datasource.limiter.waiting} next to the Hikari pool
+     * metrics.
+     */
+    @Bean
+    MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limiter)) {
+                return;
+            }
+            Gauge.builder("deposit.datasource.limiter.active", limiter, ConcurrencyLimitedDataSource::getActive)
+                    .description("Connections currently held through the limiter")
+                    .register(registry);
+            Gauge.builder("deposit.datasource.limiter.waiting", limiter, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Callers waiting for a datasource permit")
+                    .register(registry);
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            return poolSize(delegating.getTargetDataSource());
+        }
+        if (dataSource instanceof ReplicaRoutingDataSource routing) {
+            // Writes can only ever use the primary's connections
+            return poolSize(routing.getPrimary());
+        }
+        throw new IllegalStateException("deposit.datasource.limiter.max-concurrency must be set for "
+                + dataSource.getClass().getName());
+    }
+}
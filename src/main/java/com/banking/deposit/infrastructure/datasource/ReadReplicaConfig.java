@@ -0,0 +1,123 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import com.banking.deposit.infrastructure.config.ReadReplicaProperties;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured datasource with a
+ * {@link ReplicaRoutingDataSource} over the primary pool and one pool per
+ * replica when {@code deposit.datasource.replica.enabled} is set.
+ * <p>
+ * The primary pool is built from {@code spring.datasource} and
+ * {@code spring.datasource.hikari} as Spring Boot would build it; replica
+ * pools take the driver from {@code spring.datasource} and open read-only
+ * connections.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "deposit.datasource.replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                      ReadReplicaProperties properties, Environment environment,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.getInstances().isEmpty()) {
+            throw new IllegalStateException("deposit.datasource.replica.instances must list at least one replica");
+        }
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName("primary");
+        }
+        List<Replica> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Instance instance : properties.getInstances()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(instance.getName());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setJdbcUrl(instance.getUrl());
+            pool.setUsername(instance.getUsername());
+            pool.setPassword(instance.getPassword());
+            pool.setMaximumPoolSize(instance.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(
+                    new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new Replica(instance.getName(), pool));
+        }
+        log.info("Routing read-only transactions to replicas {}",
+                replicas.stream().map(Replica::getName).toList());
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * The application datasource. The lazy proxy defers taking a connection
+     * until the first statement, by which time the transaction's read-only
+     * flag is known to the router.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                        ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, properties);
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWritesWindow(), properties.getMaxStickyClients(),
+                        properties.getClientIdHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * Publishes {@code deposit.datasource.replica.lag} (seconds, NaN while
+     * unknown) and {@code deposit.datasource.replica.available} per replica.
+     */
+    @Bean
+    MeterBinder replicaMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return registry -> {
+            for (Replica replica : replicaRoutingDataSource.getReplicas()) {
+                Gauge.builder("deposit.datasource.replica.lag", replica, Replica::getLagSeconds)
+                        .tag("replica", replica.getName())
+                        .baseUnit("seconds")
+                        .description("Replication lag at the last check")
+                        .register(registry);
+                Gauge.builder("deposit.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                        .tag("replica", replica.getName())
+                        .description("Whether the replica currently takes read-only transactions")
+                        .register(registry);
+            }
+        };
+    }
+}
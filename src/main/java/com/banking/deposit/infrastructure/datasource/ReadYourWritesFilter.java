@@ -0,0 +1,60 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Pins a client's reads to the primary for a short window after it wrote,
+ * so it does not read a replica that has not replayed its write yet.
+ * <p>
+ * Clients are told apart by the client id header, or by their remote address
+ * when they send none. Any request with an unsafe method counts as a write
+ * and is itself served by the primary; the window starts when it arrives, so
+ * it also covers requests the client sends before the write has finished.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Cache<String, Boolean> recentWriters;
+    private final String clientIdHeader;
+
+    public ReadYourWritesFilter(Duration window, int maxClients, String clientIdHeader) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxClients)
+                .build();
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String client = clientKey(request);
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            recentWriters.put(client, Boolean.TRUE);
+            ReplicaRoutingContext.requirePrimary();
+        } else if (recentWriters.getIfPresent(client) != null) {
+            ReplicaRoutingContext.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(clientIdHeader);
+        return clientId != null && !clientId.isBlank() ? "id:" + clientId : "addr:" + request.getRemoteAddr();
+    }
+}
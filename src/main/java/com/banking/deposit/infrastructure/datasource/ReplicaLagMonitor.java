@@ -0,0 +1,67 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import com.banking.deposit.infrastructure.config.ReadReplicaProperties;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingDataSource.Replica;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Checks the replication lag of every replica every
+ * {@code deposit.datasource.replica.lag-check-interval} and takes replicas
+ * that lag more than {@code maxLag}, or cannot be queried, out of the
+ * rotation until a later check finds them caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReadReplicaProperties properties;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReadReplicaProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.datasource.replica.lag-check-interval:PT1S}")
+    public void check() {
+        routingDataSource.getReplicas().forEach(this::check);
+    }
+
+    void check(Replica replica) {
+        boolean wasAvailable = replica.isAvailable();
+        double maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        try {
+            double lagSeconds = queryLag(replica);
+            boolean available = lagSeconds <= maxLagSeconds;
+            replica.update(available, lagSeconds);
+            if (available != wasAvailable) {
+                log.info("Replica '{}' {} at {}s lag", replica.getName(),
+                        available ? "back in rotation" : "taken out of rotation", lagSeconds);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            replica.update(false, Double.NaN);
+            if (wasAvailable) {
+                log.warn("Replica '{}' taken out of rotation: lag check failed", replica.getName(), ex);
+            }
+        }
+    }
+
+    private double queryLag(Replica replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, properties.getLagCheckTimeout().toSeconds()));
+            try (ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                if (!rs.next()) {
+                    throw new SQLException("Lag query returned no row");
+                }
+                double lagSeconds = rs.getDouble(1);
+                return rs.wasNull() ? 0 : lagSeconds;
+            }
+        }
+    }
+}
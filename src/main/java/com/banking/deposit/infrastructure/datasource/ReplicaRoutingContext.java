@@ -0,0 +1,45 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets the current thread pin its read-only transactions to the primary, for
+ * callers that must see their own writes.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Runs {@code read} with its transactions pinned to the primary, then
+     * restores the thread's previous routing. For reads whose result
+     * outlives the request, such as cache loads, where a lagging replica's
+     * row would be served long after the write that replaced it.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPrimaryRequired()) {
+            return read.get();
+        }
+        requirePrimary();
+        try {
+            return read.get();
+        } finally {
+            clear();
+        }
+    }
+}
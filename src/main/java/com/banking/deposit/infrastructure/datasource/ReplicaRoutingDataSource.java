@@ -0,0 +1,135 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the
+ * primary.
+ * <p>
+ * Replicas are taken round-robin among those {@link ReplicaLagMonitor}
+ * currently reports as available; with none available, or when the thread
+ * has asked for the primary through {@link ReplicaRoutingContext}, reads go
+ * to the primary as well. The decision is made when a connection is
+ * obtained, so this datasource must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the JPA transaction manager opens its connection before the transaction's
+ * read-only flag is visible here.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            if (targets.put(replica.getName(), replica.getDataSource()) != null) {
+                throw new IllegalArgumentException("Duplicate datasource name: " + replica.getName());
+            }
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        Replica replica = nextAvailable();
+        return replica != null ? replica.getName() : PRIMARY;
+    }
+
+    private Replica nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        close(primary);
+        replicas.forEach(replica -> close(replica.getDataSource()));
+    }
+
+    private static void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                log.warn("Failed to close datasource {}", dataSource, ex);
+            }
+        }
+    }
+
+    /**
+     * A replica pool and its last known replication lag. Unavailable until
+     * the first successful lag check.
+     */
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public double getLagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(boolean available, double lagSeconds) {
+            this.lagSeconds = lagSeconds;
+            this.available = available;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.banking.deposit.infrastructure.ingestion;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only local journal of accepted but not yet stored deposits.
+ * <p>
+ * Records are NDJSON lines in segment files of roughly {@code segmentBytes}.
+ * {@link #append} returns only once the record is on disk; appenders that
+ * arrive while a sync is running are covered by the next one, so concurrent
+ * requests share a single {@code fsync}. A segment is deleted when it has
+ * been rolled over and every record in it has been {@link #release released}.
+ * After a crash {@link #recover} returns the records that were never
+ * released; a torn last line, which was never acknowledged, is skipped.
+ */
+@Slf4j
+public class DepositIngestionJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    private volatile Segment current;
+    private long written;
+    private volatile long synced;
+
+    public DepositIngestionJournal(Path directory, long segmentBytes, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.writer = objectMapper.writerFor(JournalRecord.class);
+        this.reader = objectMapper.readerFor(JournalRecord.class);
+    }
+
+    /**
+     * Reads the segments left by a previous run and opens a new segment for
+     * appends. Must be called once, before the first {@link #append}.
+     */
+    public List<Entry> recover() throws IOException {
+        Map<Long, Path> existing = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                existing.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long nextId = 1;
+        for (Map.Entry<Long, Path> file : existing.entrySet()) {
+            Segment segment = new Segment(file.getKey(), file.getValue(), null);
+            segment.sealed = true;
+            segments.put(segment.id, segment);
+            int before = entries.size();
+            readSegment(segment, entries);
+            segment.outstanding.set(entries.size() - before);
+            deleteIfDone(segment);
+            nextId = segment.id + 1;
+        }
+        if (!entries.isEmpty()) {
+            log.info("Recovered {} journaled deposits from {} segments", entries.size(), existing.size());
+        }
+
+        synchronized (writeLock) {
+            current = openSegment(nextId);
+        }
+        return entries;
+    }
+
+    private void readSegment(Segment segment, List<Entry> entries) throws IOException {
+        try (BufferedReader lines = Files.newBufferedReader(segment.path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JournalRecord record = reader.readValue(line);
+                    entries.add(new Entry(record.getTrackingId(), record.getRequest(), segment.id, true));
+                } catch (IOException ex) {
+                    log.warn("Skipping unreadable record in journal segment {}", segment.path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends a record and waits until it is durable.
+     */
+    public Entry append(String trackingId, DepositRequest request) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(lineOf(trackingId, request));
+        if (current.size >= segmentBytes) {
+            roll();
+        }
+
+        long end;
+        Segment segment;
+        synchronized (writeLock) {
+            segment = current;
+            segment.outstanding.incrementAndGet();
+            try {
+                while (line.hasRemaining()) {
+                    segment.channel.write(line);
+                }
+            } catch (IOException ex) {
+                segment.outstanding.decrementAndGet();
+                throw ex;
+            }
+            segment.size += line.limit();
+            written += line.limit();
+            end = written;
+        }
+        sync(end);
+        return new Entry(trackingId, request, segment.id, false);
+    }
+
+    /**
+     * Group commit: whoever holds the sync lock forces everything written so
+     * far, and threads queued behind it usually find their record already
+     * covered.
+     */
+    private void sync(long end) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= end) {
+                return;
+            }
+            FileChannel channel;
+            long target;
+            synchronized (writeLock) {
+                channel = current.channel;
+                target = written;
+            }
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    private void roll() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (current.size < segmentBytes) {
+                    return;
+                }
+                Segment previous = current;
+                previous.channel.force(false);
+                previous.channel.close();
+                synced = written;
+                current = openSegment(previous.id + 1);
+                previous.sealed = true;
+                deleteIfDone(previous);
+            }
+        }
+    }
+
+    /**
+     * Marks a record as stored; its segment is deleted once nothing in it is
+     * outstanding.
+     */
+    public void release(Entry entry) {
+        Segment segment = segments.get(entry.getSegmentId());
+        if (segment != null && segment.outstanding.decrementAndGet() == 0) {
+            synchronized (writeLock) {
+                deleteIfDone(segment);
+            }
+        }
+    }
+
+    private void deleteIfDone(Segment segment) {
+        if (!segment.sealed || segment.outstanding.get() > 0 || segments.remove(segment.id) == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException ex) {
+            log.warn("Could not delete journal segment {}: {}", segment.path, ex.getMessage());
+        }
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", id) + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        Segment segment = new Segment(id, path, channel);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private byte[] lineOf(String trackingId, DepositRequest request) throws IOException {
+        byte[] json = writer.writeValueAsBytes(new JournalRecord(trackingId, request));
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (current != null && current.channel.isOpen()) {
+                    current.channel.force(false);
+                    current.channel.close();
+                    current.sealed = true;
+                    deleteIfDone(current);
+                }
+            }
+        }
+    }
+
+    /**
+     * A journaled deposit. {@code recovered} is set for records read back by
+     * {@link #recover}, which may already have been stored before the crash.
+     */
+    @Value
+    public static class Entry {
+
+        String trackingId;
+
+        DepositRequest request;
+
+        long segmentId;
+
+        boolean recovered;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class JournalRecord {
+
+        private String trackingId;
+
+        private DepositRequest request;
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile boolean sealed;
+        private long size;
+
+        private Segment(long id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.deposit.infrastructure.metrics;
+
+/**
+ * Counts the SQL statements prepared on the current thread.
+ * <p>
+ * Fed by {@link StatementCountingDataSource}, so statements from Hibernate,
+ * {@code JdbcTemplate} and {@code NamedParameterJdbcTemplate} are all
+ * counted, at one thread-local increment each.
+ */
+public class JdbcStatementCounter {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    public void increment() {
+        count.get()[0]++;
+    }
+
+    /**
+     * Adds statements counted elsewhere on behalf of this thread.
+     */
+    public void add(int statements) {
+        count.get()[0] += statements;
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    /**
+     * Returns the statements counted since the last reset and resets.
+     */
+    public int getAndReset() {
+        int[] holder = count.get();
+        int statements = holder[0];
+        holder[0] = 0;
+        return statements;
+    }
+}
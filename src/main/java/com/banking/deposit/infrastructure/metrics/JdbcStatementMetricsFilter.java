@@ -0,0 +1,53 @@
+package com.banking.deposit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request executed as the
+ * {@code deposit.http.jdbc.statements} summary, tagged like
+ * {@code http.server.requests} with method and URI template. Statements run
+ * after an async request has been handed off (streamed exports, long-polls)
+ * are not attributed.
+ */
+public class JdbcStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "deposit.http.jdbc.statements";
+
+    private final JdbcStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public JdbcStatementMetricsFilter(JdbcStatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.getAndReset();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (uri != null) {
+                DistributionSummary.builder(METRIC_NAME)
+                        .description("SQL statements executed per HTTP request")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri.toString())
+                        .register(meterRegistry)
+                        .record(statements);
+            }
+        }
+    }
+}
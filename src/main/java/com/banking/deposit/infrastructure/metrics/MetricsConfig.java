@@ -0,0 +1,79 @@
+package com.banking.deposit.infrastructure.metrics;
+
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+import javax.sql.DataSource;
+
+/**
+ * Application metrics on top of what Spring Boot already publishes
+ * ({@code http.server.requests}, {@code hikaricp.*}, {@code jvm.*}):
+ * {@code @Timed} service methods and SQL statements per request.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public static JdbcStatementCounter jdbcStatementCounter() {
+        return new JdbcStatementCounter();
+    }
+
+    /**
+     * Counts statements at the datasource rather than in Hibernate, so the
+     * SQL of the JDBC repository fragments is counted too. Ordered first so
+     * the counter sits right on the pool, inside the concurrency limiter;
+     * the concrete return type is what lets Spring see the ordering.
+     */
+    @Bean
+    static StatementCountingPostProcessor statementCountingPostProcessor(
+            ObjectProvider<JdbcStatementCounter> statementCounter) {
+        return new StatementCountingPostProcessor(statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<JdbcStatementMetricsFilter> jdbcStatementMetricsFilter(
+            JdbcStatementCounter statementCounter, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<JdbcStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new JdbcStatementMetricsFilter(statementCounter, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    static class StatementCountingPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final ObjectProvider<JdbcStatementCounter> statementCounter;
+
+        StatementCountingPostProcessor(ObjectProvider<JdbcStatementCounter> statementCounter) {
+            this.statementCounter = statementCounter;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            // The replica router is only reached through the application
+            // datasource, which is counted itself
+            if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource
+                    || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            return new StatementCountingDataSource(dataSource, statementCounter.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
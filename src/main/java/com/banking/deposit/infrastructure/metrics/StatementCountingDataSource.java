@@ -0,0 +1,73 @@
+package com.banking.deposit.infrastructure.metrics;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Counts every statement prepared or created on its connections in a
+ * {@link JdbcStatementCounter}, whoever issues it. A batch is one statement,
+ * as it is one round trip.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final JdbcStatementCounter statementCounter;
+
+    public StatementCountingDataSource(DataSource target, JdbcStatementCounter statementCounter) {
+        super(target);
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class}, new CountingHandler(target));
+    }
+
+    private class CountingHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        CountingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "prepareStatement", "prepareCall", "createStatement":
+                    statementCounter.increment();
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the deposit events relayed from the outbox.
+ * <p>
+ * {@link #publish} is called with each deposit's events in the order they
+ * happened, across batches too, and must return only once they are
+ * delivered; if it throws, the batch stays unpublished and is offered again,
+ * so delivery is at least once and consumers deduplicate by event id. {@code deposit.outbox.sink} selects the built-in file or
+ * in-memory sink; a deployment that publishes to a message broker registers
+ * a {@code @Primary} implementation.
+ */
+public interface DepositEventSink {
+
+    void publish(List<DepositEvent> events) throws Exception;
+}
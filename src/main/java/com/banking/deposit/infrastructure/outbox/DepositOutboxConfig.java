@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.infrastructure.config.DepositOutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DepositOutboxConfig {
+
+    static final int IN_MEMORY_CAPACITY = 100_000;
+
+    @Bean
+    public DepositEventSink depositEventSink(DepositOutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case MEMORY -> new InMemoryDepositEventSink(IN_MEMORY_CAPACITY);
+            case FILE -> new FileDepositEventSink(properties.getFile(), objectMapper);
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+import com.banking.deposit.domain.model.DepositEventType;
+import com.banking.deposit.infrastructure.concurrency.ClusterLocks;
+import com.banking.deposit.infrastructure.config.DepositOutboxProperties;
+import com.banking.deposit.infrastructure.repository.DepositEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves events from the {@code deposit_events} outbox to the
+ * {@link DepositEventSink}.
+ * <p>
+ * Each batch is one transaction: the oldest unpublished events are locked,
+ * handed to the sink and marked published. If the sink fails the transaction
+ * rolls back and the batch is retried on the next poll. The relay reads only
+ * the unpublished end of the outbox index, never the {@code deposits} table.
+ * <p>
+ * Only one instance relays at a time, under {@link ClusterLocks.Lock#OUTBOX_RELAY};
+ * the others skip the poll. Otherwise one instance could publish a deposit's
+ * status change while another still held the batch with its creation. Event
+ * ids come from a pooled sequence, so across instances they do not follow
+ * the order of the changes either. A batch therefore also takes the earlier
+ * unpublished events of every deposit it contains, and hands each deposit's
+ * events to the sink in the order of {@link DepositEventType}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DepositOutboxRelay {
+
+    private final DepositEventRepository depositEventRepository;
+    private final DepositEventSink depositEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLocks clusterLocks;
+    private final DepositOutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${deposit.outbox.poll-interval:PT1S}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        try {
+            long relayed = 0;
+            int batch;
+            do {
+                batch = relayBatch();
+                relayed += batch;
+            } while (batch >= properties.getBatchSize());
+            if (relayed > 0) {
+                log.debug("Relayed {} deposit events", relayed);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Relaying deposit events failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            if (!clusterLocks.tryLockForTransaction(ClusterLocks.Lock.OUTBOX_RELAY)) {
+                return 0;
+            }
+            List<DepositEvent> events = depositEventRepository
+                    .findByPublishedAtIsNullOrderById(Limit.of(properties.getBatchSize()));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            events = inDepositOrder(withEarlierEvents(events));
+            try {
+                depositEventSink.publish(events);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Deposit event sink failed", ex);
+            }
+            depositEventRepository.markPublished(events.stream().map(DepositEvent::getId).toList(), LocalDateTime.now());
+            return events.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    /**
+     * Adds the unpublished events of the batch's deposits that are not in it,
+     * such as a creation whose id is above the batch's last.
+     */
+    private List<DepositEvent> withEarlierEvents(List<DepositEvent> events) {
+        Set<Long> depositIds = new HashSet<>();
+        for (DepositEvent event : events) {
+            if (event.getEventType() != DepositEventType.CREATED) {
+                depositIds.add(event.getDepositId());
+            }
+        }
+        if (depositIds.isEmpty()) {
+            return events;
+        }
+        Set<Long> batchIds = new HashSet<>();
+        events.forEach(event -> batchIds.add(event.getId()));
+        List<DepositEvent> all = new ArrayList<>(events);
+        for (DepositEvent event : depositEventRepository.findByPublishedAtIsNullAndDepositIdIn(depositIds)) {
+            if (batchIds.add(event.getId())) {
+                all.add(event);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Deposits in the order of their first event in the batch, and each
+     * deposit's events in the order they happened.
+     */
+    private static List<DepositEvent> inDepositOrder(List<DepositEvent> events) {
+        Map<Long, Long> firstIds = new HashMap<>();
+        for (DepositEvent event : events) {
+            firstIds.merge(event.getDepositId(), event.getId(), Math::min);
+        }
+        List<DepositEvent> ordered = new ArrayList<>(events);
+        ordered.sort(Comparator.<DepositEvent, Long>comparing(event -> firstIds.get(event.getDepositId()))
+                .thenComparing(DepositEvent::getEventType)
+                .thenComparing(DepositEvent::getId));
+        return ordered;
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.outbox.prune-interval:PT1M}")
+    public void prunePublished() {
+        Integer pruned = transactionTemplate.execute(status ->
+                depositEventRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention())));
+        if (pruned != null && pruned > 0) {
+            log.info("Pruned {} published deposit events", pruned);
+        }
+    }
+}
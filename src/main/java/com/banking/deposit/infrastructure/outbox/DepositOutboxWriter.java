@@ -0,0 +1,68 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.event.DepositDeletedEvent;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.domain.model.DepositEvent;
+import com.banking.deposit.domain.model.DepositEventType;
+import com.banking.deposit.infrastructure.repository.DepositEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes an outbox row for every deposit lifecycle event.
+ * <p>
+ * The listeners run synchronously in the publishing transaction, so the row
+ * commits or rolls back together with the change it describes. Rows are
+ * persisted, not flushed: they go out with the transaction's other inserts
+ * as JDBC batches.
+ */
+@Component
+public class DepositOutboxWriter {
+
+    private final DepositEventRepository depositEventRepository;
+    private final ObjectWriter payloadWriter;
+
+    public DepositOutboxWriter(DepositEventRepository depositEventRepository, ObjectMapper objectMapper) {
+        this.depositEventRepository = depositEventRepository;
+        this.payloadWriter = objectMapper.writerFor(DepositResponse.class);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(DepositCreatedEvent event) {
+        write(DepositEventType.CREATED, event.getDeposit());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(DepositStatusChangedEvent event) {
+        write(DepositEventType.STATUS_CHANGED, event.getDeposit());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(DepositDeletedEvent event) {
+        write(DepositEventType.DELETED, event.getDeposit());
+    }
+
+    private void write(DepositEventType type, DepositResponse deposit) {
+        String payload;
+        try {
+            payload = payloadWriter.writeValueAsString(deposit);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize deposit " + deposit.getId(), ex);
+        }
+        depositEventRepository.save(DepositEvent.builder()
+                .depositId(deposit.getId())
+                .eventType(type)
+                .payload(payload)
+                .build());
+    }
+}
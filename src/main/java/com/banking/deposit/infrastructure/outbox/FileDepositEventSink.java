@@ -0,0 +1,62 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to an NDJSON file, one line per event:
+ * {@code {"eventId":..,"depositId":..,"eventType":..,"createdAt":..,"deposit":{..}}}.
+ * A batch is forced to disk before {@link #publish} returns.
+ */
+public class FileDepositEventSink implements DepositEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileDepositEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<DepositEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            generator.setRootValueSeparator(null);
+            for (DepositEvent event : events) {
+                generator.writeStartObject();
+                generator.writeNumberField("eventId", event.getId());
+                generator.writeNumberField("depositId", event.getDepositId());
+                generator.writeStringField("eventType", event.getEventType().name());
+                generator.writeStringField("createdAt", event.getCreatedAt().toString());
+                generator.writeFieldName("deposit");
+                generator.writeRawValue(event.getPayload());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent published events in memory, for tests and local runs.
+ */
+public class InMemoryDepositEventSink implements DepositEventSink {
+
+    private final int capacity;
+    private final List<DepositEvent> events = new ArrayList<>();
+
+    public InMemoryDepositEventSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<DepositEvent> batch) {
+        events.addAll(batch);
+        if (events.size() > capacity) {
+            events.subList(0, events.size() - capacity).clear();
+        }
+    }
+
+    public synchronized List<DepositEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
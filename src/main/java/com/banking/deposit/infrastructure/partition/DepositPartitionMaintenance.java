@@ -0,0 +1,172 @@
+package com.banking.deposit.infrastructure.partition;
+
+import com.banking.deposit.infrastructure.concurrency.ClusterLocks;
+import com.banking.deposit.infrastructure.config.DepositPartitioningProperties;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates and archives the monthly partitions of {@code deposits}.
+ * <p>
+ * Runs at startup and then every {@code deposit.partitioning.maintenance-interval}.
+ * Missing months up to {@code premakeMonths} ahead are created after the
+ * newest partition, so an insert never finds no partition for its
+ * {@code created_at}. Old partitions are detached with
+ * {@code DETACH PARTITION ... CONCURRENTLY}, which does not block queries on
+ * the other partitions, and moved to the archive schema as ordinary tables.
+ * A detach that was interrupted leaves the partition pending detach; the
+ * next run completes it with {@code DETACH PARTITION ... FINALIZE}.
+ * <p>
+ * Does nothing unless the database is PostgreSQL and {@code deposits} is
+ * partitioned (see changelog {@code 009-partition-deposits-by-month}).
+ * Statements run outside a transaction, as a concurrent detach requires, so
+ * instances take turns through a session-level
+ * {@link ClusterLocks.Lock#PARTITION_MAINTENANCE} lock instead; an instance
+ * that does not get it skips the run.
+ */
+@Component
+@Slf4j
+public class DepositPartitionMaintenance {
+
+    static final String PARENT = "deposits";
+
+    private static final Pattern BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLocks clusterLocks;
+    private final DepositPartitioningProperties properties;
+    private volatile Boolean postgres;
+
+    public DepositPartitionMaintenance(JdbcTemplate jdbcTemplate, ClusterLocks clusterLocks,
+                                       DepositPartitioningProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLocks = clusterLocks;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.partitioning.maintenance-interval:PT1H}")
+    public void maintain() {
+        try {
+            boolean ran = clusterLocks.runExclusively(ClusterLocks.Lock.PARTITION_MAINTENANCE, () -> {
+                if (!isPartitioned()) {
+                    return;
+                }
+                LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+                createMissingPartitions(currentMonth);
+                if (properties.isArchiveEnabled()) {
+                    archivePartitions(currentMonth.minusMonths(properties.getArchiveAfterMonths()));
+                }
+            });
+            if (!ran) {
+                log.debug("Deposit partition maintenance is running on another instance, skipped");
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Deposit partition maintenance failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    void createMissingPartitions(LocalDate currentMonth) {
+        LocalDate target = currentMonth.plusMonths(properties.getPremakeMonths() + 1L);
+        LocalDate next = findPartitions().stream()
+                .map(Partition::getTo)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(currentMonth);
+        while (next.isBefore(target)) {
+            String name = PARENT + "_p" + next.format(NAME_SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + PARENT
+                    + " FOR VALUES FROM ('" + next + "') TO ('" + next.plusMonths(1) + "')");
+            log.info("Created deposit partition {}", name);
+            next = next.plusMonths(1);
+        }
+    }
+
+    void archivePartitions(LocalDate cutoff) {
+        String schema = properties.getArchiveSchema();
+        for (Partition partition : findPartitions()) {
+            if (partition.getTo() == null || partition.getTo().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + partition.getName()
+                    + (partition.isDetachPending() ? " FINALIZE" : " CONCURRENTLY"));
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+            jdbcTemplate.execute("ALTER TABLE " + partition.getName() + " SET SCHEMA " + schema);
+            if (properties.getArchiveTablespace() != null) {
+                jdbcTemplate.execute("ALTER TABLE " + schema + "." + partition.getName()
+                        + " SET TABLESPACE " + properties.getArchiveTablespace());
+            }
+            log.info("Archived deposit partition {} (before {}) to {}", partition.getName(), partition.getTo(), schema);
+        }
+    }
+
+    List<Partition> findPartitions() {
+        return jdbcTemplate.query("SELECT c.relname, pg_get_expr(c.relpartbound, c.oid), i.inhdetachpending"
+                        + " FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass",
+                (rs, rowNum) -> Partition.parse(rs.getString(1), rs.getString(2), rs.getBoolean(3)),
+                PARENT);
+    }
+
+    private boolean isPartitioned() {
+        Boolean supported = postgres;
+        if (supported == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                supported = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException ex) {
+                supported = false;
+            }
+            postgres = supported;
+        }
+        return supported && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, PARENT));
+    }
+
+    /**
+     * A partition and its range; {@code null} bounds are {@code MINVALUE} or
+     * {@code MAXVALUE}. {@code detachPending} is set while a concurrent
+     * detach has not completed.
+     */
+    @Value
+    static class Partition {
+
+        String name;
+        LocalDate from;
+        LocalDate to;
+        boolean detachPending;
+
+        static Partition parse(String name, String bound, boolean detachPending) {
+            Matcher matcher = BOUND.matcher(bound);
+            if (!matcher.find()) {
+                return new Partition(name, null, null, detachPending);
+            }
+            return new Partition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)), detachPending);
+        }
+
+        private static LocalDate parseBound(String value) {
+            if (!value.startsWith("'")) {
+                return null;
+            }
+            return LocalDateTime.parse(value.substring(1, value.indexOf('\'', 1)).replace(' ', 'T')).toLocalDate();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.banking.deposit.infrastructure.projection;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositDeletedEvent;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.domain.model.AccountDepositSummaryId;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryRepository;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryUpdates;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code account_deposit_summary} in step with completed deposits.
+ * <p>
+ * A deposit moving to {@code COMPLETED} adds to its account's row; deleting a
+ * completed deposit reverses that. Changes are summed per account and
+ * currency for the whole transaction and written just before it commits, so
+ * a bulk transition of a thousand deposits of one account touches the row
+ * once, and the row lock is held only for the final moments of the
+ * transaction.
+ */
+@Component
+public class AccountDepositSummaryProjector {
+
+    private final AccountDepositSummaryRepository summaryRepository;
+
+    public AccountDepositSummaryProjector(AccountDepositSummaryRepository summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChanged(DepositStatusChangedEvent event) {
+        DepositResponse deposit = event.getDeposit();
+        if (deposit.getStatus() == DepositStatus.COMPLETED) {
+            pendingDeltas().add(deposit);
+        }
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(DepositDeletedEvent event) {
+        DepositResponse deposit = event.getDeposit();
+        if (deposit.getStatus() == DepositStatus.COMPLETED) {
+            pendingDeltas().reverse(deposit);
+        }
+    }
+
+    private PendingDeltas pendingDeltas() {
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<AccountDepositSummaryId, Accumulator> accumulators = new HashMap<>();
+
+        void add(DepositResponse deposit) {
+            Accumulator accumulator = accumulatorFor(deposit);
+            accumulator.count++;
+            accumulator.amount = accumulator.amount.add(deposit.getAmount());
+            if (accumulator.lastDepositAt == null || deposit.getCreatedAt().isAfter(accumulator.lastDepositAt)) {
+                accumulator.lastDepositAt = deposit.getCreatedAt();
+            }
+        }
+
+        void reverse(DepositResponse deposit) {
+            Accumulator accumulator = accumulatorFor(deposit);
+            accumulator.count--;
+            accumulator.amount = accumulator.amount.subtract(deposit.getAmount());
+            accumulator.reversedDepositIds.add(deposit.getId());
+        }
+
+        private Accumulator accumulatorFor(DepositResponse deposit) {
+            return accumulators.computeIfAbsent(
+                    new AccountDepositSummaryId(deposit.getAccountNumber(), deposit.getCurrency()),
+                    id -> new Accumulator());
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            List<AccountDepositSummaryUpdates.Delta> deltas = new ArrayList<>(accumulators.size());
+            accumulators.forEach((id, accumulator) -> deltas.add(new AccountDepositSummaryUpdates.Delta(
+                    id.getAccountNumber(), id.getCurrency(), accumulator.count, accumulator.amount,
+                    accumulator.lastDepositAt, accumulator.reversedDepositIds)));
+            summaryRepository.applyDeltas(deltas, LocalDateTime.now());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AccountDepositSummaryProjector.this);
+        }
+    }
+
+    private static final class Accumulator {
+
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private LocalDateTime lastDepositAt;
+        private final List<Long> reversedDepositIds = new ArrayList<>();
+    }
+}
@@ -0,0 +1,167 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the deposit API requests in progress at a limit that follows how long
+ * requests wait for a database connection.
+ * <p>
+ * Every {@code deposit.rate-limit.concurrency.adjust-interval} the mean
+ * {@code hikaricp.connections.acquire} time since the last adjustment is
+ * compared with {@code targetPoolWait}. Above it the limit is cut by
+ * {@code backoffRatio}; otherwise, if the limit was reached in the meantime,
+ * it grows by one (additive increase, multiplicative decrease). Requests over
+ * the limit are shed at once instead of queueing for the pool.
+ * <p>
+ * Publishes {@code deposit.concurrency.limit},
+ * {@code deposit.concurrency.in.flight}, {@code deposit.concurrency.pool.wait}
+ * (the mean wait of the last interval) and its decisions as
+ * {@code deposit.ratelimit.decisions} with {@code limiter=concurrency}.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    static final String POOL_ACQUIRE_METRIC = "hikaricp.connections.acquire";
+
+    private final DepositRateLimitProperties.Concurrency properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final Counter allowed;
+    private final Counter rejected;
+
+    private volatile int limit;
+    private volatile int minLimit;
+    private volatile int maxLimit;
+    private volatile double lastPoolWaitMillis;
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+
+    public AdaptiveConcurrencyLimiter(DepositRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getConcurrency();
+        this.meterRegistry = meterRegistry;
+        setLimits(this.properties.getMinLimit(), this.properties.getMaxLimit());
+        this.limit = Math.max(minLimit, Math.min(maxLimit, this.properties.getInitialLimit()));
+        this.allowed = DepositRateLimiter.decisions(meterRegistry, "concurrency", "allowed");
+        this.rejected = DepositRateLimiter.decisions(meterRegistry, "concurrency", "rejected");
+        Gauge.builder("deposit.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current cap on deposit API requests in progress")
+                .register(meterRegistry);
+        Gauge.builder("deposit.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("Deposit API requests in progress")
+                .register(meterRegistry);
+        Gauge.builder("deposit.concurrency.pool.wait", this, AdaptiveConcurrencyLimiter::getLastPoolWaitMillis)
+                .description("Mean connection pool wait over the last adjustment interval")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Admits a request if fewer than the limit are in progress. Every
+     * successful call must be paired with {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                peakInFlight.accumulateAndGet(current, Math::max);
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                allowed.increment();
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public Duration getRetryAfter() {
+        return properties.getRetryAfter();
+    }
+
+    @Scheduled(fixedDelayString = "${deposit.rate-limit.concurrency.adjust-interval:PT1S}")
+    public void adjust() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(POOL_ACQUIRE_METRIC).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long acquisitions = count - lastAcquireCount;
+        double waitNanos = totalNanos - lastAcquireNanos;
+        lastAcquireCount = count;
+        lastAcquireNanos = totalNanos;
+        adjust(acquisitions > 0 ? waitNanos / acquisitions : 0);
+    }
+
+    synchronized void adjust(double meanPoolWaitNanos) {
+        lastPoolWaitMillis = meanPoolWaitNanos / 1_000_000;
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        int current = limit;
+        int next = current;
+        if (meanPoolWaitNanos > properties.getTargetPoolWait().toNanos()) {
+            next = Math.max(minLimit, (int) (current * properties.getBackoffRatio()));
+        } else if (peak >= current) {
+            next = Math.min(maxLimit, current + 1);
+        }
+        if (next != current) {
+            limit = next;
+            log.debug("Concurrency limit {} -> {} (pool wait {}ms, peak {})",
+                    current, next, lastPoolWaitMillis, peak);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getLastPoolWaitMillis() {
+        return lastPoolWaitMillis;
+    }
+
+    /**
+     * Changes the range the limit moves in; the current limit is clamped
+     * into it.
+     */
+    public synchronized void setLimits(int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits need 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
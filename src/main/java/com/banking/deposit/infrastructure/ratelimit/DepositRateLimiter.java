@@ -0,0 +1,149 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import com.banking.deposit.application.exception.RateLimitExceededException;
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Token buckets per client and per account number.
+ * <p>
+ * Buckets are created on first use and dropped after
+ * {@code deposit.rate-limit.idle-timeout} without requests. The rate and
+ * burst of each kind can be replaced at runtime and apply to existing buckets
+ * from their next request on. A client token taken for a request that another
+ * limit then rejects can be given back, so the rejection does not count
+ * against the client. Decisions are counted as
+ * {@code deposit.ratelimit.decisions}, tagged with the limiter and the
+ * outcome.
+ */
+@Component
+public class DepositRateLimiter {
+
+    static final String DECISIONS_METRIC = "deposit.ratelimit.decisions";
+
+    private final boolean enabled;
+    private final Limiter client;
+    private final Limiter account;
+
+    public DepositRateLimiter(DepositRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.client = new Limiter("client", properties, properties.getClient(), meterRegistry);
+        this.account = new Limiter("account", properties, properties.getAccount(), meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @throws RateLimitExceededException if the client has no token left
+     */
+    public void checkClient(String clientKey) {
+        if (enabled) {
+            client.check(clientKey);
+        }
+    }
+
+    /**
+     * Returns the token {@link #checkClient} took for a request that was
+     * rejected afterwards.
+     */
+    public void refundClient(String clientKey) {
+        if (enabled) {
+            client.refund(clientKey);
+        }
+    }
+
+    /**
+     * @throws RateLimitExceededException if the account has no token left
+     */
+    public void checkAccount(String accountNumber) {
+        if (enabled) {
+            account.check(accountNumber);
+        }
+    }
+
+    public DepositRateLimitProperties.Bucket getClientLimit() {
+        return client.getLimit();
+    }
+
+    public DepositRateLimitProperties.Bucket getAccountLimit() {
+        return account.getLimit();
+    }
+
+    public void setClientLimit(double permitsPerSecond, int burst) {
+        client.setLimit(permitsPerSecond, burst);
+    }
+
+    public void setAccountLimit(double permitsPerSecond, int burst) {
+        account.setLimit(permitsPerSecond, burst);
+    }
+
+    private static class Limiter {
+
+        private final String name;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter allowed;
+        private final Counter rejected;
+        private volatile DepositRateLimitProperties.Bucket limit;
+
+        Limiter(String name, DepositRateLimitProperties properties, DepositRateLimitProperties.Bucket limit,
+                MeterRegistry meterRegistry) {
+            this.name = name;
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(properties.getIdleTimeout())
+                    .maximumSize(properties.getMaxTrackedKeys())
+                    .build();
+            this.allowed = decisions(meterRegistry, name, "allowed");
+            this.rejected = decisions(meterRegistry, name, "rejected");
+            setLimit(limit.getPermitsPerSecond(), limit.getBurst());
+        }
+
+        void check(String key) {
+            DepositRateLimitProperties.Bucket current = limit;
+            long now = System.nanoTime();
+            long waitNanos = buckets.get(key, k -> new TokenBucket(now))
+                    .tryAcquire(now, current.getPermitsPerSecond(), current.getBurst());
+            if (waitNanos == 0) {
+                allowed.increment();
+                return;
+            }
+            rejected.increment();
+            throw new RateLimitExceededException(name, Duration.ofNanos(waitNanos));
+        }
+
+        void refund(String key) {
+            TokenBucket bucket = buckets.getIfPresent(key);
+            if (bucket != null) {
+                bucket.release(limit.getPermitsPerSecond());
+            }
+        }
+
+        DepositRateLimitProperties.Bucket getLimit() {
+            DepositRateLimitProperties.Bucket current = limit;
+            return new DepositRateLimitProperties.Bucket(current.getPermitsPerSecond(), current.getBurst());
+        }
+
+        void setLimit(double permitsPerSecond, int burst) {
+            if (!(permitsPerSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("Rate limit for " + name
+                        + " needs permits per second above 0 and a burst of at least 1");
+            }
+            limit = new DepositRateLimitProperties.Bucket(permitsPerSecond, burst);
+        }
+    }
+
+    static Counter decisions(MeterRegistry meterRegistry, String limiter, String outcome) {
+        return Counter.builder(DECISIONS_METRIC)
+                .description("Rate limiter decisions on deposit API requests")
+                .tag("limiter", limiter)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Kept as a single "theoretical arrival time" (the generic cell rate
+ * algorithm): the instant at which the bucket would be full again. Taking a
+ * token pushes it one emission interval further; a request is refused when
+ * that would put it more than {@code burst} intervals ahead of now. One
+ * compare-and-set per request, no refill thread, and the rate and burst can
+ * change between calls.
+ */
+public class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long nowNanos) {
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return zero if a token was taken, otherwise the nanoseconds until one
+     *         will be available
+     */
+    public long tryAcquire(long nowNanos, double permitsPerSecond, int burst) {
+        long interval = (long) (1_000_000_000L / permitsPerSecond);
+        long capacity = interval * Math.max(1, burst);
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + interval;
+            long ahead = next - nowNanos;
+            if (ahead > capacity) {
+                return ahead - capacity;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire} for a request that was
+     * then rejected for another reason.
+     */
+    public void release(double permitsPerSecond) {
+        fullAt.addAndGet(-(long) (1_000_000_000L / permitsPerSecond));
+    }
+}
@@ -0,0 +1,15 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.AccountDepositSummary;
+import com.banking.deposit.domain.model.AccountDepositSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountDepositSummaryRepository
+        extends JpaRepository<AccountDepositSummary, AccountDepositSummaryId>, AccountDepositSummaryUpdates {
+    
+    List<AccountDepositSummary> findByAccountNumberOrderByCurrency(String accountNumber);
+}
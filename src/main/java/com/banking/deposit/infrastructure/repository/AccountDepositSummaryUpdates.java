@@ -0,0 +1,56 @@
+package com.banking.deposit.infrastructure.repository;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AccountDepositSummaryRepository} that writes the
+ * summary with SQL: incremental deltas and range rebuilds from
+ * {@code deposits}.
+ */
+public interface AccountDepositSummaryUpdates {
+    
+    /**
+     * Adds each delta to its {@code (account_number, currency)} row, creating
+     * the row if needed. Rows are updated in key order so that concurrent
+     * transactions lock them in the same order.
+     */
+    void applyDeltas(Collection<Delta> deltas, LocalDateTime updatedAt);
+    
+    /**
+     * Distinct account numbers with completed deposits, in order, after
+     * {@code afterAccountNumber} ({@code null} for the first page).
+     */
+    List<String> findCompletedAccountNumbers(String afterAccountNumber, int limit);
+    
+    /**
+     * Replaces the summary rows of the accounts in
+     * {@code (afterAccountNumber, lastAccountNumber]} with totals recomputed
+     * from {@code deposits}; a {@code null} bound leaves that side open.
+     *
+     * @return the number of summary rows written
+     */
+    int rebuildRange(String afterAccountNumber, String lastAccountNumber, LocalDateTime updatedAt);
+    
+    /**
+     * Change to one summary row. {@code lastDepositAt} is the latest creation
+     * time among the deposits added, if any. Deposits in
+     * {@code reversedDepositIds} left the completed total in this
+     * transaction, so the row's {@code last_deposit_at} is recomputed without
+     * them.
+     */
+    @Value
+    class Delta {
+        
+        String accountNumber;
+        String currency;
+        long count;
+        BigDecimal amount;
+        LocalDateTime lastDepositAt;
+        List<Long> reversedDepositIds;
+    }
+}
@@ -0,0 +1,167 @@
+package com.banking.deposit.infrastructure.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps {@code account_deposit_summary} with plain statements on the
+ * transaction's connection.
+ * <p>
+ * On PostgreSQL a delta is one {@code INSERT ... ON CONFLICT DO UPDATE} and
+ * all deltas of a transaction go out as one JDBC batch. Other databases
+ * update first and insert when no row matched. Reversals additionally
+ * recompute {@code last_deposit_at} from {@code deposits} and drop rows whose
+ * count reached zero.
+ */
+class AccountDepositSummaryUpdatesImpl implements AccountDepositSummaryUpdates {
+    
+    private static final String COLUMNS =
+            "account_number, currency, completed_count, completed_amount, last_deposit_at, updated_at";
+    
+    // GREATEST over COALESCEd arguments keeps the later timestamp whichever side is null
+    private static final String LAST_DEPOSIT_AT =
+            "GREATEST(COALESCE(%1$s, %2$s), COALESCE(%2$s, %1$s))";
+    
+    private static final String UPSERT = "INSERT INTO account_deposit_summary AS s (" + COLUMNS + ")"
+            + " VALUES (:accountNumber, :currency, :count, :amount, :lastDepositAt, :updatedAt)"
+            + " ON CONFLICT (account_number, currency) DO UPDATE SET"
+            + " completed_count = s.completed_count + EXCLUDED.completed_count,"
+            + " completed_amount = s.completed_amount + EXCLUDED.completed_amount,"
+            + " last_deposit_at = " + LAST_DEPOSIT_AT.formatted("s.last_deposit_at", "EXCLUDED.last_deposit_at") + ","
+            + " updated_at = EXCLUDED.updated_at";
+    
+    private static final String UPDATE = "UPDATE account_deposit_summary SET"
+            + " completed_count = completed_count + :count,"
+            + " completed_amount = completed_amount + :amount,"
+            + " last_deposit_at = " + LAST_DEPOSIT_AT.formatted("last_deposit_at", ":lastDepositAt") + ","
+            + " updated_at = :updatedAt"
+            + " WHERE account_number = :accountNumber AND currency = :currency";
+    
+    private static final String INSERT = "INSERT INTO account_deposit_summary (" + COLUMNS + ")"
+            + " VALUES (:accountNumber, :currency, :count, :amount, :lastDepositAt, :updatedAt)";
+    
+    private static final String RECOMPUTE_LAST_DEPOSIT_AT = "UPDATE account_deposit_summary SET last_deposit_at ="
+            + " (SELECT MAX(d.created_at) FROM deposits d WHERE d.account_number = :accountNumber"
+            + " AND d.currency = :currency AND d.status = 'COMPLETED' AND d.id NOT IN (:reversedIds))"
+            + " WHERE account_number = :accountNumber AND currency = :currency";
+    
+    private static final String DELETE_EMPTY = "DELETE FROM account_deposit_summary"
+            + " WHERE account_number = :accountNumber AND currency = :currency AND completed_count <= 0";
+    
+    private static final Comparator<Delta> KEY_ORDER =
+            Comparator.comparing(Delta::getAccountNumber).thenComparing(Delta::getCurrency);
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean upsertSupported;
+    
+    AccountDepositSummaryUpdatesImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void applyDeltas(Collection<Delta> deltas, LocalDateTime updatedAt) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Delta> ordered = deltas.stream().sorted(KEY_ORDER).toList();
+        List<MapSqlParameterSource> params = ordered.stream().map(delta -> toParams(delta, updatedAt)).toList();
+        
+        if (isUpsertSupported()) {
+            jdbcTemplate.batchUpdate(UPSERT, params.toArray(MapSqlParameterSource[]::new));
+        } else {
+            params.forEach(this::updateOrInsert);
+        }
+        
+        for (int i = 0; i < ordered.size(); i++) {
+            if (!ordered.get(i).getReversedDepositIds().isEmpty()) {
+                jdbcTemplate.update(RECOMPUTE_LAST_DEPOSIT_AT, params.get(i));
+                jdbcTemplate.update(DELETE_EMPTY, params.get(i));
+            }
+        }
+    }
+    
+    @Override
+    public List<String> findCompletedAccountNumbers(String afterAccountNumber, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT DISTINCT account_number FROM deposits WHERE status = 'COMPLETED'");
+        if (afterAccountNumber != null) {
+            sql.append(" AND account_number > :after");
+            params.addValue("after", afterAccountNumber);
+        }
+        sql.append(" ORDER BY account_number LIMIT :limit");
+        return jdbcTemplate.queryForList(sql.toString(), params, String.class);
+    }
+    
+    @Override
+    public int rebuildRange(String afterAccountNumber, String lastAccountNumber, LocalDateTime updatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource("updatedAt", Timestamp.valueOf(updatedAt));
+        StringBuilder range = new StringBuilder();
+        if (afterAccountNumber != null) {
+            range.append(" AND account_number > :after");
+            params.addValue("after", afterAccountNumber);
+        }
+        if (lastAccountNumber != null) {
+            range.append(" AND account_number <= :last");
+            params.addValue("last", lastAccountNumber);
+        }
+        jdbcTemplate.update("DELETE FROM account_deposit_summary WHERE 1 = 1" + range, params);
+        return jdbcTemplate.update("INSERT INTO account_deposit_summary (" + COLUMNS + ")"
+                + " SELECT account_number, currency, COUNT(*), SUM(amount), MAX(created_at),"
+                + " CAST(:updatedAt AS TIMESTAMP)"
+                + " FROM deposits WHERE status = 'COMPLETED'" + range
+                + " GROUP BY account_number, currency", params);
+    }
+    
+    private void updateOrInsert(MapSqlParameterSource params) {
+        if (jdbcTemplate.update(UPDATE, params) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT, params);
+        } catch (DuplicateKeyException ex) {
+            // Inserted concurrently since the update; now it matches
+            jdbcTemplate.update(UPDATE, params);
+        }
+    }
+    
+    private static MapSqlParameterSource toParams(Delta delta, LocalDateTime updatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountNumber", delta.getAccountNumber())
+                .addValue("currency", delta.getCurrency())
+                .addValue("count", delta.getCount())
+                .addValue("amount", delta.getAmount())
+                .addValue("lastDepositAt", delta.getLastDepositAt() == null
+                        ? null : Timestamp.valueOf(delta.getLastDepositAt()), Types.TIMESTAMP)
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt));
+        if (!delta.getReversedDepositIds().isEmpty()) {
+            params.addValue("reversedIds", delta.getReversedDepositIds());
+        }
+        return params;
+    }
+    
+    private boolean isUpsertSupported() {
+        Boolean supported = upsertSupported;
+        if (supported == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                supported = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException ex) {
+                supported = false;
+            }
+            upsertSupported = supported;
+        }
+        return supported;
+    }
+}
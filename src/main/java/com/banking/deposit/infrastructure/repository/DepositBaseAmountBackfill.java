@@ -0,0 +1,20 @@
+package com.banking.deposit.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Custom fragment of {@link DepositRepository} that fills in
+ * {@code base_amount} for deposits written before it existed.
+ */
+public interface DepositBaseAmountBackfill {
+    
+    /**
+     * Converts the deposits with ids in {@code [fromId, toId)} that have no
+     * base amount yet and whose currency is in {@code ratesToBase}, rounding
+     * half up to {@code scale} decimal places.
+     *
+     * @return the number of deposits converted
+     */
+    int backfillBaseAmounts(long fromId, long toId, Map<String, BigDecimal> ratesToBase, int scale);
+}
@@ -0,0 +1,44 @@
+package com.banking.deposit.infrastructure.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * One set-based {@code UPDATE} per id range, with every rate bound into a
+ * {@code CASE} on the currency, so rows are converted by the database
+ * without being read.
+ */
+class DepositBaseAmountBackfillImpl implements DepositBaseAmountBackfill {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    DepositBaseAmountBackfillImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public int backfillBaseAmounts(long fromId, long toId, Map<String, BigDecimal> ratesToBase, int scale) {
+        if (ratesToBase.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId)
+                .addValue("currencies", ratesToBase.keySet());
+        StringBuilder rate = new StringBuilder("CASE currency");
+        int index = 0;
+        for (Map.Entry<String, BigDecimal> entry : ratesToBase.entrySet()) {
+            rate.append(" WHEN :currency").append(index).append(" THEN :rate").append(index);
+            params.addValue("currency" + index, entry.getKey());
+            params.addValue("rate" + index, entry.getValue());
+            index++;
+        }
+        rate.append(" END");
+        String sql = "UPDATE deposits SET base_amount = ROUND(amount * " + rate + ", " + scale + ")"
+                + " WHERE id >= :fromId AND id < :toId AND base_amount IS NULL AND currency IN (:currencies)";
+        return jdbcTemplate.update(sql, params);
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.DepositEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DepositEventRepository extends JpaRepository<DepositEvent, Long> {
+    
+    /**
+     * Oldest unpublished events, locked with {@code FOR UPDATE SKIP LOCKED}
+     * so concurrent relays take disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<DepositEvent> findByPublishedAtIsNullOrderById(Limit limit);
+    
+    List<DepositEvent> findByPublishedAtIsNullAndDepositIdIn(Collection<Long> depositIds);
+    
+    @Modifying
+    @Query("update DepositEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    @Modifying
+    @Query("delete from DepositEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
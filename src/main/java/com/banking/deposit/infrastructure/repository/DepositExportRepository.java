@@ -0,0 +1,82 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositExportFilter;
+import com.banking.deposit.domain.model.Deposit;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Streams deposits through a forward-only JDBC cursor.
+ * <p>
+ * A stateless session keeps no persistence context or dirty-checking
+ * snapshots, so memory use is bounded by the fetch size no matter how many
+ * rows match. It runs on the connection of a read-only Spring transaction:
+ * that sends the export to a replica when one is configured, marks the
+ * connection read-only, and disables auto-commit, without which the
+ * PostgreSQL driver ignores the fetch size.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DepositExportRepository {
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long streamDeposits(DepositExportFilter filter, int fetchSize, Consumer<Deposit> consumer) {
+        StringBuilder hql = new StringBuilder("from Deposit d where 1 = 1");
+        if (filter.getAccountNumber() != null) {
+            hql.append(" and d.accountNumber = :accountNumber");
+        }
+        if (filter.getStatus() != null) {
+            hql.append(" and d.status = :status");
+        }
+        if (filter.getCreatedFrom() != null) {
+            hql.append(" and d.createdAt >= :createdFrom");
+        }
+        if (filter.getCreatedTo() != null) {
+            hql.append(" and d.createdAt < :createdTo");
+        }
+        hql.append(" order by d.createdAt, d.id");
+
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            try (StatelessSession stateless = session.getSessionFactory().withStatelessOptions()
+                    .connection(connection)
+                    .openStatelessSession()) {
+                SelectionQuery<Deposit> query = stateless.createSelectionQuery(hql.toString(), Deposit.class);
+                if (filter.getAccountNumber() != null) {
+                    query.setParameter("accountNumber", filter.getAccountNumber());
+                }
+                if (filter.getStatus() != null) {
+                    query.setParameter("status", filter.getStatus());
+                }
+                if (filter.getCreatedFrom() != null) {
+                    query.setParameter("createdFrom", filter.getCreatedFrom());
+                }
+                if (filter.getCreatedTo() != null) {
+                    query.setParameter("createdTo", filter.getCreatedTo());
+                }
+                query.setFetchSize(fetchSize);
+                query.setReadOnly(true);
+
+                long count = 0;
+                try (ScrollableResults<Deposit> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                    while (results.next()) {
+                        consumer.accept(results.get());
+                        count++;
+                    }
+                }
+                return count;
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.DepositIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface DepositIdempotencyKeyRepository extends JpaRepository<DepositIdempotencyKey, String> {
+    
+    @Modifying
+    @Query("delete from DepositIdempotencyKey k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("delete from DepositIdempotencyKey k where k.idempotencyKey = :key and k.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+}
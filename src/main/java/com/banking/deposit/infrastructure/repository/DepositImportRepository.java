@@ -0,0 +1,9 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.DepositImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DepositImportRepository extends JpaRepository<DepositImport, String> {
+}
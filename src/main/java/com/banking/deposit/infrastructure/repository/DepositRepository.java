@@ -1,21 +1,93 @@
 package com.banking.deposit.infrastructure.repository;
 
+import com.banking.deposit.application.dto.DepositCurrencyTotal;
+import com.banking.deposit.application.dto.DepositResponse;
 import com.banking.deposit.domain.model.Deposit;
 import com.banking.deposit.domain.model.DepositStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface DepositRepository extends JpaRepository<Deposit, Long> {
+public interface DepositRepository extends JpaRepository<Deposit, Long>, DepositStatusTransitionRepository,
+        DepositResponseScrollRepository, DepositBaseAmountBackfill {
     
-    Page<Deposit> findByAccountNumber(String accountNumber, Pageable pageable);
+    /**
+     * Selects the columns of {@link DepositResponse} straight into it. Rows
+     * read this way never become managed entities, so there is no
+     * persistence-context entry, snapshot or mapping copy per row.
+     */
+    String SELECT_RESPONSE = "select new com.banking.deposit.application.dto.DepositResponse("
+            + "d.id, d.accountNumber, d.amount, d.status, d.currency, d.description, d.createdAt, d.updatedAt)"
+            + " from Deposit d";
     
-    List<Deposit> findByStatus(DepositStatus status);
+    @Query(SELECT_RESPONSE + " where d.id = :id")
+    Optional<DepositResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(value = SELECT_RESPONSE, countQuery = "select count(d) from Deposit d")
+    Page<DepositResponse> findAllResponses(Pageable pageable);
+    
+    @Query(value = SELECT_RESPONSE + " where d.accountNumber = :accountNumber",
+            countQuery = "select count(d) from Deposit d where d.accountNumber = :accountNumber")
+    Page<DepositResponse> findResponsesByAccountNumber(@Param("accountNumber") String accountNumber,
+                                                       Pageable pageable);
+    
+    /**
+     * Account history within {@code [createdFrom, createdTo)}. The bound on
+     * {@code created_at} lets PostgreSQL skip the monthly partitions outside
+     * the range.
+     */
+    @Query(value = SELECT_RESPONSE + " where d.accountNumber = :accountNumber"
+            + " and d.createdAt >= :createdFrom and d.createdAt < :createdTo",
+            countQuery = "select count(d) from Deposit d where d.accountNumber = :accountNumber"
+                    + " and d.createdAt >= :createdFrom and d.createdAt < :createdTo")
+    Page<DepositResponse> findResponsesByAccountNumberAndCreatedAtBetween(
+            @Param("accountNumber") String accountNumber, @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo, Pageable pageable);
+    
+    /**
+     * Totals per currency of the deposits in {@code status} created within
+     * {@code [createdFrom, createdTo)}. On PostgreSQL this is an index-only
+     * scan of {@code idx_deposits_status_created} over the matching monthly
+     * partitions.
+     */
+    @Query("select new com.banking.deposit.application.dto.DepositCurrencyTotal("
+            + "d.currency, count(d), sum(d.amount), sum(d.baseAmount), count(d) - count(d.baseAmount))"
+            + " from Deposit d where d.status = :status and d.createdAt >= :createdFrom and d.createdAt < :createdTo"
+            + " group by d.currency order by d.currency")
+    List<DepositCurrencyTotal> sumByCurrency(@Param("status") DepositStatus status,
+                                             @Param("createdFrom") LocalDateTime createdFrom,
+                                             @Param("createdTo") LocalDateTime createdTo);
+    
+    @Query("select min(d.id) from Deposit d where d.baseAmount is null")
+    Optional<Long> findMinIdWithoutBaseAmount();
+    
+    @Query("select max(d.id) from Deposit d where d.baseAmount is null")
+    Optional<Long> findMaxIdWithoutBaseAmount();
+    
+    long countByBaseAmountIsNull();
+    
+    Slice<Deposit> findByStatus(DepositStatus status, Pageable pageable);
+    
+    @Query("select d.status from Deposit d where d.id = :id")
+    Optional<DepositStatus> findStatusById(@Param("id") Long id);
+    
+    @Query("select d.accountNumber from Deposit d where d.id = :id")
+    Optional<String> findAccountNumberById(@Param("id") Long id);
+    
+    Optional<Deposit> findByTrackingId(String trackingId);
+    
+    @Query("select d.trackingId from Deposit d where d.trackingId in :trackingIds")
+    List<String> findStoredTrackingIds(@Param("trackingIds") Collection<String> trackingIds);
     
     Optional<Deposit> findByIdAndAccountNumber(Long id, String accountNumber);
     
@@ -0,0 +1,31 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+
+/**
+ * Custom fragment of {@link DepositRepository} for keyset scrolling that
+ * selects straight into {@link DepositResponse}.
+ * <p>
+ * Rows are ordered by {@code (createdAt, id)} descending. Positions are
+ * keyset positions with the keys {@code createdAt} and {@code id} of the last
+ * row returned; the initial keyset position starts at the newest deposit.
+ */
+public interface DepositResponseScrollRepository {
+    
+    Window<DepositResponse> scrollResponses(ScrollPosition position, Limit limit);
+    
+    Window<DepositResponse> scrollResponsesByAccountNumber(String accountNumber, ScrollPosition position,
+                                                           Limit limit);
+    
+    /**
+     * Keyset form of the account history within {@code [createdFrom, createdTo)}.
+     */
+    Window<DepositResponse> scrollResponsesByAccountNumberAndCreatedAtBetween(
+            String accountNumber, LocalDateTime createdFrom, LocalDateTime createdTo,
+            ScrollPosition position, Limit limit);
+}
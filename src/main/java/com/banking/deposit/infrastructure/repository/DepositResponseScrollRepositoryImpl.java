@@ -0,0 +1,102 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeks past the last row with the row-value comparison
+ * {@code (createdAt, id) < (:createdAt, :id)}. PostgreSQL turns it into a
+ * single start key on the account history index
+ * {@code (account_number, created_at DESC, id DESC)}; the {@code or} form
+ * Spring Data derives is only a filter after the range scan on
+ * {@code created_at}. One row more than the limit is
+ * fetched to tell whether there is a next window.
+ * <p>
+ * Spring Data's own keyset scrolling only returns entities or interface
+ * projections backed by them, hence the hand-written queries.
+ */
+class DepositResponseScrollRepositoryImpl implements DepositResponseScrollRepository {
+    
+    static final String CREATED_AT = "createdAt";
+    static final String ID = "id";
+    
+    private static final String AFTER_POSITION =
+            "(d.createdAt, d.id) < (cast(:createdAt as LocalDateTime), cast(:id as Long))";
+    
+    private static final String ORDER_BY = " order by d.createdAt desc, d.id desc";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Window<DepositResponse> scrollResponses(ScrollPosition position, Limit limit) {
+        return scroll(null, new HashMap<>(), position, limit);
+    }
+    
+    @Override
+    public Window<DepositResponse> scrollResponsesByAccountNumber(String accountNumber, ScrollPosition position,
+                                                                  Limit limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("accountNumber", accountNumber);
+        return scroll("d.accountNumber = :accountNumber", parameters, position, limit);
+    }
+    
+    @Override
+    public Window<DepositResponse> scrollResponsesByAccountNumberAndCreatedAtBetween(
+            String accountNumber, LocalDateTime createdFrom, LocalDateTime createdTo,
+            ScrollPosition position, Limit limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("accountNumber", accountNumber);
+        parameters.put("createdFrom", createdFrom);
+        parameters.put("createdTo", createdTo);
+        return scroll("d.accountNumber = :accountNumber and d.createdAt >= :createdFrom and d.createdAt < :createdTo",
+                parameters, position, limit);
+    }
+    
+    private Window<DepositResponse> scroll(String condition, Map<String, Object> parameters,
+                                           ScrollPosition position, Limit limit) {
+        List<String> conditions = new ArrayList<>();
+        if (condition != null) {
+            conditions.add(condition);
+        }
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        if (!keyset.isInitial()) {
+            conditions.add(AFTER_POSITION);
+            parameters.put(CREATED_AT, keyset.getKeys().get(CREATED_AT));
+            parameters.put(ID, keyset.getKeys().get(ID));
+        }
+        String jpql = DepositRepository.SELECT_RESPONSE
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + ORDER_BY;
+        
+        TypedQuery<DepositResponse> query = entityManager.createQuery(jpql, DepositResponse.class);
+        parameters.forEach(query::setParameter);
+        int max = limit.max();
+        query.setMaxResults(max + 1);
+        List<DepositResponse> rows = query.getResultList();
+        
+        boolean hasNext = rows.size() > max;
+        List<DepositResponse> content = hasNext ? rows.subList(0, max) : rows;
+        return Window.from(content, index -> positionOf(content.get(index)), hasNext);
+    }
+    
+    private static ScrollPosition positionOf(DepositResponse row) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(CREATED_AT, row.getCreatedAt());
+        keys.put(ID, row.getId());
+        return ScrollPosition.forward(keys);
+    }
+}
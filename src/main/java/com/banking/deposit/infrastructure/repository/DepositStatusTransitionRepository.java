@@ -0,0 +1,43 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom fragment of {@link DepositRepository} for status changes that are
+ * checked and applied by the database in one statement.
+ */
+public interface DepositStatusTransitionRepository {
+    
+    /**
+     * Moves the deposit to {@code target} if its current status allows it
+     * (see {@link DepositStatus#canTransitionTo}).
+     *
+     * @return the updated row, or empty if the deposit does not exist or is
+     *         not in a status that may move to {@code target}
+     */
+    Optional<Deposit> transitionStatus(Long id, DepositStatus target, LocalDateTime updatedAt);
+    
+    /**
+     * Set-based form of {@link #transitionStatus}: moves every listed deposit
+     * whose current status allows it.
+     *
+     * @return the updated rows, in no particular order
+     */
+    List<Deposit> transitionStatuses(Collection<Long> ids, DepositStatus target, LocalDateTime updatedAt);
+    
+    Map<Long, DepositStatus> findStatusesByIds(Collection<Long> ids);
+    
+    /**
+     * Ids above {@code afterId}, in id order, of deposits that may move to
+     * {@code target} and match the optional criteria.
+     */
+    List<Long> findTransitionCandidateIds(DepositStatus target, String accountNumber, DepositStatus status,
+                                          LocalDateTime createdBefore, long afterId, int limit);
+}
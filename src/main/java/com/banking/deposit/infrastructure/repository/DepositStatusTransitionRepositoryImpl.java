@@ -0,0 +1,176 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a status transition as a conditional {@code UPDATE}: the legal
+ * source statuses are part of the {@code WHERE} clause, so two concurrent
+ * callers cannot both move the same deposit and no row is read first.
+ * <p>
+ * On PostgreSQL the updated row comes back through {@code RETURNING}, one
+ * round trip in total. Other databases re-read the row by id after a
+ * successful update. Statements go through JDBC on the transaction's
+ * connection, so no entity is loaded or dirty-checked.
+ * <p>
+ * The set-based variant works the same way over a list of ids; without
+ * {@code RETURNING} the matching rows are locked and selected first, then
+ * updated by id.
+ */
+class DepositStatusTransitionRepositoryImpl implements DepositStatusTransitionRepository {
+    
+    private static final String UPDATE = "UPDATE deposits SET status = :target, updated_at = :updatedAt"
+            + " WHERE id = :id AND status IN (:sources)";
+    
+    private static final String BULK_UPDATE = "UPDATE deposits SET status = :target, updated_at = :updatedAt"
+            + " WHERE id IN (:ids)";
+    
+    private static final String COLUMNS =
+            "id, account_number, amount, status, currency, base_amount, description, tracking_id, created_at, updated_at";
+    
+    private static final RowMapper<Deposit> ROW_MAPPER = (rs, rowNum) -> Deposit.builder()
+            .id(rs.getLong("id"))
+            .accountNumber(rs.getString("account_number"))
+            .amount(rs.getBigDecimal("amount"))
+            .status(DepositStatus.valueOf(rs.getString("status")))
+            .currency(rs.getString("currency"))
+            .baseAmount(rs.getBigDecimal("base_amount"))
+            .description(rs.getString("description"))
+            .trackingId(rs.getString("tracking_id"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .build();
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean returningSupported;
+    
+    DepositStatusTransitionRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Optional<Deposit> transitionStatus(Long id, DepositStatus target, LocalDateTime updatedAt) {
+        Set<DepositStatus> sources = DepositStatus.sourcesOf(target);
+        if (sources.isEmpty()) {
+            return Optional.empty();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("target", target.name())
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt))
+                .addValue("sources", sources.stream().map(Enum::name).toList());
+        
+        if (isReturningSupported()) {
+            List<Deposit> updated = jdbcTemplate.query(UPDATE + " RETURNING " + COLUMNS, params, ROW_MAPPER);
+            return updated.stream().findFirst();
+        }
+        if (jdbcTemplate.update(UPDATE, params) == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM deposits WHERE id = :id", params, ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+    
+    @Override
+    public List<Deposit> transitionStatuses(Collection<Long> ids, DepositStatus target, LocalDateTime updatedAt) {
+        Set<DepositStatus> sources = DepositStatus.sourcesOf(target);
+        if (sources.isEmpty() || ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("target", target.name())
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt))
+                .addValue("sources", sources.stream().map(Enum::name).toList());
+        
+        if (isReturningSupported()) {
+            return jdbcTemplate.query(BULK_UPDATE + " AND status IN (:sources) RETURNING " + COLUMNS,
+                    params, ROW_MAPPER);
+        }
+        List<Long> lockedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM deposits WHERE id IN (:ids) AND status IN (:sources) FOR UPDATE", params, Long.class);
+        if (lockedIds.isEmpty()) {
+            return List.of();
+        }
+        params.addValue("ids", lockedIds);
+        jdbcTemplate.update(BULK_UPDATE, params);
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM deposits WHERE id IN (:ids)", params, ROW_MAPPER);
+    }
+    
+    @Override
+    public Map<Long, DepositStatus> findStatusesByIds(Collection<Long> ids) {
+        Map<Long, DepositStatus> statuses = new HashMap<>();
+        if (ids.isEmpty()) {
+            return statuses;
+        }
+        jdbcTemplate.query("SELECT id, status FROM deposits WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    statuses.put(rs.getLong("id"), DepositStatus.valueOf(rs.getString("status")));
+                });
+        return statuses;
+    }
+    
+    @Override
+    public List<Long> findTransitionCandidateIds(DepositStatus target, String accountNumber, DepositStatus status,
+                                                 LocalDateTime createdBefore, long afterId, int limit) {
+        Set<DepositStatus> sources = DepositStatus.sourcesOf(target);
+        if (sources.isEmpty()) {
+            return List.of();
+        }
+        // Statuses are inlined, not bound, so that the planner can prove the
+        // predicate of the partial index on pending deposits
+        String statuses = sources.stream().map(source -> "'" + source.name() + "'").collect(Collectors.joining(", "));
+        StringBuilder sql = new StringBuilder("SELECT id FROM deposits WHERE id > :afterId")
+                .append(" AND status IN (").append(statuses).append(")");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        if (accountNumber != null) {
+            sql.append(" AND account_number = :accountNumber");
+            params.addValue("accountNumber", accountNumber);
+        }
+        if (status != null) {
+            sql.append(" AND status = :status");
+            params.addValue("status", status.name());
+        }
+        if (createdBefore != null) {
+            sql.append(" AND created_at < :createdBefore");
+            params.addValue("createdBefore", Timestamp.valueOf(createdBefore));
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+    
+    private boolean isReturningSupported() {
+        Boolean supported = returningSupported;
+        if (supported == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                supported = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException ex) {
+                supported = false;
+            }
+            returningSupported = supported;
+        }
+        return supported;
+    }
+}
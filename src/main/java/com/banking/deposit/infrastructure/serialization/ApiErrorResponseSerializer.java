@@ -0,0 +1,67 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link ApiErrorResponse} the way the bean serializer would. Error
+ * responses are what an overloaded service mostly returns, so they get the
+ * same treatment as {@link DepositResponseSerializer}.
+ */
+class ApiErrorResponseSerializer extends StdSerializer<ApiErrorResponse> {
+    
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString PATH = new SerializedString("path");
+    private static final SerializableString VALIDATION_ERRORS = new SerializedString("validationErrors");
+    private static final SerializableString FIELD = new SerializedString("field");
+    
+    ApiErrorResponseSerializer() {
+        super(ApiErrorResponse.class);
+    }
+    
+    @Override
+    public void serialize(ApiErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(TIMESTAMP);
+        DepositResponseSerializer.writeDateTime(gen, value.getTimestamp());
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+        gen.writeFieldName(ERROR);
+        gen.writeString(value.getError());
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(value.getMessage());
+        gen.writeFieldName(PATH);
+        gen.writeString(value.getPath());
+        gen.writeFieldName(VALIDATION_ERRORS);
+        List<ApiErrorResponse.ValidationError> validationErrors = value.getValidationErrors();
+        if (validationErrors == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(validationErrors, validationErrors.size());
+            for (ApiErrorResponse.ValidationError validationError : validationErrors) {
+                if (validationError == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartObject(validationError);
+                gen.writeFieldName(FIELD);
+                gen.writeString(validationError.getField());
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(validationError.getMessage());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+}
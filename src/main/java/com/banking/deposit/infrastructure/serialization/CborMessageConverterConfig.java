@@ -0,0 +1,36 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets internal callers exchange {@code application/cbor} instead of JSON
+ * by sending it as {@code Content-Type} or {@code Accept}. The CBOR mapper
+ * is built from the application's mapper builder, so it has the same
+ * settings and modules, {@link DepositJsonModule} included.
+ * <p>
+ * The converter goes after the JSON one: a client that accepts anything
+ * still gets JSON.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "deposit.serialization", name = "cbor-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CborMessageConverterConfig implements WebMvcConfigurer {
+    
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        Jackson2ObjectMapperBuilder builder = objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+        converters.add(new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written Jackson codecs for the bodies on every deposit request:
+ * {@link DepositRequest} in, {@link DepositResponse} and
+ * {@link ApiErrorResponse} out. Spring Boot registers the module with the
+ * application's object mapper, and so with every mapper built from it,
+ * including the CBOR one.
+ * <p>
+ * The codecs produce exactly what the bean (de)serializers produce with the
+ * default settings. A mapper configured otherwise (dates as timestamps, enums
+ * by index, a naming strategy, non-null inclusion) keeps the bean
+ * (de)serializers, so the output never depends on which path was taken.
+ */
+@Component
+public class DepositJsonModule extends SimpleModule {
+    
+    public DepositJsonModule() {
+        super(DepositJsonModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (!hasDefaultSettings(config, beanDesc.getBeanClass())) {
+                    return serializer;
+                }
+                if (beanDesc.getBeanClass() == DepositResponse.class) {
+                    return new DepositResponseSerializer();
+                }
+                if (beanDesc.getBeanClass() == ApiErrorResponse.class) {
+                    return new ApiErrorResponseSerializer();
+                }
+                return serializer;
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (beanDesc.getBeanClass() == DepositRequest.class
+                        && config.getPropertyNamingStrategy() == null
+                        && !config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)) {
+                    return new DepositRequestDeserializer(deserializer);
+                }
+                return deserializer;
+            }
+        });
+    }
+    
+    static SerializableString[] enumNames(Enum<?>[] values) {
+        SerializableString[] names = new SerializableString[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = new SerializedString(value.name());
+        }
+        return names;
+    }
+    
+    private static boolean hasDefaultSettings(SerializationConfig config, Class<?> type) {
+        PropertyNamingStrategy namingStrategy = config.getPropertyNamingStrategy();
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type).getValueInclusion();
+        return namingStrategy == null
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS)
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !config.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+                && !config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+    }
+}
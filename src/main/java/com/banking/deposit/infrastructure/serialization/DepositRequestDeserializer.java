@@ -0,0 +1,85 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads {@link DepositRequest} straight off the token stream. Plain string
+ * and number tokens are taken as they are; anything else (a number where a
+ * string is expected, an amount in quotes) goes to the standard scalar
+ * deserializers, so coercion rules and error messages stay as they were.
+ * Bodies that are not a JSON object are left to the bean deserializer.
+ */
+class DepositRequestDeserializer extends StdDeserializer<DepositRequest> implements ResolvableDeserializer {
+    
+    private final JsonDeserializer<?> beanDeserializer;
+    
+    DepositRequestDeserializer(JsonDeserializer<?> beanDeserializer) {
+        super(DepositRequest.class);
+        this.beanDeserializer = beanDeserializer;
+    }
+    
+    @Override
+    public DepositRequest deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (DepositRequest) beanDeserializer.deserialize(p, ctxt);
+        }
+        DepositRequest request = new DepositRequest();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            try {
+                switch (name) {
+                    case "accountNumber" -> request.setAccountNumber(readString(p, ctxt));
+                    case "amount" -> request.setAmount(readDecimal(p, ctxt));
+                    case "currency" -> request.setCurrency(readString(p, ctxt));
+                    case "description" -> request.setDescription(readString(p, ctxt));
+                    default -> ctxt.handleUnknownProperty(p, this, DepositRequest.class, name);
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, request, name);
+            }
+        }
+        return request;
+    }
+    
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        if (beanDeserializer instanceof ResolvableDeserializer resolvable) {
+            resolvable.resolve(ctxt);
+        }
+    }
+    
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+    
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_STRING -> p.getText();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, String.class);
+        };
+    }
+    
+    private static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> p.getDecimalValue();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, BigDecimal.class);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Writes {@link DepositResponse} field by field, in declaration order and
+ * with nulls included, as the bean serializer does under the application's
+ * mapper settings. Field names and status values are encoded once.
+ */
+class DepositResponseSerializer extends StdSerializer<DepositResponse> {
+    
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CURRENCY = new SerializedString("currency");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    
+    private static final SerializableString[] STATUS_NAMES = DepositJsonModule.enumNames(DepositStatus.values());
+    
+    DepositResponseSerializer() {
+        super(DepositResponse.class);
+    }
+    
+    @Override
+    public void serialize(DepositResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        writeLong(gen, value.getId());
+        gen.writeFieldName(ACCOUNT_NUMBER);
+        gen.writeString(value.getAccountNumber());
+        gen.writeFieldName(AMOUNT);
+        writeDecimal(gen, value.getAmount());
+        gen.writeFieldName(STATUS);
+        DepositStatus status = value.getStatus();
+        if (status == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(STATUS_NAMES[status.ordinal()]);
+        }
+        gen.writeFieldName(CURRENCY);
+        gen.writeString(value.getCurrency());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(value.getDescription());
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(gen, value.getCreatedAt());
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(gen, value.getUpdatedAt());
+        gen.writeEndObject();
+    }
+    
+    static void writeLong(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+    
+    static void writeDecimal(JsonGenerator gen, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+    
+    static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            LocalDateTimeCodec.write(gen, value);
+        }
+    }
+}
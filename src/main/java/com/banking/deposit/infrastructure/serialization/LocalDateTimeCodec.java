@@ -0,0 +1,65 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+ * formats it: seconds always present, the fraction only when non-zero and
+ * without trailing zeros. The digits go straight into a small char buffer
+ * handed to the generator, so no formatter, print context or string is
+ * created per value.
+ */
+final class LocalDateTimeCodec {
+    
+    private static final int MAX_LENGTH = "2024-01-15T10:30:15.123456789".length();
+    
+    private LocalDateTimeCodec() {
+    }
+    
+    static void write(JsonGenerator gen, LocalDateTime value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // ISO signs and widens years outside 0000-9999; not worth a fast path
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        append4(buffer, 0, year);
+        buffer[4] = '-';
+        append2(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        append2(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        append2(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        append2(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        append2(buffer, 17, value.getSecond());
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int divisor = 100_000_000;
+            while (nano != 0) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+    
+    private static void append4(char[] buffer, int offset, int value) {
+        append2(buffer, offset, value / 100);
+        append2(buffer, offset + 2, value % 100);
+    }
+    
+    private static void append2(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
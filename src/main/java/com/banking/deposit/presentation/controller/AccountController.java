@@ -0,0 +1,29 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.AccountDepositSummaryResponse;
+import com.banking.deposit.application.dto.AccountSummaryRebuildResponse;
+import com.banking.deposit.application.service.AccountSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class AccountController {
+    
+    private final AccountSummaryService accountSummaryService;
+    
+    @GetMapping("/{accountNumber}/summary")
+    public ResponseEntity<AccountDepositSummaryResponse> getSummary(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(accountSummaryService.getSummary(accountNumber));
+    }
+    
+    /**
+     * Recomputes every account's summary from the deposits table.
+     */
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<AccountSummaryRebuildResponse> rebuildSummaries() {
+        return ResponseEntity.ok(accountSummaryService.rebuild());
+    }
+}
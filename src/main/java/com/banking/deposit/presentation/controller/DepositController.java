@@ -1,8 +1,27 @@
 package com.banking.deposit.presentation.controller;
 
+import com.banking.deposit.application.dto.BatchDepositRequest;
+import com.banking.deposit.application.dto.BatchDepositResponse;
+import com.banking.deposit.application.dto.BulkStatusTransitionRequest;
+import com.banking.deposit.application.dto.BulkStatusTransitionResponse;
+import com.banking.deposit.application.dto.CursorPageResponse;
+import com.banking.deposit.application.dto.DepositExportFilter;
+import com.banking.deposit.application.dto.DepositImportResponse;
+import com.banking.deposit.application.dto.DepositIngestionResponse;
 import com.banking.deposit.application.dto.DepositRequest;
 import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.service.DepositBatchService;
+import com.banking.deposit.application.service.DepositBulkTransitionService;
+import com.banking.deposit.application.service.DepositExportService;
+import com.banking.deposit.application.service.DepositIdempotencyService;
+import com.banking.deposit.application.service.DepositImportService;
+import com.banking.deposit.application.service.DepositIngestionService;
+import com.banking.deposit.application.service.DepositRequestValidator;
 import com.banking.deposit.application.service.DepositService;
+import com.banking.deposit.application.service.DepositWatchService;
+import com.banking.deposit.application.service.RateLimitService;
+import com.banking.deposit.domain.model.DepositExportFormat;
+import com.banking.deposit.domain.model.DepositImportFormat;
 import com.banking.deposit.domain.model.DepositStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,21 +29,120 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/v1/deposits")
 @RequiredArgsConstructor
 public class DepositController {
     
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    
     private final DepositService depositService;
+    private final DepositBatchService depositBatchService;
+    private final DepositBulkTransitionService depositBulkTransitionService;
+    private final DepositImportService depositImportService;
+    private final DepositExportService depositExportService;
+    private final DepositWatchService depositWatchService;
+    private final DepositIdempotencyService depositIdempotencyService;
+    private final DepositIngestionService depositIngestionService;
+    private final RateLimitService rateLimitService;
+    private final DepositRequestValidator depositRequestValidator;
     
+    /**
+     * With {@code deposit.ingestion.enabled} a request without an
+     * idempotency key is queued and answered with 202 and a tracking id.
+     * The per-account rate limit is checked here, as the account is only
+     * known from the body. The body is validated by
+     * {@link DepositRequestValidator} rather than {@code @Valid}, with the
+     * same 400 response.
+     */
     @PostMapping
-    public ResponseEntity<DepositResponse> createDeposit(@Valid @RequestBody DepositRequest request) {
-        DepositResponse response = depositService.createDeposit(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<?> createDeposit(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody DepositRequest request) {
+        depositRequestValidator.requireValid(request);
+        rateLimitService.checkAccount(request.getAccountNumber());
+        if (idempotencyKey == null && depositIngestionService.isEnabled()) {
+            DepositIngestionResponse response = depositIngestionService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                            .path("/ingestion/{trackingId}")
+                            .buildAndExpand(response.getTrackingId())
+                            .toUri())
+                    .body(response);
+        }
+        if (idempotencyKey == null) {
+            DepositResponse response = depositService.createDeposit(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+        DepositIdempotencyService.Result result = depositIdempotencyService.createDeposit(idempotencyKey, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.isReplayed()))
+                .body(result.getResponse());
+    }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<BatchDepositResponse> createDeposits(@Valid @RequestBody BatchDepositRequest request) {
+        BatchDepositResponse response = depositBatchService.createDeposits(request.getDeposits());
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<DepositImportResponse> importDeposits(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(required = false) String importId,
+            InputStream body) {
+        DepositImportFormat format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? DepositImportFormat.NDJSON
+                : DepositImportFormat.CSV;
+        DepositImportResponse response = depositImportService.importDeposits(body, format, importId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<DepositImportResponse> getImport(@PathVariable String importId) {
+        DepositImportResponse response = depositImportService.getImport(importId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/ingestion/{trackingId}")
+    public ResponseEntity<DepositIngestionResponse> getIngestion(@PathVariable String trackingId) {
+        DepositIngestionResponse response = depositIngestionService.getStatus(trackingId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDeposits(
+            @RequestParam(defaultValue = "NDJSON") DepositExportFormat format,
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(required = false) DepositStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        DepositExportFilter filter = DepositExportFilter.builder()
+                .accountNumber(accountNumber)
+                .status(status)
+                .createdFrom(from)
+                .createdTo(to)
+                .build();
+        MediaType contentType = format == DepositExportFormat.NDJSON
+                ? MediaType.APPLICATION_NDJSON
+                : new MediaType("text", "csv");
+        StreamingResponseBody body = out -> depositExportService.export(filter, format, out);
+        return ResponseEntity.ok().contentType(contentType).body(body);
     }
     
     @GetMapping("/{id}")
@@ -33,6 +151,15 @@ public class DepositController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{id}/watch")
+    public DeferredResult<DepositResponse> watchDeposit(
+            @PathVariable Long id,
+            @RequestParam(required = false) DepositStatus status,
+            @RequestParam(required = false) Long timeoutSeconds) {
+        Duration timeout = timeoutSeconds == null ? null : Duration.ofSeconds(timeoutSeconds);
+        return depositWatchService.watch(id, status, timeout);
+    }
+    
     @GetMapping
     public ResponseEntity<Page<DepositResponse>> getAllDeposits(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -40,11 +167,41 @@ public class DepositController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<DepositResponse>> getAllDepositsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<DepositResponse> response = depositService.getDeposits(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * {@code from} (inclusive) and {@code to} (exclusive) bound the creation
+     * time; they are optional but go together. A bounded request reads only
+     * the matching monthly partitions.
+     */
     @GetMapping("/account/{accountNumber}")
     public ResponseEntity<Page<DepositResponse>> getDepositsByAccountNumber(
             @PathVariable String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<DepositResponse> response = depositService.getDepositsByAccountNumber(accountNumber, pageable);
+        Page<DepositResponse> response = from == null && to == null
+                ? depositService.getDepositsByAccountNumber(accountNumber, pageable)
+                : depositService.getDepositsByAccountNumber(accountNumber, from, to, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping(value = "/account/{accountNumber}", params = "cursor")
+    public ResponseEntity<CursorPageResponse<DepositResponse>> getDepositsByAccountNumberByCursor(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        CursorPageResponse<DepositResponse> response = from == null && to == null
+                ? depositService.getDepositsByAccountNumber(accountNumber, cursor, size)
+                : depositService.getDepositsByAccountNumber(accountNumber, from, to, cursor, size);
         return ResponseEntity.ok(response);
     }
     
@@ -56,6 +213,13 @@ public class DepositController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/status-transitions")
+    public ResponseEntity<BulkStatusTransitionResponse> transitionDepositStatuses(
+            @Valid @RequestBody BulkStatusTransitionRequest request) {
+        BulkStatusTransitionResponse response = depositBulkTransitionService.transition(request);
+        return ResponseEntity.ok(response);
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDeposit(@PathVariable Long id) {
         depositService.deleteDeposit(id);
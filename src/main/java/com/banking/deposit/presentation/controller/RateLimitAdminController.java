@@ -0,0 +1,28 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.RateLimitSettings;
+import com.banking.deposit.application.service.RateLimitService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/rate-limits")
+@RequiredArgsConstructor
+public class RateLimitAdminController {
+    
+    private final RateLimitService rateLimitService;
+    
+    @GetMapping
+    public ResponseEntity<RateLimitSettings> getRateLimits() {
+        return ResponseEntity.ok(rateLimitService.getSettings());
+    }
+    
+    /**
+     * Changes the limits of this instance until the next restart.
+     */
+    @PutMapping
+    public ResponseEntity<RateLimitSettings> updateRateLimits(@RequestBody RateLimitSettings settings) {
+        return ResponseEntity.ok(rateLimitService.updateSettings(settings));
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.BaseAmountBackfillResponse;
+import com.banking.deposit.application.dto.DepositTotalsReport;
+import com.banking.deposit.application.service.DepositReportService;
+import com.banking.deposit.domain.model.DepositStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    
+    private final DepositReportService depositReportService;
+    
+    /**
+     * Deposit totals per currency and in the base currency for
+     * {@code [from, to)}.
+     */
+    @GetMapping("/deposit-totals")
+    public ResponseEntity<DepositTotalsReport> getDepositTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "COMPLETED") DepositStatus status) {
+        return ResponseEntity.ok(depositReportService.getTotals(status, from, to));
+    }
+    
+    /**
+     * Converts the deposits stored before base amounts were recorded.
+     */
+    @PostMapping("/base-amounts/backfill")
+    public ResponseEntity<BaseAmountBackfillResponse> backfillBaseAmounts() {
+        return ResponseEntity.ok(depositReportService.backfillBaseAmounts());
+    }
+}
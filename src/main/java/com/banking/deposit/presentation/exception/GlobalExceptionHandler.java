@@ -1,50 +1,187 @@
 package com.banking.deposit.presentation.exception;
 
 import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.exception.IdempotencyKeyMismatchException;
+import com.banking.deposit.application.exception.IngestionQueueFullException;
+import com.banking.deposit.application.exception.InvalidStatusTransitionException;
+import com.banking.deposit.application.exception.OperationInProgressException;
+import com.banking.deposit.application.exception.RateLimitExceededException;
 import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ServiceOverloadedException;
 import com.banking.deposit.application.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
     
+    static final String ERROR_METRIC_NAME = "deposit.api.errors";
+    
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    /**
+     * One counter per exception type; a type is always answered with the
+     * same status.
+     */
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+    
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
         log.error("Resource not found: {}", ex.getMessage());
+        countError(ex, HttpStatus.NOT_FOUND);
         
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error("Not Found")
                 .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(path(request))
                 .build();
         
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
     
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidStatusTransitionException(
+            InvalidStatusTransitionException ex, WebRequest request) {
+        log.error("Invalid status transition: {}", ex.getMessage());
+        countError(ex, HttpStatus.CONFLICT);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleIdempotencyKeyMismatchException(
+            IdempotencyKeyMismatchException ex, WebRequest request) {
+        log.error("Idempotency key reused: {}", ex.getMessage());
+        countError(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .error("Unprocessable Entity")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return new ResponseEntity<>(error, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+    
+    @ExceptionHandler(OperationInProgressException.class)
+    public ResponseEntity<ApiErrorResponse> handleOperationInProgressException(
+            OperationInProgressException ex, WebRequest request) {
+        log.warn("Rejected: {}", ex.getMessage());
+        countError(ex, HttpStatus.CONFLICT);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<ApiErrorResponse> handleIngestionQueueFullException(
+            IngestionQueueFullException ex, WebRequest request) {
+        log.warn("Ingestion rejected: {}", ex.getMessage());
+        countError(ex, HttpStatus.TOO_MANY_REQUESTS);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(error);
+    }
+    
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException ex, WebRequest request) {
+        log.warn("Rate limited: {}", ex.getMessage());
+        countError(ex, HttpStatus.TOO_MANY_REQUESTS);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(error);
+    }
+    
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        log.warn("Load shed: {}", ex.getMessage());
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .path(path(request))
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(error);
+    }
+    
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ApiErrorResponse> handleValidationException(
             ValidationException ex, WebRequest request) {
         log.error("Validation error: {}", ex.getMessage());
+        countError(ex, HttpStatus.BAD_REQUEST);
         
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Bad Request")
                 .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(path(request))
+                .validationErrors(ex.getValidationErrors())
                 .build();
         
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
@@ -54,6 +191,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleMethodArgumentNotValidException(
             MethodArgumentNotValidException ex, WebRequest request) {
         log.error("Validation error: {}", ex.getMessage());
+        countError(ex, HttpStatus.BAD_REQUEST);
         
         var validationErrors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> ApiErrorResponse.ValidationError.builder()
@@ -67,7 +205,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Bad Request")
                 .message("Validation failed")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(path(request))
                 .validationErrors(validationErrors)
                 .build();
         
@@ -78,13 +216,14 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
         log.error("Illegal argument: {}", ex.getMessage());
+        countError(ex, HttpStatus.BAD_REQUEST);
         
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Bad Request")
                 .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(path(request))
                 .build();
         
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
@@ -94,16 +233,55 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
         log.error("Unexpected error: ", ex);
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error("Internal Server Error")
                 .message("An unexpected error occurred")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(path(request))
                 .build();
         
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+    
+    /**
+     * Whole seconds for {@code Retry-After}, rounded up and at least one.
+     */
+    private static String retryAfterSeconds(Duration retryAfter) {
+        long millis = retryAfter.toMillis();
+        return String.valueOf(Math.max(1, (millis + 999) / 1000));
+    }
+    
+    /**
+     * The request URI, read from the servlet request instead of being cut out
+     * of the request description.
+     */
+    private static String path(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        return request.getDescription(false).replace("uri=", "");
+    }
+    
+    /**
+     * Counts handled errors as {@code deposit.api.errors}, tagged with the
+     * exception type and the response status.
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        Counter counter = errorCounters.get(ex.getClass());
+        if (counter == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            counter = errorCounters.computeIfAbsent(ex.getClass(), type -> Counter.builder(ERROR_METRIC_NAME)
+                    .description("Errors returned by the deposit API")
+                    .tag("exception", type.getSimpleName())
+                    .tag("status", String.valueOf(status.value()))
+                    .register(registry));
+        }
+        counter.increment();
+    }
 }
-
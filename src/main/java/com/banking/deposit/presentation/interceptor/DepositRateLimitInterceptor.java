@@ -0,0 +1,104 @@
+package com.banking.deposit.presentation.interceptor;
+
+import com.banking.deposit.application.exception.ServiceOverloadedException;
+import com.banking.deposit.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.banking.deposit.infrastructure.ratelimit.DepositRateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Applies the client and account rate limits and the adaptive concurrency
+ * limit before a deposit API handler runs. Rejections surface as exceptions,
+ * which {@code GlobalExceptionHandler} turns into 429 or 503 with
+ * {@code Retry-After}.
+ * <p>
+ * The account is taken from the {@code accountNumber} path variable; the
+ * create endpoint checks the account in its request body itself. A request
+ * that goes asynchronous, such as a parked watch, gives its concurrency slot
+ * back while it waits. A request rejected by the account or concurrency
+ * limit, here or in the handler, gets its client token back.
+ */
+public class DepositRateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = DepositRateLimitInterceptor.class.getName() + ".PERMIT";
+    private static final String CLIENT_KEY_ATTRIBUTE = DepositRateLimitInterceptor.class.getName() + ".CLIENT_KEY";
+
+    private final DepositRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final String clientIdHeader;
+
+    public DepositRateLimitInterceptor(DepositRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                       String clientIdHeader) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String clientKey = clientKey(request);
+        rateLimiter.checkClient(clientKey);
+        try {
+            String accountNumber = accountNumber(request);
+            if (accountNumber != null) {
+                rateLimiter.checkAccount(accountNumber);
+            }
+            if (concurrencyLimiter.isEnabled()) {
+                if (!concurrencyLimiter.tryAcquire()) {
+                    throw new ServiceOverloadedException(concurrencyLimiter.getRetryAfter());
+                }
+                request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+            }
+        } catch (RuntimeException ex) {
+            rateLimiter.refundClient(clientKey);
+            throw ex;
+        }
+        request.setAttribute(CLIENT_KEY_ATTRIBUTE, clientKey);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+        Object clientKey = request.getAttribute(CLIENT_KEY_ATTRIBUTE);
+        if (clientKey != null && response.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            // The handler rejected the account in the request body
+            request.removeAttribute(CLIENT_KEY_ATTRIBUTE);
+            rateLimiter.refundClient((String) clientKey);
+        }
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(clientIdHeader);
+        return clientId != null && !clientId.isBlank() ? "id:" + clientId : "addr:" + request.getRemoteAddr();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String accountNumber(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? ((Map<String, String>) map).get("accountNumber") : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.banking.deposit.presentation.interceptor;
+
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import com.banking.deposit.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.banking.deposit.infrastructure.ratelimit.DepositRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts {@link DepositRateLimitInterceptor} in front of the deposit endpoints.
+ * The limiters are looked up lazily so that controller slice tests, which do
+ * not create them, run without limits.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DepositRateLimitWebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<DepositRateLimiter> rateLimiter;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter;
+    private final ObjectProvider<DepositRateLimitProperties> properties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        DepositRateLimiter limiter = rateLimiter.getIfAvailable();
+        AdaptiveConcurrencyLimiter concurrency = concurrencyLimiter.getIfAvailable();
+        DepositRateLimitProperties settings = properties.getIfAvailable();
+        if (limiter == null || concurrency == null || settings == null) {
+            return;
+        }
+        registry.addInterceptor(new DepositRateLimitInterceptor(limiter, concurrency, settings.getClientIdHeader()))
+                .addPathPatterns("/api/v1/deposits", "/api/v1/deposits/**");
+    }
+}
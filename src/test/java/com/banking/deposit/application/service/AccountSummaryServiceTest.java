@@ -0,0 +1,96 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.AccountDepositSummaryResponse;
+import com.banking.deposit.application.dto.AccountSummaryRebuildResponse;
+import com.banking.deposit.domain.model.AccountDepositSummary;
+import com.banking.deposit.infrastructure.config.AccountSummaryProperties;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSummaryServiceTest {
+    
+    @Mock
+    private AccountDepositSummaryRepository summaryRepository;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private AccountSummaryService accountSummaryService;
+    
+    @BeforeEach
+    void setUp() {
+        AccountSummaryProperties properties = new AccountSummaryProperties();
+        properties.setRebuildParallelism(2);
+        properties.setRebuildPartitionSize(2);
+        accountSummaryService = new AccountSummaryService(summaryRepository, transactionTemplate, properties);
+        
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+    
+    @Test
+    void testGetSummary_MapsOneEntryPerCurrency() {
+        LocalDateTime lastDepositAt = LocalDateTime.now();
+        when(summaryRepository.findByAccountNumberOrderByCurrency("ACC123456789")).thenReturn(List.of(
+                AccountDepositSummary.builder()
+                        .accountNumber("ACC123456789")
+                        .currency("EUR")
+                        .completedCount(2)
+                        .completedAmount(new BigDecimal("30.00"))
+                        .lastDepositAt(lastDepositAt)
+                        .build()));
+        
+        AccountDepositSummaryResponse response = accountSummaryService.getSummary("ACC123456789");
+        
+        assertEquals("ACC123456789", response.getAccountNumber());
+        assertEquals(1, response.getCurrencies().size());
+        assertEquals("EUR", response.getCurrencies().get(0).getCurrency());
+        assertEquals(2, response.getCurrencies().get(0).getCompletedCount());
+        assertEquals(new BigDecimal("30.00"), response.getCurrencies().get(0).getCompletedAmount());
+        assertEquals(lastDepositAt, response.getCurrencies().get(0).getLastDepositAt());
+    }
+    
+    @Test
+    void testRebuild_CoversAccountNumbersInContiguousRanges() {
+        when(summaryRepository.findCompletedAccountNumbers(null, 2)).thenReturn(List.of("A1", "A2"));
+        when(summaryRepository.findCompletedAccountNumbers("A2", 2)).thenReturn(List.of("A3", "A4"));
+        when(summaryRepository.findCompletedAccountNumbers("A4", 2)).thenReturn(List.of("A5"));
+        when(summaryRepository.rebuildRange(isNull(), eq("A2"), any())).thenReturn(3);
+        when(summaryRepository.rebuildRange(eq("A2"), eq("A4"), any())).thenReturn(2);
+        when(summaryRepository.rebuildRange(eq("A4"), isNull(), any())).thenReturn(1);
+        
+        AccountSummaryRebuildResponse response = accountSummaryService.rebuild();
+        
+        assertEquals(3, response.getPartitions());
+        assertEquals(6, response.getSummaryRows());
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+    
+    @Test
+    void testRebuild_WithoutCompletedDepositsClearsEverything() {
+        when(summaryRepository.findCompletedAccountNumbers(null, 2)).thenReturn(List.of());
+        
+        AccountSummaryRebuildResponse response = accountSummaryService.rebuild();
+        
+        assertEquals(1, response.getPartitions());
+        assertEquals(0, response.getSummaryRows());
+        verify(summaryRepository).rebuildRange(isNull(), isNull(), any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.BatchDepositResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.config.DepositBatchProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositBatchServiceTest {
+    
+    @Mock
+    private DepositRepository depositRepository;
+    
+    @Mock
+    private DepositMapper depositMapper;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private DepositBatchProperties properties;
+    
+    private DepositBatchService depositBatchService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositBatchProperties();
+        properties.setMaxItems(10);
+        properties.setChunkSize(2);
+        depositBatchService = new DepositBatchService(depositRepository, depositMapper,
+                new DepositRequestValidator(
+                        new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader())),
+                entityManager, eventPublisher, properties);
+    }
+    
+    private DepositRequest validRequest() {
+        return DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+    }
+    
+    @Test
+    void testCreateDeposits_FlushesInChunks() {
+        when(depositMapper.toEntity(any(DepositRequest.class))).thenAnswer(inv -> new Deposit());
+        when(depositMapper.toResponse(any(Deposit.class))).thenReturn(new DepositResponse());
+        
+        List<DepositRequest> requests = Collections.nCopies(5, validRequest());
+        BatchDepositResponse response = depositBatchService.createDeposits(requests);
+        
+        assertEquals(5, response.getTotal());
+        assertEquals(5, response.getCreated());
+        assertEquals(0, response.getRejected());
+        verify(depositRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher, times(5)).publishEvent(any(DepositCreatedEvent.class));
+    }
+    
+    @Test
+    void testCreateDeposits_ReportsInvalidItems() {
+        when(depositMapper.toEntity(any(DepositRequest.class))).thenAnswer(inv -> new Deposit());
+        when(depositMapper.toResponse(any(Deposit.class))).thenReturn(new DepositResponse());
+        
+        DepositRequest invalid = validRequest();
+        invalid.setCurrency("usd");
+        List<DepositRequest> requests = new ArrayList<>();
+        requests.add(validRequest());
+        requests.add(invalid);
+        requests.add(null);
+        
+        BatchDepositResponse response = depositBatchService.createDeposits(requests);
+        
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals(BatchDepositResponse.ItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BatchDepositResponse.ItemStatus.REJECTED, response.getResults().get(1).getStatus());
+        assertEquals("currency", response.getResults().get(1).getValidationErrors().get(0).getField());
+        assertEquals(BatchDepositResponse.ItemStatus.REJECTED, response.getResults().get(2).getStatus());
+    }
+    
+    @Test
+    void testCreateDeposits_TooManyItems() {
+        List<DepositRequest> requests = Collections.nCopies(11, validRequest());
+        
+        assertThrows(ValidationException.class, () -> depositBatchService.createDeposits(requests));
+        verifyNoInteractions(depositRepository);
+    }
+}
@@ -0,0 +1,166 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.BulkStatusTransitionRequest;
+import com.banking.deposit.application.dto.BulkStatusTransitionResponse;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCache;
+import com.banking.deposit.infrastructure.config.DepositBulkTransitionProperties;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositBulkTransitionServiceTest {
+    
+    @Mock
+    private DepositRepository depositRepository;
+    
+    @Mock
+    private DepositMapper depositMapper;
+    
+    @Mock
+    private DepositCache depositCache;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private DepositBulkTransitionProperties properties;
+    
+    private DepositBulkTransitionService depositBulkTransitionService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositBulkTransitionProperties();
+        properties.setChunkSize(2);
+        properties.setMaxDeposits(10);
+        depositBulkTransitionService = new DepositBulkTransitionService(depositRepository, depositMapper,
+                depositCache, eventPublisher, transactionTemplate, properties);
+        
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(depositMapper.toResponse(any(Deposit.class)))
+                .thenAnswer(inv -> DepositResponse.builder().id(inv.<Deposit>getArgument(0).getId()).build());
+    }
+    
+    private static Deposit completed(Long id) {
+        return Deposit.builder().id(id).status(DepositStatus.COMPLETED).build();
+    }
+    
+    @Test
+    void testTransitionIds_ReportsOutcomePerId() {
+        when(depositRepository.transitionStatuses(eq(List.of(1L, 2L)), eq(DepositStatus.COMPLETED), any()))
+                .thenReturn(List.of(completed(1L)));
+        when(depositRepository.findStatusesByIds(List.of(2L))).thenReturn(Map.of(2L, DepositStatus.FAILED));
+        when(depositRepository.transitionStatuses(eq(List.of(3L)), eq(DepositStatus.COMPLETED), any()))
+                .thenReturn(List.of());
+        when(depositRepository.findStatusesByIds(List.of(3L))).thenReturn(Map.of());
+        
+        BulkStatusTransitionResponse response = depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder()
+                        .targetStatus(DepositStatus.COMPLETED)
+                        .ids(List.of(1L, 2L, 1L, 3L))
+                        .build());
+        
+        assertEquals(1, response.getTransitioned());
+        assertEquals(1, response.getConflicts());
+        assertEquals(1, response.getNotFound());
+        assertEquals(3, response.getResults().size());
+        assertEquals(BulkStatusTransitionResponse.Outcome.TRANSITIONED, response.getResults().get(0).getOutcome());
+        assertEquals(BulkStatusTransitionResponse.Outcome.CONFLICT, response.getResults().get(1).getOutcome());
+        assertEquals(DepositStatus.FAILED, response.getResults().get(1).getCurrentStatus());
+        assertEquals(BulkStatusTransitionResponse.Outcome.NOT_FOUND, response.getResults().get(2).getOutcome());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(depositCache).invalidateAll(Set.of(1L));
+        verify(eventPublisher).publishEvent(any(DepositStatusChangedEvent.class));
+    }
+    
+    @Test
+    void testTransitionFiltered_WalksCandidatesUntilExhausted() {
+        LocalDateTime cutoff = LocalDateTime.of(2024, 1, 15, 0, 0);
+        when(depositRepository.findTransitionCandidateIds(eq(DepositStatus.COMPLETED), isNull(), isNull(),
+                eq(cutoff), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(5L))
+                .thenReturn(List.of());
+        when(depositRepository.transitionStatuses(any(), eq(DepositStatus.COMPLETED), any()))
+                .thenAnswer(inv -> inv.<List<Long>>getArgument(0).stream()
+                        .map(DepositBulkTransitionServiceTest::completed).toList());
+        
+        BulkStatusTransitionResponse response = depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder()
+                        .targetStatus(DepositStatus.COMPLETED)
+                        .filter(BulkStatusTransitionRequest.Filter.builder().createdBefore(cutoff).build())
+                        .build());
+        
+        assertEquals(3, response.getTransitioned());
+        assertFalse(response.isHasMore());
+        verify(depositRepository).findTransitionCandidateIds(DepositStatus.COMPLETED, null, null, cutoff, 0L, 2);
+        verify(depositRepository).findTransitionCandidateIds(DepositStatus.COMPLETED, null, null, cutoff, 2L, 2);
+        verify(depositRepository).findTransitionCandidateIds(DepositStatus.COMPLETED, null, null, cutoff, 5L, 2);
+    }
+    
+    @Test
+    void testTransitionFiltered_StopsAtMaxDeposits() {
+        properties.setMaxDeposits(2);
+        when(depositRepository.findTransitionCandidateIds(eq(DepositStatus.FAILED), eq("ACC123456789"), isNull(),
+                isNull(), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(depositRepository.transitionStatuses(any(), eq(DepositStatus.FAILED), any()))
+                .thenAnswer(inv -> inv.<List<Long>>getArgument(0).stream()
+                        .map(DepositBulkTransitionServiceTest::completed).toList());
+        
+        BulkStatusTransitionResponse response = depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder()
+                        .targetStatus(DepositStatus.FAILED)
+                        .filter(BulkStatusTransitionRequest.Filter.builder().accountNumber("ACC123456789").build())
+                        .build());
+        
+        assertEquals(2, response.getTransitioned());
+        assertTrue(response.isHasMore());
+    }
+    
+    @Test
+    void testTransition_RequiresExactlyOneSelector() {
+        assertThrows(ValidationException.class, () -> depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder().targetStatus(DepositStatus.COMPLETED).build()));
+        assertThrows(ValidationException.class, () -> depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder()
+                        .targetStatus(DepositStatus.COMPLETED)
+                        .ids(List.of(1L))
+                        .filter(BulkStatusTransitionRequest.Filter.builder().accountNumber("ACC123456789").build())
+                        .build()));
+        assertThrows(ValidationException.class, () -> depositBulkTransitionService.transition(
+                BulkStatusTransitionRequest.builder()
+                        .targetStatus(DepositStatus.COMPLETED)
+                        .filter(new BulkStatusTransitionRequest.Filter())
+                        .build()));
+        verifyNoInteractions(depositRepository);
+    }
+}
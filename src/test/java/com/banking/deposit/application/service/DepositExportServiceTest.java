@@ -0,0 +1,105 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositExportFilter;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositExportFormat;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.DepositExportProperties;
+import com.banking.deposit.infrastructure.repository.DepositExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositExportServiceTest {
+    
+    @Mock
+    private DepositExportRepository depositExportRepository;
+    
+    @Mock
+    private DepositMapper depositMapper;
+    
+    private DepositExportService depositExportService;
+    
+    private final DepositExportFilter filter = DepositExportFilter.builder()
+            .accountNumber("ACC123456789")
+            .build();
+    
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        depositExportService = new DepositExportService(depositExportRepository, depositMapper,
+                objectMapper, new DepositExportProperties());
+        
+        Deposit first = Deposit.builder().id(1L).build();
+        Deposit second = Deposit.builder().id(2L).build();
+        when(depositMapper.toResponse(first)).thenReturn(response(1L, "Salary"));
+        when(depositMapper.toResponse(second)).thenReturn(response(2L, "Refund, \"late\""));
+        when(depositExportRepository.streamDeposits(eq(filter), anyInt(), any())).thenAnswer(inv -> {
+            Consumer<Deposit> consumer = inv.getArgument(2);
+            consumer.accept(first);
+            consumer.accept(second);
+            return 2L;
+        });
+    }
+    
+    private static DepositResponse response(Long id, String description) {
+        return DepositResponse.builder()
+                .id(id)
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("10.50"))
+                .status(DepositStatus.COMPLETED)
+                .currency("USD")
+                .description(description)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 11, 0))
+                .build();
+    }
+    
+    @Test
+    void testExportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long count = depositExportService.export(filter, DepositExportFormat.NDJSON, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+        assertTrue(lines[1].contains("\"createdAt\":\"2024-01-15T10:30:00\""));
+    }
+    
+    @Test
+    void testExportCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        depositExportService.export(filter, DepositExportFormat.CSV, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(DepositExportService.CSV_HEADER, lines[0]);
+        assertEquals("1,ACC123456789,10.50,COMPLETED,USD,Salary,2024-01-15T10:30,2024-01-15T11:00", lines[1]);
+        assertEquals("2,ACC123456789,10.50,COMPLETED,USD,\"Refund, \"\"late\"\"\",2024-01-15T10:30,2024-01-15T11:00",
+                lines[2]);
+    }
+}
@@ -0,0 +1,198 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.exception.IdempotencyKeyMismatchException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositIdempotencyKey;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.concurrency.AccountWriteStripes;
+import com.banking.deposit.infrastructure.config.DepositIdempotencyProperties;
+import com.banking.deposit.infrastructure.repository.DepositIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositIdempotencyServiceTest {
+    
+    @Mock
+    private DepositService depositService;
+    
+    @Mock
+    private DepositIdempotencyKeyRepository keyRepository;
+    
+    @Mock
+    private AccountWriteStripes writeStripes;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    
+    private DepositIdempotencyService depositIdempotencyService;
+    
+    private DepositRequest request;
+    private DepositResponse response;
+    
+    @BeforeEach
+    void setUp() {
+        DepositIdempotencyProperties properties = new DepositIdempotencyProperties();
+        properties.setBloomExpectedKeys(1_000);
+        depositIdempotencyService = new DepositIdempotencyService(
+                depositService, keyRepository, writeStripes, transactionTemplate, objectMapper, properties);
+        
+        lenient().when(writeStripes.execute(anyString(), any()))
+                .thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        
+        request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .description("Test deposit")
+                .build();
+        response = DepositResponse.builder()
+                .id(1L)
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .status(DepositStatus.PENDING)
+                .currency("USD")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+    
+    private DepositRequest copyWithAmount(String amount) {
+        return DepositRequest.builder()
+                .accountNumber(request.getAccountNumber())
+                .amount(new BigDecimal(amount))
+                .currency(request.getCurrency())
+                .description(request.getDescription())
+                .build();
+    }
+    
+    private DepositIdempotencyKey storedKey(String requestHash, LocalDateTime expiresAt) throws Exception {
+        return DepositIdempotencyKey.builder()
+                .idempotencyKey("key-1")
+                .requestHash(requestHash)
+                .depositId(1L)
+                .responseBody(objectMapper.writeValueAsString(response))
+                .createdAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+    
+    @Test
+    void testCreateDeposit_NewKeyStoresResponseWithoutLookup() {
+        when(depositService.createDeposit(request)).thenReturn(response);
+        
+        DepositIdempotencyService.Result result = depositIdempotencyService.createDeposit("key-1", request);
+        
+        assertFalse(result.isReplayed());
+        assertSame(response, result.getResponse());
+        ArgumentCaptor<DepositIdempotencyKey> saved = ArgumentCaptor.forClass(DepositIdempotencyKey.class);
+        verify(keyRepository).saveAndFlush(saved.capture());
+        assertEquals("key-1", saved.getValue().getIdempotencyKey());
+        assertEquals(1L, saved.getValue().getDepositId());
+        assertEquals(DepositIdempotencyService.hash(request), saved.getValue().getRequestHash());
+        verify(keyRepository, never()).findById(anyString());
+    }
+    
+    @Test
+    void testCreateDeposit_RetryReplaysFromMemory() {
+        when(depositService.createDeposit(request)).thenReturn(response);
+        depositIdempotencyService.createDeposit("key-1", request);
+        
+        DepositRequest retry = copyWithAmount("1000");
+        DepositIdempotencyService.Result result = depositIdempotencyService.createDeposit("key-1", retry);
+        
+        assertTrue(result.isReplayed());
+        assertEquals(1L, result.getResponse().getId());
+        verify(depositService, times(1)).createDeposit(any());
+        verify(keyRepository, never()).findById(anyString());
+    }
+    
+    @Test
+    void testCreateDeposit_DifferentRequestWithSameKeyIsRejected() {
+        when(depositService.createDeposit(request)).thenReturn(response);
+        depositIdempotencyService.createDeposit("key-1", request);
+        
+        DepositRequest other = copyWithAmount("5.00");
+        
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> depositIdempotencyService.createDeposit("key-1", other));
+    }
+    
+    @Test
+    void testCreateDeposit_ConcurrentInsertReplaysStoredResponse() throws Exception {
+        when(depositService.createDeposit(request)).thenReturn(response);
+        when(keyRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(keyRepository.findById("key-1")).thenReturn(Optional.of(
+                storedKey(DepositIdempotencyService.hash(request), LocalDateTime.now().plusHours(1))));
+        
+        DepositIdempotencyService.Result result = depositIdempotencyService.createDeposit("key-1", request);
+        
+        assertTrue(result.isReplayed());
+        assertEquals(1L, result.getResponse().getId());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), result.getResponse().getCreatedAt());
+    }
+    
+    @Test
+    void testCreateDeposit_ExpiredKeyCreatesAgain() throws Exception {
+        when(depositService.createDeposit(request)).thenReturn(response);
+        when(keyRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(null);
+        when(keyRepository.findById("key-1")).thenReturn(Optional.of(
+                storedKey(DepositIdempotencyService.hash(request), LocalDateTime.now().minusMinutes(1))));
+        
+        DepositIdempotencyService.Result result = depositIdempotencyService.createDeposit("key-1", request);
+        
+        assertFalse(result.isReplayed());
+        verify(keyRepository).deleteExpired(eq("key-1"), any(LocalDateTime.class));
+        verify(keyRepository, times(2)).saveAndFlush(any());
+    }
+    
+    @Test
+    void testCreateDeposit_RejectsOverlongKey() {
+        assertThrows(ValidationException.class,
+                () -> depositIdempotencyService.createDeposit("k".repeat(256), request));
+        verifyNoInteractions(depositService);
+    }
+    
+    @Test
+    void testHash_MissingDescriptionDiffersFromNullText() {
+        DepositRequest withoutDescription = copyWithAmount("1000.00");
+        withoutDescription.setDescription(null);
+        DepositRequest nullText = copyWithAmount("1000.00");
+        nullText.setDescription("null");
+        DepositRequest empty = copyWithAmount("1000.00");
+        empty.setDescription("");
+        
+        assertNotEquals(DepositIdempotencyService.hash(withoutDescription), DepositIdempotencyService.hash(nullText));
+        assertNotEquals(DepositIdempotencyService.hash(withoutDescription), DepositIdempotencyService.hash(empty));
+        assertEquals(DepositIdempotencyService.hash(request), DepositIdempotencyService.hash(copyWithAmount("1000.0")));
+    }
+}
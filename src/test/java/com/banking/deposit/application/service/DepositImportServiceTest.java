@@ -0,0 +1,205 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositImportResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositImport;
+import com.banking.deposit.domain.model.DepositImportFormat;
+import com.banking.deposit.domain.model.DepositImportStatus;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.config.DepositImportProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import com.banking.deposit.infrastructure.repository.DepositImportRepository;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositImportServiceTest {
+    
+    @Mock
+    private DepositRepository depositRepository;
+    
+    @Mock
+    private DepositImportRepository depositImportRepository;
+    
+    @Mock
+    private DepositMapper depositMapper;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private DepositImportService depositImportService;
+    
+    @BeforeEach
+    void setUp() {
+        DepositImportProperties properties = new DepositImportProperties();
+        properties.setChunkSize(2);
+        depositImportService = new DepositImportService(depositRepository, depositImportRepository,
+                depositMapper,
+                new DepositRequestValidator(
+                        new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader())),
+                new ObjectMapper(), entityManager, transactionTemplate, eventPublisher, properties);
+        
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(depositImportRepository.save(any(DepositImport.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(depositMapper.toEntity(any(DepositRequest.class))).thenAnswer(inv -> new Deposit());
+    }
+    
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void testImportNdjson_CountsAcceptedAndRejected() {
+        String ndjson = """
+                {"accountNumber":"ACC123456789","amount":100.00,"currency":"USD"}
+                {"accountNumber":"ACC123456789","amount":-1,"currency":"USD"}
+                
+                not json
+                {"accountNumber":"ACC987654321","amount":5.50,"currency":"EUR"}
+                """;
+        
+        DepositImportResponse response = depositImportService.importDeposits(
+                body(ndjson), DepositImportFormat.NDJSON, null);
+        
+        assertEquals(DepositImportStatus.COMPLETED, response.getStatus());
+        assertEquals(4, response.getRecordsCommitted());
+        assertEquals(2, response.getAccepted());
+        assertEquals(2, response.getRejected());
+        assertEquals(2, response.getRejects().get(0).getRecord());
+        assertEquals(3, response.getRejects().get(1).getRecord());
+        assertEquals("record", response.getRejects().get(1).getValidationErrors().get(0).getField());
+        verify(depositRepository, times(3)).saveAll(any());
+    }
+    
+    @Test
+    void testImportCsv_ResumesAfterCheckpoint() {
+        DepositImport checkpoint = DepositImport.builder()
+                .id("import-1")
+                .format(DepositImportFormat.CSV)
+                .status(DepositImportStatus.INTERRUPTED)
+                .lastCommittedRecord(2)
+                .acceptedCount(2)
+                .version(3L)
+                .build();
+        when(depositImportRepository.findById("import-1")).thenReturn(Optional.of(checkpoint));
+        String csv = """
+                account_number,amount,currency,description
+                ACC123456789,100.00,USD,first
+                ACC123456789,200.00,USD,second
+                ACC123456789,300.00,USD,"third, with comma"
+                """;
+        
+        DepositImportResponse response = depositImportService.importDeposits(
+                body(csv), DepositImportFormat.CSV, "import-1");
+        
+        assertEquals(3, response.getRecordsCommitted());
+        assertEquals(3, response.getAccepted());
+        ArgumentCaptor<DepositRequest> requests = ArgumentCaptor.forClass(DepositRequest.class);
+        verify(depositMapper, times(1)).toEntity(requests.capture());
+        assertEquals("third, with comma", requests.getValue().getDescription());
+    }
+    
+    @Test
+    void testImportCsv_QuotedLineBreaksStayInField() {
+        String csv = "accountNumber,amount,currency,description\r\n"
+                + "ACC123456789,100.00,USD,\"first line\nsecond line\r\nthird \"\"line\"\"\"\r\n"
+                + "ACC123456789,200.00,USD,plain\r\n";
+        
+        DepositImportResponse response = depositImportService.importDeposits(
+                body(csv), DepositImportFormat.CSV, null);
+        
+        assertEquals(2, response.getRecordsCommitted());
+        assertEquals(2, response.getAccepted());
+        ArgumentCaptor<DepositRequest> requests = ArgumentCaptor.forClass(DepositRequest.class);
+        verify(depositMapper, times(2)).toEntity(requests.capture());
+        assertEquals("first line\nsecond line\r\nthird \"line\"", requests.getAllValues().get(0).getDescription());
+        assertEquals("plain", requests.getAllValues().get(1).getDescription());
+    }
+    
+    @Test
+    void testImportNdjson_OversizedRecordRejectedWithoutBuffering() {
+        String oversized = "{\"description\":\"" + "x".repeat(DepositRecordReader.MAX_RECORD_LENGTH * 64) + "\"}";
+        String ndjson = oversized + "\n"
+                + "{\"accountNumber\":\"ACC123456789\",\"amount\":100.00,\"currency\":\"USD\"}\n";
+        
+        DepositImportResponse response = depositImportService.importDeposits(
+                body(ndjson), DepositImportFormat.NDJSON, null);
+        
+        assertEquals(2, response.getRecordsCommitted());
+        assertEquals(1, response.getAccepted());
+        assertEquals(1, response.getRejected());
+        assertEquals(1, response.getRejects().get(0).getRecord());
+        assertEquals("Record exceeds " + DepositRecordReader.MAX_RECORD_LENGTH + " characters",
+                response.getRejects().get(0).getValidationErrors().get(0).getMessage());
+    }
+    
+    @Test
+    void testImportCsv_MissingHeaderColumn() {
+        InputStream csv = body("accountNumber,amount\nACC123456789,100.00\n");
+        
+        assertThrows(ValidationException.class,
+                () -> depositImportService.importDeposits(csv, DepositImportFormat.CSV, null));
+        verify(depositRepository, never()).saveAll(any());
+    }
+    
+    @Test
+    void testImport_FormatMismatchOnResume() {
+        when(depositImportRepository.findById("import-1")).thenReturn(Optional.of(DepositImport.builder()
+                .id("import-1")
+                .format(DepositImportFormat.NDJSON)
+                .status(DepositImportStatus.INTERRUPTED)
+                .build()));
+        
+        assertThrows(ValidationException.class,
+                () -> depositImportService.importDeposits(body(""), DepositImportFormat.CSV, "import-1"));
+    }
+    
+    @Test
+    void testImport_CompletedImportIsNotReapplied() {
+        when(depositImportRepository.findById("import-1")).thenReturn(Optional.of(DepositImport.builder()
+                .id("import-1")
+                .format(DepositImportFormat.NDJSON)
+                .status(DepositImportStatus.COMPLETED)
+                .lastCommittedRecord(10)
+                .acceptedCount(10)
+                .build()));
+        
+        DepositImportResponse response = depositImportService.importDeposits(
+                body("{}"), DepositImportFormat.NDJSON, "import-1");
+        
+        assertEquals(10, response.getAccepted());
+        assertEquals(List.of(), response.getRejects());
+        verifyNoInteractions(depositRepository);
+    }
+}
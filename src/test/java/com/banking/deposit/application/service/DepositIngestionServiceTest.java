@@ -0,0 +1,147 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositIngestionResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.exception.IngestionQueueFullException;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.infrastructure.config.DepositIngestionProperties;
+import com.banking.deposit.infrastructure.ingestion.DepositIngestionJournal;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositIngestionServiceTest {
+    
+    @Mock
+    private DepositRepository depositRepository;
+    
+    @Mock
+    private DepositMapper depositMapper;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @TempDir
+    Path journalDirectory;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private DepositIngestionProperties properties;
+    
+    private DepositIngestionService depositIngestionService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositIngestionProperties();
+        properties.setEnabled(true);
+        properties.setWriterThreads(0);
+        properties.setQueueCapacity(2);
+        properties.setJournalDirectory(journalDirectory);
+        depositIngestionService = new DepositIngestionService(depositRepository, depositMapper,
+                transactionTemplate, eventPublisher, new ObjectMapper(), properties, meterRegistry);
+        
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(depositMapper.toEntity(any(DepositRequest.class)))
+                .thenAnswer(inv -> Deposit.builder().amount(inv.<DepositRequest>getArgument(0).getAmount()).build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        depositIngestionService.stop();
+    }
+    
+    private static DepositRequest request(String amount) {
+        return DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal(amount))
+                .currency("USD")
+                .build();
+    }
+    
+    private static DepositIngestionJournal.Entry entry(String trackingId, String amount) {
+        return new DepositIngestionJournal.Entry(trackingId, request(amount), 1, false);
+    }
+    
+    @Test
+    void testSubmit_RejectsWhenQueueIsFull() {
+        depositIngestionService.start();
+        
+        DepositIngestionResponse response = depositIngestionService.submit(request("10.00"));
+        depositIngestionService.submit(request("20.00"));
+        
+        assertEquals(DepositIngestionResponse.State.QUEUED, response.getState());
+        assertEquals(DepositIngestionResponse.State.QUEUED,
+                depositIngestionService.getStatus(response.getTrackingId()).getState());
+        assertThrows(IngestionQueueFullException.class, () -> depositIngestionService.submit(request("30.00")));
+        assertEquals(2, meterRegistry.get("deposit.ingestion.queue.depth").gauge().value());
+        assertEquals(1, meterRegistry.get("deposit.ingestion.rejected").counter().count());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStore_WritesBatchInOneTransaction() throws Exception {
+        depositIngestionService.start();
+        
+        depositIngestionService.store(List.of(entry("t-1", "10.00"), entry("t-2", "20.00")));
+        
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(depositRepository).saveAll(argThat((List<Deposit> deposits) -> deposits.size() == 2
+                && deposits.get(0).getTrackingId().equals("t-1")));
+        verify(depositRepository, never()).findStoredTrackingIds(anyList());
+        assertEquals(2, meterRegistry.get("deposit.ingestion.batch.size").summary().totalAmount());
+    }
+    
+    @Test
+    void testStore_SkipsRecoveredRecordsAlreadyStored() throws Exception {
+        depositIngestionService.start();
+        when(depositRepository.findStoredTrackingIds(List.of("t-1"))).thenReturn(List.of("t-1"));
+        
+        depositIngestionService.store(List.of(
+                new DepositIngestionJournal.Entry("t-1", request("10.00"), 1, true), entry("t-2", "20.00")));
+        
+        verify(depositRepository).saveAll(argThat((List<Deposit> deposits) -> deposits.size() == 1
+                && deposits.get(0).getTrackingId().equals("t-2")));
+    }
+    
+    @Test
+    void testStore_RejectedDepositIsReportedAndOthersStored() throws Exception {
+        depositIngestionService.start();
+        when(depositRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Deposit> deposits = inv.getArgument(0);
+            if (deposits.stream().anyMatch(d -> d.getAmount().compareTo(new BigDecimal("99")) == 0)) {
+                throw new DataIntegrityViolationException("check constraint");
+            }
+            return deposits;
+        });
+        
+        depositIngestionService.store(List.of(entry("t-1", "10.00"), entry("t-2", "99.00")));
+        
+        assertEquals(DepositIngestionResponse.State.FAILED, depositIngestionService.getStatus("t-2").getState());
+        verify(depositRepository, times(3)).saveAll(anyList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.BaseAmountBackfillResponse;
+import com.banking.deposit.application.dto.DepositCurrencyTotal;
+import com.banking.deposit.application.dto.DepositTotalsReport;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import com.banking.deposit.infrastructure.repository.DepositRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositReportServiceTest {
+    
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+    
+    @Mock
+    private DepositRepository depositRepository;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private CurrencyProperties properties;
+    
+    private DepositReportService depositReportService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new CurrencyProperties();
+        properties.setBackfillChunkSize(100);
+        depositReportService = new DepositReportService(depositRepository,
+                new CurrencyRegistry(properties, new DefaultResourceLoader()), transactionTemplate, properties);
+    }
+    
+    @Test
+    void testGetTotals_SumsCurrencies() {
+        when(depositRepository.sumByCurrency(DepositStatus.COMPLETED, FROM, TO)).thenReturn(List.of(
+                new DepositCurrencyTotal("EUR", 3L, new BigDecimal("300.00"), new BigDecimal("325.50"), 0L),
+                new DepositCurrencyTotal("USD", 2L, new BigDecimal("50.00"), new BigDecimal("40.00"), 1L),
+                new DepositCurrencyTotal("XTS", 1L, new BigDecimal("9.00"), null, 1L)));
+        
+        DepositTotalsReport report = depositReportService.getTotals(DepositStatus.COMPLETED, FROM, TO);
+        
+        assertEquals("USD", report.getBaseCurrency());
+        assertEquals(6, report.getDepositCount());
+        assertEquals(new BigDecimal("365.50"), report.getTotalBaseAmount());
+        assertEquals(2, report.getUnconvertedCount());
+        assertEquals(3, report.getCurrencies().size());
+    }
+    
+    @Test
+    void testGetTotals_EmptyRange() {
+        assertThrows(ValidationException.class,
+                () -> depositReportService.getTotals(DepositStatus.COMPLETED, TO, FROM));
+        verifyNoInteractions(depositRepository);
+    }
+    
+    @Test
+    void testBackfillBaseAmounts_OneTransactionPerChunk() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(depositRepository.findMinIdWithoutBaseAmount()).thenReturn(Optional.of(1L));
+        when(depositRepository.findMaxIdWithoutBaseAmount()).thenReturn(Optional.of(250L));
+        when(depositRepository.backfillBaseAmounts(anyLong(), anyLong(), any(), eq(2))).thenReturn(100, 100, 40);
+        when(depositRepository.countByBaseAmountIsNull()).thenReturn(3L);
+        
+        BaseAmountBackfillResponse response = depositReportService.backfillBaseAmounts();
+        
+        assertEquals(240, response.getUpdatedRows());
+        assertEquals(3, response.getUnconvertedRows());
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(depositRepository).backfillBaseAmounts(eq(1L), eq(101L), ratesWithEur(), eq(2));
+        verify(depositRepository).backfillBaseAmounts(eq(101L), eq(201L), ratesWithEur(), eq(2));
+        verify(depositRepository).backfillBaseAmounts(eq(201L), eq(301L), ratesWithEur(), eq(2));
+    }
+    
+    @Test
+    void testBackfillBaseAmounts_NothingToConvert() {
+        when(depositRepository.findMinIdWithoutBaseAmount()).thenReturn(Optional.empty());
+        when(depositRepository.findMaxIdWithoutBaseAmount()).thenReturn(Optional.empty());
+        
+        BaseAmountBackfillResponse response = depositReportService.backfillBaseAmounts();
+        
+        assertEquals(0, response.getUpdatedRows());
+        verifyNoInteractions(transactionTemplate);
+    }
+    
+    private static Map<String, BigDecimal> ratesWithEur() {
+        return argThat(rates -> rates.get("USD").compareTo(BigDecimal.ONE) == 0 && rates.containsKey("EUR"));
+    }
+}
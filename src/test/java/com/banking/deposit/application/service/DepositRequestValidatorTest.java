@@ -0,0 +1,198 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyDefinition;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Conformance of {@link DepositRequestValidator} with the Bean Validation
+ * constraints declared on {@link DepositRequest}, which know nothing of the
+ * currency registry; those tests accept any well-formed currency with two
+ * minor units.
+ */
+class DepositRequestValidatorTest {
+    
+    private static final List<String> ACCOUNT_NUMBERS = Arrays.asList(null, "", "   ", " \t\n", "ACC12345",
+            "ACC123456789", "ACC1234", "A1234567890123456789", "A12345678901234567890", "acc123456789",
+            "ACC-123456", "ACC12345\n", "ACC 12345", "ÄCC123456", "ACC１23456", "12345678");
+    
+    private static final List<String> CURRENCIES = Arrays.asList(null, "", "   ", "USD", "usd", "US", "USDX", "U$D",
+            "US1", "ÉUR", " USD", "EU\n");
+    
+    private static final List<String> AMOUNTS = Arrays.asList(null, "0.01", "0.010", "0.009", "0", "0.00", "-5",
+            "1000", "1000.00", "1000.001", "1E+3", "1E-2", "1.00E+2", "999999999999999.99", "1000000000000000",
+            "1000000000000000.00", "123456789012345", "0.001", "12.5");
+    
+    private static ValidatorFactory validatorFactory;
+    
+    private static Validator beanValidator;
+    
+    private static DepositRequestValidator validator;
+    
+    private static DepositRequestValidator registryValidator;
+    
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        CurrencyRegistry anyCurrency = mock(CurrencyRegistry.class);
+        when(anyCurrency.find(anyString()))
+                .thenAnswer(invocation -> new CurrencyDefinition(invocation.getArgument(0), 2, BigDecimal.ONE));
+        validator = new DepositRequestValidator(anyCurrency);
+        registryValidator = new DepositRequestValidator(
+                new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader()));
+    }
+    
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+    
+    @Test
+    void testValidate_MatchesBeanValidationForEdgeValues() {
+        for (String accountNumber : ACCOUNT_NUMBERS) {
+            for (String currency : CURRENCIES) {
+                for (String amount : AMOUNTS) {
+                    assertConforms(DepositRequest.builder()
+                            .accountNumber(accountNumber)
+                            .currency(currency)
+                            .amount(amount == null ? null : new BigDecimal(amount))
+                            .build());
+                }
+            }
+        }
+    }
+    
+    @Test
+    void testValidate_MatchesBeanValidationForDescriptions() {
+        for (int length : new int[] {0, 1, 499, 500, 501, 10_000}) {
+            assertConforms(DepositRequest.builder()
+                    .accountNumber("ACC123456789")
+                    .amount(new BigDecimal("10.00"))
+                    .currency("USD")
+                    .description("x".repeat(length))
+                    .build());
+        }
+    }
+    
+    @Test
+    void testValidate_MatchesBeanValidationForRandomRequests() {
+        Random random = new Random(7);
+        String alphabet = "AZaz09-_ .\tÄİ";
+        for (int i = 0; i < 20_000; i++) {
+            assertConforms(DepositRequest.builder()
+                    .accountNumber(random.nextInt(10) == 0 ? null : randomString(random, alphabet, 24))
+                    .currency(random.nextInt(10) == 0 ? null : randomString(random, alphabet, 5))
+                    .amount(random.nextInt(10) == 0 ? null
+                            : BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(8) - 3))
+                    .description(random.nextInt(10) == 0 ? null : "d".repeat(random.nextInt(520)))
+                    .build());
+        }
+    }
+    
+    @Test
+    void testValidate_NullRequest() {
+        List<ApiErrorResponse.ValidationError> errors = validator.validate(null);
+        
+        assertEquals(1, errors.size());
+        assertEquals("deposit", errors.get(0).getField());
+        assertEquals("Deposit is required", errors.get(0).getMessage());
+    }
+    
+    @Test
+    void testRequireValid() {
+        DepositRequest valid = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("10.00"))
+                .currency("USD")
+                .build();
+        DepositRequest invalid = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("0.001"))
+                .currency("USD")
+                .build();
+        
+        assertDoesNotThrow(() -> validator.requireValid(valid));
+        ValidationException ex = assertThrows(ValidationException.class, () -> validator.requireValid(invalid));
+        assertEquals("Validation failed", ex.getMessage());
+        assertEquals(List.of("amount: Amount must be greater than 0",
+                        "amount: Amount must have at most 2 decimal places"),
+                ex.getValidationErrors().stream().map(e -> e.getField() + ": " + e.getMessage()).toList());
+    }
+    
+    @Test
+    void testValidate_UnsupportedCurrency() {
+        List<ApiErrorResponse.ValidationError> errors = registryValidator.validate(DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("10.00"))
+                .currency("XXX")
+                .build());
+        
+        assertEquals(1, errors.size());
+        assertEquals("currency", errors.get(0).getField());
+        assertEquals("Currency is not supported", errors.get(0).getMessage());
+    }
+    
+    @Test
+    void testValidate_AmountBeyondCurrencyMinorUnits() {
+        DepositRequest fractionalYen = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("10.50"))
+                .currency("JPY")
+                .build();
+        DepositRequest wholeYen = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("100.00"))
+                .currency("JPY")
+                .build();
+        
+        List<ApiErrorResponse.ValidationError> errors = registryValidator.validate(fractionalYen);
+        
+        assertEquals(1, errors.size());
+        assertEquals("amount", errors.get(0).getField());
+        assertEquals("Amount has more decimal places than the currency allows", errors.get(0).getMessage());
+        assertTrue(registryValidator.validate(wholeYen).isEmpty());
+    }
+    
+    private void assertConforms(DepositRequest request) {
+        List<String> expected = beanValidator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        List<String> actual = validator.validate(request).stream()
+                .map(error -> error.getField() + ": " + error.getMessage())
+                .sorted()
+                .toList();
+        
+        assertEquals(expected, actual, request::toString);
+    }
+    
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        char[] chars = new char[random.nextInt(maxLength + 1)];
+        boolean plain = random.nextBoolean();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = plain ? (char) ('A' + random.nextInt(26)) : alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -1,30 +1,49 @@
 package com.banking.deposit.application.service;
 
+import com.banking.deposit.application.dto.CursorPageResponse;
 import com.banking.deposit.application.dto.DepositRequest;
 import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositCreatedEvent;
+import com.banking.deposit.application.event.DepositDeletedEvent;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.InvalidStatusTransitionException;
 import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ValidationException;
 import com.banking.deposit.domain.model.Deposit;
 import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCache;
+import com.banking.deposit.infrastructure.concurrency.AccountWriteStripes;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingContext;
 import com.banking.deposit.infrastructure.repository.DepositRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +55,15 @@ class DepositServiceTest {
     @Mock
     private DepositMapper depositMapper;
     
+    @Mock
+    private DepositCache depositCache;
+    
+    @Mock
+    private AccountWriteStripes writeStripes;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private DepositService depositService;
     
@@ -73,6 +101,9 @@ class DepositServiceTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        
+        lenient().when(writeStripes.execute(any(), any())).thenAnswer(inv ->
+                inv.<Supplier<?>>getArgument(1).get());
     }
     
     @Test
@@ -89,42 +120,115 @@ class DepositServiceTest {
         assertEquals(DepositStatus.PENDING, response.getStatus());
         
         verify(depositRepository, times(1)).save(any(Deposit.class));
+        verify(writeStripes).execute(eq("ACC123456789"), any());
+        verify(eventPublisher).publishEvent(new DepositCreatedEvent(depositResponse));
+    }
+    
+    private void readThroughCache() {
+        when(depositCache.get(any(), any())).thenAnswer(inv ->
+                inv.<Function<Long, DepositResponse>>getArgument(1).apply(inv.getArgument(0)));
     }
     
     @Test
     void testGetDepositById() {
-        when(depositRepository.findById(1L)).thenReturn(Optional.of(deposit));
-        when(depositMapper.toResponse(deposit)).thenReturn(depositResponse);
+        readThroughCache();
+        when(depositRepository.findResponseById(1L)).thenReturn(Optional.of(depositResponse));
         
         DepositResponse response = depositService.getDepositById(1L);
         
         assertNotNull(response);
         assertEquals(1L, response.getId());
-        verify(depositRepository, times(1)).findById(1L);
+        verify(depositRepository, times(1)).findResponseById(1L);
+        verifyNoInteractions(depositMapper);
+    }
+    
+    @Test
+    void testGetDepositById_MissReadsFromPrimary() {
+        readThroughCache();
+        when(depositRepository.findResponseById(1L)).thenAnswer(inv -> {
+            assertTrue(ReplicaRoutingContext.isPrimaryRequired());
+            return Optional.of(depositResponse);
+        });
+        
+        depositService.getDepositById(1L);
+        
+        assertFalse(ReplicaRoutingContext.isPrimaryRequired());
     }
     
     @Test
     void testGetDepositById_NotFound() {
-        when(depositRepository.findById(1L)).thenReturn(Optional.empty());
+        readThroughCache();
+        when(depositRepository.findResponseById(1L)).thenReturn(Optional.empty());
         
         assertThrows(ResourceNotFoundException.class, () -> depositService.getDepositById(1L));
-        verify(depositRepository, times(1)).findById(1L);
+        verify(depositRepository, times(1)).findResponseById(1L);
     }
     
     @Test
     void testGetAllDeposits() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Deposit> deposits = Arrays.asList(deposit);
-        Page<Deposit> depositPage = new PageImpl<>(deposits);
+        List<DepositResponse> deposits = Arrays.asList(depositResponse);
+        Page<DepositResponse> depositPage = new PageImpl<>(deposits);
         
-        when(depositRepository.findAll(pageable)).thenReturn(depositPage);
-        when(depositMapper.toResponse(deposit)).thenReturn(depositResponse);
+        when(depositRepository.findAllResponses(pageable)).thenReturn(depositPage);
         
         Page<DepositResponse> responsePage = depositService.getAllDeposits(pageable);
         
         assertNotNull(responsePage);
         assertEquals(1, responsePage.getTotalElements());
-        verify(depositRepository, times(1)).findAll(pageable);
+        verify(depositRepository, times(1)).findAllResponses(pageable);
+        verifyNoInteractions(depositMapper);
+    }
+    
+    @Test
+    void testGetDepositsByAccountNumber_Cursor() {
+        ScrollPosition last = ScrollPosition.forward(Map.of("createdAt", deposit.getCreatedAt(), "id", 1L));
+        Window<DepositResponse> window = Window.from(List.of(depositResponse), index -> last, true);
+        
+        when(depositRepository.scrollResponsesByAccountNumber(eq("ACC123456789"), any(ScrollPosition.class),
+                eq(Limit.of(1)))).thenReturn(window);
+        
+        CursorPageResponse<DepositResponse> firstPage =
+                depositService.getDepositsByAccountNumber("ACC123456789", null, 1);
+        
+        assertEquals(1, firstPage.getSize());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+        
+        depositService.getDepositsByAccountNumber("ACC123456789", firstPage.getNextCursor(), 1);
+        
+        ArgumentCaptor<ScrollPosition> position = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(depositRepository, times(2))
+                .scrollResponsesByAccountNumber(eq("ACC123456789"), position.capture(), any());
+        KeysetScrollPosition decoded = (KeysetScrollPosition) position.getAllValues().get(1);
+        assertEquals(1L, decoded.getKeys().get("id"));
+        assertEquals(deposit.getCreatedAt(), decoded.getKeys().get("createdAt"));
+    }
+    
+    @Test
+    void testGetDepositsByAccountNumber_CreatedRange() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(depositRepository.findResponsesByAccountNumberAndCreatedAtBetween(
+                "ACC123456789", from, to, pageable)).thenReturn(new PageImpl<>(List.of(depositResponse)));
+        
+        Page<DepositResponse> responsePage =
+                depositService.getDepositsByAccountNumber("ACC123456789", from, to, pageable);
+        
+        assertEquals(1, responsePage.getTotalElements());
+        
+        assertThrows(ValidationException.class,
+                () -> depositService.getDepositsByAccountNumber("ACC123456789", from, null, pageable));
+        assertThrows(ValidationException.class,
+                () -> depositService.getDepositsByAccountNumber("ACC123456789", to, from, "abc", 10));
+    }
+    
+    @Test
+    void testGetDeposits_InvalidCursor() {
+        assertThrows(ValidationException.class, () -> depositService.getDeposits("not-a-cursor", 20));
+        assertThrows(ValidationException.class, () -> depositService.getDeposits(null, 0));
+        verify(depositRepository, never()).scrollResponses(any(), any());
     }
     
     @Test
@@ -150,34 +254,93 @@ class DepositServiceTest {
                 .updatedAt(depositResponse.getUpdatedAt())
                 .build();
         
-        when(depositRepository.findById(1L)).thenReturn(Optional.of(deposit));
-        when(depositRepository.save(any(Deposit.class))).thenReturn(updatedDeposit);
+        when(depositRepository.transitionStatus(eq(1L), eq(DepositStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(updatedDeposit));
         when(depositMapper.toResponse(updatedDeposit)).thenReturn(updatedResponse);
         
         DepositResponse response = depositService.updateDepositStatus(1L, DepositStatus.COMPLETED);
         
         assertNotNull(response);
         assertEquals(DepositStatus.COMPLETED, response.getStatus());
-        verify(depositRepository, times(1)).save(any(Deposit.class));
+        verify(depositRepository, never()).findById(any());
+        verify(depositRepository, never()).save(any(Deposit.class));
+        verify(depositCache).invalidate(1L);
+        verify(eventPublisher).publishEvent(new DepositStatusChangedEvent(updatedResponse));
+    }
+    
+    @Test
+    void testUpdateDepositStatus_InvalidTransition() {
+        when(depositRepository.transitionStatus(eq(1L), eq(DepositStatus.FAILED), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(depositRepository.findStatusById(1L)).thenReturn(Optional.of(DepositStatus.COMPLETED));
+        
+        InvalidStatusTransitionException ex = assertThrows(InvalidStatusTransitionException.class,
+                () -> depositService.updateDepositStatus(1L, DepositStatus.FAILED));
+        
+        assertEquals("Cannot change status of deposit 1 from COMPLETED to FAILED", ex.getMessage());
+        verify(depositCache, never()).invalidate(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    @Test
+    void testUpdateDepositStatus_StripedByAccount() {
+        Deposit updatedDeposit = Deposit.builder()
+                .id(1L)
+                .accountNumber("ACC123456789")
+                .status(DepositStatus.COMPLETED)
+                .build();
+        when(writeStripes.isEnabled()).thenReturn(true);
+        when(depositRepository.findAccountNumberById(1L)).thenReturn(Optional.of("ACC123456789"));
+        when(depositRepository.transitionStatus(eq(1L), eq(DepositStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(updatedDeposit));
+        when(depositMapper.toResponse(updatedDeposit)).thenReturn(depositResponse);
+        
+        depositService.updateDepositStatus(1L, DepositStatus.COMPLETED);
+        
+        verify(writeStripes).execute(eq("ACC123456789"), any());
+    }
+    
+    @Test
+    void testUpdateDepositStatus_StripedUnknownDeposit() {
+        when(writeStripes.isEnabled()).thenReturn(true);
+        when(depositRepository.findAccountNumberById(1L)).thenReturn(Optional.empty());
+        
+        assertThrows(ResourceNotFoundException.class,
+                () -> depositService.updateDepositStatus(1L, DepositStatus.COMPLETED));
+        verify(writeStripes, never()).execute(any(), any());
+        verify(depositRepository, never()).transitionStatus(any(), any(), any());
+    }
+    
+    @Test
+    void testUpdateDepositStatus_NotFound() {
+        when(depositRepository.transitionStatus(eq(1L), eq(DepositStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(depositRepository.findStatusById(1L)).thenReturn(Optional.empty());
+        
+        assertThrows(ResourceNotFoundException.class,
+                () -> depositService.updateDepositStatus(1L, DepositStatus.COMPLETED));
+        verify(eventPublisher, never()).publishEvent(any());
     }
     
     @Test
     void testDeleteDeposit() {
-        when(depositRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(depositRepository).deleteById(1L);
+        when(depositRepository.findById(1L)).thenReturn(Optional.of(deposit));
+        when(depositMapper.toResponse(deposit)).thenReturn(depositResponse);
         
         assertDoesNotThrow(() -> depositService.deleteDeposit(1L));
-        verify(depositRepository, times(1)).existsById(1L);
-        verify(depositRepository, times(1)).deleteById(1L);
+        verify(depositRepository, times(1)).delete(deposit);
+        verify(depositCache).invalidate(1L);
+        verify(eventPublisher).publishEvent(new DepositDeletedEvent(depositResponse));
     }
     
     @Test
     void testDeleteDeposit_NotFound() {
-        when(depositRepository.existsById(1L)).thenReturn(false);
+        when(depositRepository.findById(1L)).thenReturn(Optional.empty());
         
         assertThrows(ResourceNotFoundException.class, () -> depositService.deleteDeposit(1L));
-        verify(depositRepository, times(1)).existsById(1L);
-        verify(depositRepository, never()).deleteById(1L);
+        verify(depositRepository, never()).delete(any());
+        verify(depositCache, never()).invalidate(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
 
@@ -0,0 +1,142 @@
+package com.banking.deposit.application.service;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.cache.DepositCacheInvalidationBus;
+import com.banking.deposit.infrastructure.config.DepositWatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositWatchServiceTest {
+    
+    @Mock
+    private DepositService depositService;
+    
+    @Mock
+    private DepositCacheInvalidationBus invalidationBus;
+    
+    private DepositWatchProperties properties;
+    
+    private DepositWatchService depositWatchService;
+    
+    private Consumer<Long> invalidationListener;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new DepositWatchProperties();
+        depositWatchService = new DepositWatchService(depositService, properties, invalidationBus);
+        ArgumentCaptor<Consumer<Long>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(listener.capture());
+        invalidationListener = listener.getValue();
+    }
+    
+    private static DepositResponse deposit(DepositStatus status) {
+        return DepositResponse.builder().id(1L).status(status).build();
+    }
+    
+    @Test
+    void testWatch_CompletesOnStatusChange() {
+        when(depositService.getDepositById(1L)).thenReturn(deposit(DepositStatus.PENDING));
+        
+        DeferredResult<DepositResponse> first = depositWatchService.watch(1L, null, null);
+        DeferredResult<DepositResponse> second = depositWatchService.watch(1L, DepositStatus.PENDING, null);
+        assertFalse(first.hasResult());
+        assertFalse(second.hasResult());
+        
+        depositWatchService.onStatusChanged(new DepositStatusChangedEvent(deposit(DepositStatus.COMPLETED)));
+        
+        assertEquals(DepositStatus.COMPLETED, ((DepositResponse) first.getResult()).getStatus());
+        assertEquals(DepositStatus.COMPLETED, ((DepositResponse) second.getResult()).getStatus());
+    }
+    
+    @Test
+    void testWatch_AnswersImmediatelyWhenAlreadyChanged() {
+        when(depositService.getDepositById(1L)).thenReturn(deposit(DepositStatus.FAILED));
+        
+        DeferredResult<DepositResponse> result = depositWatchService.watch(1L, DepositStatus.PENDING, null);
+        
+        assertTrue(result.hasResult());
+        assertEquals(DepositStatus.FAILED, ((DepositResponse) result.getResult()).getStatus());
+    }
+    
+    @Test
+    void testWatch_LimitReachedFallsBackToCurrentState() {
+        properties.setMaxWaiters(1);
+        when(depositService.getDepositById(1L)).thenReturn(deposit(DepositStatus.PENDING));
+        
+        DeferredResult<DepositResponse> parked = depositWatchService.watch(1L, null, null);
+        DeferredResult<DepositResponse> overflow = depositWatchService.watch(1L, null, null);
+        
+        assertFalse(parked.hasResult());
+        assertTrue(overflow.hasResult());
+        assertEquals(1, depositWatchService.waiterCount());
+    }
+    
+    @Test
+    void testWatch_NonPositiveTimeoutRejected() {
+        assertThrows(ValidationException.class, () -> depositWatchService.watch(1L, null, Duration.ZERO));
+        assertThrows(ValidationException.class, () -> depositWatchService.watch(1L, null, Duration.ofSeconds(-5)));
+        assertEquals(0, depositWatchService.waiterCount());
+        verifyNoInteractions(depositService);
+    }
+    
+    @Test
+    void testWatch_NotFoundReleasesWaiter() {
+        when(depositService.getDepositById(1L)).thenThrow(new ResourceNotFoundException("Deposit not found with id: 1"));
+        
+        assertThrows(ResourceNotFoundException.class, () -> depositWatchService.watch(1L, null, null));
+        assertEquals(0, depositWatchService.waiterCount());
+    }
+    
+    @Test
+    void testWatch_CompletesOnChangeFromOtherInstance() {
+        when(depositService.getDepositById(1L))
+                .thenReturn(deposit(DepositStatus.PENDING))
+                .thenReturn(deposit(DepositStatus.PENDING))
+                .thenReturn(deposit(DepositStatus.COMPLETED));
+        
+        DeferredResult<DepositResponse> result = depositWatchService.watch(1L, null, null);
+        invalidationListener.accept(1L);
+        assertFalse(result.hasResult());
+        
+        invalidationListener.accept(1L);
+        
+        assertTrue(result.hasResult());
+        assertEquals(DepositStatus.COMPLETED, ((DepositResponse) result.getResult()).getStatus());
+    }
+    
+    @Test
+    void testWatch_InvalidationWithoutWaitersSkipsLookup() {
+        invalidationListener.accept(1L);
+        
+        verifyNoInteractions(depositService);
+    }
+    
+    @Test
+    void testWatch_DeletedOnOtherInstanceCompletesWithError() {
+        when(depositService.getDepositById(1L))
+                .thenReturn(deposit(DepositStatus.PENDING))
+                .thenThrow(new ResourceNotFoundException("Deposit not found with id: 1"));
+        
+        DeferredResult<DepositResponse> result = depositWatchService.watch(1L, DepositStatus.PENDING, null);
+        invalidationListener.accept(1L);
+        
+        assertInstanceOf(ResourceNotFoundException.class, result.getResult());
+    }
+}
@@ -0,0 +1,147 @@
+package com.banking.deposit.infrastructure.cache;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.exception.ResourceNotFoundException;
+import com.banking.deposit.infrastructure.config.DepositCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepositCacheTest {
+    
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, DepositResponse> loader = id -> {
+        loads.incrementAndGet();
+        return DepositResponse.builder().id(id).build();
+    };
+    
+    private DepositCacheProperties properties;
+    private InProcessDepositCacheInvalidationBus bus;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositCacheProperties();
+        properties.setMaximumSize(100);
+        properties.setTimeToLive(Duration.ofSeconds(30));
+        bus = new InProcessDepositCacheInvalidationBus();
+    }
+    
+    private DepositCache newCache() {
+        return new DepositCache(properties, bus, nanos::get);
+    }
+    
+    @Test
+    void testGet_LoadsOnceUntilInvalidated() {
+        DepositCache cache = newCache();
+        
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        
+        cache.invalidate(1L);
+        cache.get(1L, loader);
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testGet_ExpiresAfterTimeToLive() {
+        DepositCache cache = newCache();
+        
+        cache.get(1L, loader);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get(1L, loader);
+        
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testGet_LoaderFailureIsNotCached() {
+        DepositCache cache = newCache();
+        
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(1L, id -> {
+            throw new ResourceNotFoundException("Deposit not found with id: " + id);
+        }));
+        cache.get(1L, loader);
+        
+        assertEquals(1, loads.get());
+    }
+    
+    @Test
+    void testInvalidate_ReachesOtherInstancesOnSameBus() {
+        DepositCache first = newCache();
+        DepositCache second = newCache();
+        first.get(1L, loader);
+        second.get(1L, loader);
+        
+        first.invalidate(1L);
+        second.get(1L, loader);
+        
+        assertEquals(3, loads.get());
+    }
+    
+    @Test
+    void testInvalidate_PublishesAfterCommit() {
+        DepositCache first = newCache();
+        DepositCache second = newCache();
+        second.get(1L, loader);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            first.invalidate(1L);
+            second.get(1L, loader);
+            assertEquals(1, loads.get());
+            
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        second.get(1L, loader);
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void testInvalidateAll_PublishesEveryIdAfterCommit() {
+        DepositCache first = newCache();
+        DepositCache second = newCache();
+        second.get(1L, loader);
+        second.get(2L, loader);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            first.invalidateAll(List.of(1L, 2L));
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+            
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        second.get(1L, loader);
+        second.get(2L, loader);
+        assertEquals(4, loads.get());
+    }
+    
+    @Test
+    void testGet_DisabledAlwaysLoads() {
+        properties.setEnabled(false);
+        DepositCache cache = newCache();
+        
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        
+        assertEquals(2, loads.get());
+    }
+}
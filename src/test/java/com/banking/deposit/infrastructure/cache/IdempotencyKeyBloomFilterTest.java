@@ -0,0 +1,68 @@
+package com.banking.deposit.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyBloomFilterTest {
+    
+    private final AtomicLong nanos = new AtomicLong();
+    
+    private IdempotencyKeyBloomFilter newFilter(int expectedKeys) {
+        return new IdempotencyKeyBloomFilter(expectedKeys, 0.01, Duration.ofHours(1), nanos::get);
+    }
+    
+    @Test
+    void testMightContain_NoFalseNegatives() {
+        IdempotencyKeyBloomFilter filter = newFilter(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+        
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+    }
+    
+    @Test
+    void testMightContain_FalsePositiveRateNearConfigured() {
+        IdempotencyKeyBloomFilter filter = newFilter(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+        
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+    
+    @Test
+    void testRotation_KeepsKeysForAtLeastRetention() {
+        IdempotencyKeyBloomFilter filter = newFilter(100);
+        filter.put("early");
+        
+        nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+        filter.put("late");
+        assertTrue(filter.mightContain("early"));
+        assertTrue(filter.mightContain("late"));
+        
+        nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+        assertFalse(filter.mightContain("early"));
+        assertTrue(filter.mightContain("late"));
+    }
+    
+    @Test
+    void testConstructor_SizesForExpectedKeys() {
+        IdempotencyKeyBloomFilter filter = newFilter(1_000_000);
+        
+        assertEquals(9_585_059, filter.getBits());
+        assertEquals(7, filter.getHashes());
+    }
+}
@@ -0,0 +1,332 @@
+package com.banking.deposit.infrastructure.concurrency;
+
+import com.banking.deposit.infrastructure.config.DepositWriteStripingProperties;
+import com.banking.deposit.infrastructure.metrics.JdbcStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountWriteStripesTest {
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private Session session;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Savepoint savepoint;
+    
+    private volatile SimpleTransactionStatus transactionStatus;
+    
+    private JdbcStatementCounter statementCounter;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private DepositWriteStripingProperties properties;
+    
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv -> {
+            transactionStatus = new SimpleTransactionStatus();
+            return inv.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus);
+        });
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(session.doReturningWork(any()))
+                .thenAnswer(inv -> inv.<ReturningWork<?>>getArgument(0).execute(connection));
+        lenient().doAnswer(inv -> {
+            inv.<Work>getArgument(0).execute(connection);
+            return null;
+        }).when(session).doWork(any());
+        lenient().when(connection.setSavepoint()).thenReturn(savepoint);
+        statementCounter = new JdbcStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DepositWriteStripingProperties();
+        executor = Executors.newCachedThreadPool();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testExecute_Disabled_RunsInOwnTransaction() {
+        properties.setEnabled(false);
+        AccountWriteStripes stripes = stripes();
+        
+        assertEquals("done", stripes.execute("ACC123456789", () -> "done"));
+        
+        verify(transactionTemplate).execute(any());
+        assertEquals(0, meterRegistry.get("deposit.write.stripes.batch.size").summary().count());
+    }
+    
+    @Test
+    void testExecute_QueuedWritesToSameAccountShareTransaction() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        CountDownLatch inFirstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            inFirstWrite.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(inFirstWrite.await(5, TimeUnit.SECONDS));
+        
+        List<Future<String>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String result = "queued-" + i;
+            queued.add(executor.submit(() -> stripes.execute("ACC123456789", () -> result)));
+        }
+        awaitContended(3);
+        release.countDown();
+        
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            assertEquals("queued-" + i, queued.get(i).get(5, TimeUnit.SECONDS));
+        }
+        verify(transactionTemplate, times(2)).execute(any());
+        assertEquals(3, meterRegistry.get("deposit.write.stripes.batch.size").summary().max());
+    }
+    
+    @Test
+    void testExecute_FailedWriteInBatch_OthersStillCommit() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        CountDownLatch inFirstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            inFirstWrite.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(inFirstWrite.await(5, TimeUnit.SECONDS));
+        
+        Future<String> failing = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            throw new IllegalStateException("rejected");
+        }));
+        Future<String> succeeding = executor.submit(() -> stripes.execute("ACC123456789", () -> "stored"));
+        awaitContended(2);
+        release.countDown();
+        
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("stored", succeeding.get(5, TimeUnit.SECONDS));
+        Exception ex = assertThrows(Exception.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        // first alone, then one batch of two with only the failed write rolled back
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(connection).rollback(savepoint);
+        verify(connection).releaseSavepoint(savepoint);
+        verify(entityManager).clear();
+    }
+    
+    @Test
+    void testExecute_BatchMarkedRollbackOnly_RunsWritesAlone() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        CountDownLatch inFirstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            inFirstWrite.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(inFirstWrite.await(5, TimeUnit.SECONDS));
+        
+        List<Boolean> duplicateFlushed = new ArrayList<>(List.of(false));
+        Future<String> duplicate = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            if (!duplicateFlushed.get(0)) {
+                duplicateFlushed.set(0, true);
+                transactionStatus.setRollbackOnly();
+            }
+            return "duplicate";
+        }));
+        Future<String> succeeding = executor.submit(() -> stripes.execute("ACC123456789", () -> "stored"));
+        awaitContended(2);
+        release.countDown();
+        
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("duplicate", duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals("stored", succeeding.get(5, TimeUnit.SECONDS));
+        // first alone, the doomed batch of two, then each of the two alone
+        verify(transactionTemplate, times(4)).execute(any());
+    }
+    
+    @Test
+    void testExecute_QueuedWriteRunsInCallerContext() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        CountDownLatch inFirstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> first = executor.submit(() -> {
+            int result = stripes.execute("ACC123456789", () -> {
+                inFirstWrite.countDown();
+                await(release);
+                statementCounter.increment();
+                return 1;
+            });
+            return result + statementCounter.getAndReset();
+        });
+        assertTrue(inFirstWrite.await(5, TimeUnit.SECONDS));
+        
+        List<Future<String>> queued = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String client = "queued-" + i;
+            int statements = i + 1;
+            queued.add(executor.submit(() -> {
+                MDC.put("client", client);
+                try {
+                    String seen = stripes.execute("ACC123456789", () -> {
+                        for (int n = 0; n < statements; n++) {
+                            statementCounter.increment();
+                        }
+                        return MDC.get("client");
+                    });
+                    return seen + ":" + statementCounter.getAndReset();
+                } finally {
+                    MDC.clear();
+                }
+            }));
+        }
+        awaitContended(2);
+        release.countDown();
+        
+        assertEquals(2, first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued-0:1", queued.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals("queued-1:2", queued.get(1).get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("deposit.write.stripes.batch.size").summary().max());
+    }
+    
+    @Test
+    void testExecute_DifferentStripesRunInParallel() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        String other = accountOnOtherStripe(stripes, "ACC123456789");
+        CyclicBarrier bothInside = new CyclicBarrier(2);
+        
+        Future<String> first = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            awaitBarrier(bothInside);
+            return "first";
+        }));
+        Future<String> second = executor.submit(() -> stripes.execute(other, () -> {
+            awaitBarrier(bothInside);
+            return "second";
+        }));
+        
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.get("deposit.write.stripes.contended").counter().count());
+    }
+    
+    @Test
+    void testExecute_InsideTransaction_JoinsIt() {
+        AccountWriteStripes stripes = stripes();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals("done", stripes.execute("ACC123456789", () -> "done"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        
+        verify(transactionTemplate, never()).execute(any());
+    }
+    
+    @Test
+    void testExecute_InsideTransaction_DoesNotWaitForHeldStripe() throws Exception {
+        AccountWriteStripes stripes = stripes();
+        CountDownLatch inFirstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> stripes.execute("ACC123456789", () -> {
+            inFirstWrite.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(inFirstWrite.await(5, TimeUnit.SECONDS));
+        
+        Future<String> joined = executor.submit(() -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                return stripes.execute("ACC123456789", () -> "joined");
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        });
+        
+        assertEquals("joined", joined.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.get("deposit.write.stripes.contended").counter().count());
+    }
+    
+    private AccountWriteStripes stripes() {
+        return new AccountWriteStripes(properties, transactionTemplate, entityManager, statementCounter,
+                meterRegistry);
+    }
+    
+    private void awaitContended(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("deposit.write.stripes.contended").counter().count() < waiters) {
+            assertTrue(System.nanoTime() < deadline, "writers did not queue up");
+            Thread.sleep(5);
+        }
+    }
+    
+    private static String accountOnOtherStripe(AccountWriteStripes stripes, String accountNumber) {
+        for (int i = 0; ; i++) {
+            String candidate = "ACC" + (100000000 + i);
+            if (stripes.indexFor(candidate) != stripes.indexFor(accountNumber)) {
+                return candidate;
+            }
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private static void awaitBarrier(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
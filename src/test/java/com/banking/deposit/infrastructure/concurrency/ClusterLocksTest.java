@@ -0,0 +1,42 @@
+package com.banking.deposit.infrastructure.concurrency;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterLocksTest {
+    
+    private static ClusterLocks h2ClusterLocks() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:cluster_locks");
+        dataSource.setUser("sa");
+        return new ClusterLocks(new JdbcTemplate(dataSource));
+    }
+    
+    @Test
+    void testTryLockForTransaction_GrantedWithoutAdvisoryLocks() {
+        ClusterLocks clusterLocks = h2ClusterLocks();
+        
+        assertTrue(clusterLocks.tryLockForTransaction(ClusterLocks.Lock.OUTBOX_RELAY));
+        assertTrue(clusterLocks.tryLockForTransaction(ClusterLocks.Lock.OUTBOX_RELAY));
+    }
+    
+    @Test
+    void testRunExclusively_RunsWorkWithoutAdvisoryLocks() {
+        AtomicInteger runs = new AtomicInteger();
+        
+        assertTrue(h2ClusterLocks().runExclusively(ClusterLocks.Lock.PARTITION_MAINTENANCE, runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+    
+    @Test
+    void testLockKeysAreDistinct() {
+        assertEquals(ClusterLocks.Lock.values().length, Arrays.stream(ClusterLocks.Lock.values())
+                .mapToLong(ClusterLocks.Lock::getKey).distinct().count());
+    }
+}
@@ -0,0 +1,89 @@
+package com.banking.deposit.infrastructure.currency;
+
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrencyRegistryTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void testLoad_BundledCurrencies() {
+        CurrencyRegistry registry = new CurrencyRegistry(new CurrencyProperties(), new DefaultResourceLoader());
+        
+        assertEquals("USD", registry.getBaseCurrency());
+        assertEquals(0, registry.find("USD").getRateToBase().compareTo(BigDecimal.ONE));
+        assertEquals(0, registry.find("JPY").getMinorUnits());
+        assertEquals(3, registry.find("KWD").getMinorUnits());
+        assertNull(registry.find("XXX"));
+        assertNull(registry.find(null));
+    }
+    
+    @Test
+    void testToBaseAmount_RoundsHalfUpToBaseMinorUnits() throws Exception {
+        CurrencyRegistry registry = registry("""
+                # test rates
+                code,minor_units,rate_to_base
+                USD,2,1
+                EUR,2,1.085
+                JPY,0,0.0067
+                """);
+        
+        assertEquals(new BigDecimal("10.85"), registry.toBaseAmount(new BigDecimal("10.00"), "EUR"));
+        assertEquals(new BigDecimal("0.01"), registry.toBaseAmount(new BigDecimal("0.01"), "EUR"));
+        assertEquals(new BigDecimal("0.67"), registry.toBaseAmount(new BigDecimal("100"), "JPY"));
+        assertEquals(new BigDecimal("0.07"), registry.toBaseAmount(new BigDecimal("10"), "JPY"));
+        assertEquals(new BigDecimal("12.50"), registry.toBaseAmount(new BigDecimal("12.5"), "USD"));
+        assertNull(registry.toBaseAmount(new BigDecimal("10.00"), "GBP"));
+        assertNull(registry.toBaseAmount(null, "USD"));
+    }
+    
+    @Test
+    void testLoad_RejectsInconsistentFile() throws Exception {
+        assertThrows(IllegalStateException.class, () -> registry("code,minor_units,rate_to_base\nEUR,2,1.08\n"));
+        assertThrows(IllegalStateException.class, () -> registry("code,minor_units,rate_to_base\nUSD,2,1.5\n"));
+        assertThrows(IllegalStateException.class,
+                () -> registry("code,minor_units,rate_to_base\nUSD,2,1\nEUR,2,1.08\nEUR,2,1.09\n"));
+        assertThrows(IllegalStateException.class, () -> registry("code,minor_units,rate_to_base\nUSD,2,1\neur,2,1\n"));
+        assertThrows(IllegalStateException.class, () -> registry("code,minor_units,rate_to_base\nUSD,2,1\nEUR,2,0\n"));
+        assertThrows(IllegalStateException.class, () -> registry("code,minor_units,rate_to_base\nUSD,2,1\nEUR,x,1\n"));
+    }
+    
+    @Test
+    void testRefresh_ReplacesRatesAndKeepsThemWhenFileIsBroken() throws Exception {
+        Path file = directory.resolve("currencies.csv");
+        CurrencyRegistry registry = registry(file, "code,minor_units,rate_to_base\nUSD,2,1\nEUR,2,1.08\n");
+        
+        Files.writeString(file, "code,minor_units,rate_to_base\nUSD,2,1\nEUR,2,1.10\nGBP,2,1.27\n");
+        registry.refresh();
+        
+        assertEquals(new BigDecimal("11.00"), registry.toBaseAmount(BigDecimal.TEN, "EUR"));
+        assertNotNull(registry.find("GBP"));
+        
+        Files.writeString(file, "code,minor_units,rate_to_base\nEUR,2,1.20\n");
+        registry.refresh();
+        
+        assertEquals(new BigDecimal("11.00"), registry.toBaseAmount(BigDecimal.TEN, "EUR"));
+        assertEquals(3, registry.getCurrencies().size());
+    }
+    
+    private CurrencyRegistry registry(String content) throws Exception {
+        return registry(Files.createTempFile(directory, "currencies", ".csv"), content);
+    }
+    
+    private CurrencyRegistry registry(Path file, String content) throws Exception {
+        Files.writeString(file, content);
+        CurrencyProperties properties = new CurrencyProperties();
+        properties.setRatesLocation(file.toUri().toString());
+        return new CurrencyRegistry(properties, new DefaultResourceLoader());
+    }
+}
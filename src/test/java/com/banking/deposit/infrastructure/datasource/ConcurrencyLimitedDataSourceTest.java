@@ -0,0 +1,76 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+    
+    @Mock
+    private DataSource target;
+    
+    @Mock
+    private Connection connection;
+    
+    private ConcurrencyLimitedDataSource dataSource;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+    }
+    
+    @Test
+    void testGetConnection_HoldsPermitUntilClose() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        
+        assertEquals(2, dataSource.getActive());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        
+        first.close();
+        first.close();
+        
+        assertEquals(1, dataSource.getActive());
+        assertNotNull(dataSource.getConnection());
+        assertSame(connection, ((ConnectionProxy) second).getTargetConnection());
+        verify(connection, times(2)).close();
+    }
+    
+    @Test
+    void testGetConnection_ReleasesPermitWhenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("Connection refused"));
+        
+        assertThrows(SQLException.class, dataSource::getConnection);
+        
+        assertEquals(0, dataSource.getActive());
+    }
+    
+    @Test
+    void testConnectionCallsAreDelegated() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        
+        try (Connection limited = dataSource.getConnection()) {
+            assertFalse(limited.getAutoCommit());
+            limited.commit();
+        }
+        
+        verify(connection).commit();
+        assertEquals(0, dataSource.getActive());
+    }
+}
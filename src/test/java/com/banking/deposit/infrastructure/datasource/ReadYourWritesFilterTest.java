@@ -0,0 +1,76 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+    
+    private ReadYourWritesFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        filter = new ReadYourWritesFilter(Duration.ofMinutes(1), 100, "X-Client-Id");
+    }
+    
+    @Test
+    void testRead_WithoutEarlierWrite_MayUseReplica() throws Exception {
+        assertFalse(primaryRequired(request("GET", "client-a")));
+    }
+    
+    @Test
+    void testWrite_IsPinnedToPrimary() throws Exception {
+        assertTrue(primaryRequired(request("POST", "client-a")));
+    }
+    
+    @Test
+    void testRead_AfterOwnWrite_IsPinnedToPrimary() throws Exception {
+        primaryRequired(request("PATCH", "client-a"));
+        
+        assertTrue(primaryRequired(request("GET", "client-a")));
+        assertFalse(primaryRequired(request("GET", "client-b")));
+        assertFalse(ReplicaRoutingContext.isPrimaryRequired());
+    }
+    
+    @Test
+    void testRead_AfterWriteFromSameAddress_IsPinnedWithoutClientId() throws Exception {
+        MockHttpServletRequest write = request("DELETE", null);
+        write.setRemoteAddr("10.0.0.7");
+        MockHttpServletRequest read = request("GET", null);
+        read.setRemoteAddr("10.0.0.7");
+        
+        primaryRequired(write);
+        
+        assertTrue(primaryRequired(read));
+    }
+    
+    @Test
+    void testRead_AfterWindow_MayUseReplica() throws Exception {
+        filter = new ReadYourWritesFilter(Duration.ZERO, 100, "X-Client-Id");
+        primaryRequired(request("POST", "client-a"));
+        
+        assertFalse(primaryRequired(request("GET", "client-a")));
+    }
+    
+    private boolean primaryRequired(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean required = new AtomicBoolean();
+        FilterChain chain = (req, res) -> required.set(ReplicaRoutingContext.isPrimaryRequired());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return required.get();
+    }
+    
+    private static MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/deposits");
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,156 @@
+package com.banking.deposit.infrastructure.datasource;
+
+import com.banking.deposit.infrastructure.config.ReadReplicaProperties;
+import com.banking.deposit.infrastructure.datasource.ReplicaRoutingDataSource.Replica;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes between two H2 databases that each report their own name.
+ */
+class ReplicaRoutingDataSourceTest {
+    
+    private DataSource primary;
+    
+    private DataSource replicaPool;
+    
+    private ReplicaRoutingDataSource routingDataSource;
+    
+    private ReplicaLagMonitor lagMonitor;
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    private TransactionTemplate readWrite;
+    
+    private TransactionTemplate readOnly;
+    
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary");
+        replicaPool = database("routing_replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(new Replica("replica-1", replicaPool)));
+        
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        lagMonitor = new ReplicaLagMonitor(routingDataSource, properties);
+        
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replicaPool).execute("DROP ALL OBJECTS");
+        ReplicaRoutingContext.clear();
+    }
+    
+    @Test
+    void testReadOnlyTransaction_GoesToAvailableReplica() {
+        lagMonitor.check();
+        
+        assertTrue(routingDataSource.getReplicas().get(0).isAvailable());
+        assertEquals("routing_replica", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testReadWriteTransaction_GoesToPrimary() {
+        lagMonitor.check();
+        
+        assertEquals("routing_primary", readWrite.execute(status -> databaseName()));
+        assertEquals("routing_primary", databaseName());
+    }
+    
+    @Test
+    void testReadOnlyTransaction_FallsBackToPrimaryBeforeFirstCheck() {
+        assertEquals("routing_primary", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testReadOnlyTransaction_FallsBackToPrimaryWhileReplicaLags() {
+        lagMonitor.check();
+        new JdbcTemplate(replicaPool).update("UPDATE replica_lag SET seconds = 12.5");
+        lagMonitor.check();
+        
+        Replica replica = routingDataSource.getReplicas().get(0);
+        assertFalse(replica.isAvailable());
+        assertEquals(12.5, replica.getLagSeconds());
+        assertEquals("routing_primary", readOnly.execute(status -> databaseName()));
+        
+        new JdbcTemplate(replicaPool).update("UPDATE replica_lag SET seconds = 0");
+        lagMonitor.check();
+        
+        assertEquals("routing_replica", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testReadOnlyTransaction_FallsBackToPrimaryWhenLagCheckFails() {
+        lagMonitor.check();
+        new JdbcTemplate(replicaPool).execute("DROP TABLE replica_lag");
+        lagMonitor.check();
+        
+        assertFalse(routingDataSource.getReplicas().get(0).isAvailable());
+        assertEquals("routing_primary", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testReadOnlyTransaction_GoesToPrimaryWhenRequired() {
+        lagMonitor.check();
+        ReplicaRoutingContext.requirePrimary();
+        
+        assertEquals("routing_primary", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testOnPrimary_PinsReadOnlyTransactionAndRestoresRouting() {
+        lagMonitor.check();
+        
+        assertEquals("routing_primary",
+                ReplicaRoutingContext.onPrimary(() -> readOnly.execute(status -> databaseName())));
+        assertFalse(ReplicaRoutingContext.isPrimaryRequired());
+        assertEquals("routing_replica", readOnly.execute(status -> databaseName()));
+    }
+    
+    @Test
+    void testOnPrimary_KeepsExistingPin() {
+        lagMonitor.check();
+        ReplicaRoutingContext.requirePrimary();
+        
+        assertEquals("routing_primary",
+                ReplicaRoutingContext.onPrimary(() -> readOnly.execute(status -> databaseName())));
+        assertTrue(ReplicaRoutingContext.isPrimaryRequired());
+    }
+    
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class);
+    }
+    
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE database_name (name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO database_name VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        jdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,91 @@
+package com.banking.deposit.infrastructure.ingestion;
+
+import com.banking.deposit.application.dto.DepositRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepositIngestionJournalTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private static DepositRequest request(String amount) {
+        return DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal(amount))
+                .currency("USD")
+                .build();
+    }
+    
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+    
+    @Test
+    void testRecover_ReturnsUnreleasedRecords() throws Exception {
+        DepositIngestionJournal journal = new DepositIngestionJournal(directory, 1 << 20, objectMapper);
+        assertTrue(journal.recover().isEmpty());
+        DepositIngestionJournal.Entry first = journal.append("t-1", request("10.00"));
+        journal.append("t-2", request("20.00"));
+        journal.release(first);
+        // no close: simulates a crash
+        
+        DepositIngestionJournal reopened = new DepositIngestionJournal(directory, 1 << 20, objectMapper);
+        List<DepositIngestionJournal.Entry> recovered = reopened.recover();
+        
+        assertEquals(2, recovered.size());
+        assertEquals("t-1", recovered.get(0).getTrackingId());
+        assertEquals(new BigDecimal("20.00"), recovered.get(1).getRequest().getAmount());
+        assertTrue(recovered.get(1).isRecovered());
+        reopened.close();
+    }
+    
+    @Test
+    void testRelease_DeletesRolledSegmentOnceDrained() throws Exception {
+        DepositIngestionJournal journal = new DepositIngestionJournal(directory, 1, objectMapper);
+        journal.recover();
+        DepositIngestionJournal.Entry first = journal.append("t-1", request("10.00"));
+        DepositIngestionJournal.Entry second = journal.append("t-2", request("20.00"));
+        assertEquals(2, segmentFiles());
+        
+        journal.release(first);
+        assertEquals(1, segmentFiles());
+        
+        journal.release(second);
+        journal.close();
+        assertEquals(0, segmentFiles());
+    }
+    
+    @Test
+    void testRecover_SkipsTornLastLine() throws Exception {
+        DepositIngestionJournal journal = new DepositIngestionJournal(directory, 1 << 20, objectMapper);
+        journal.recover();
+        journal.append("t-1", request("10.00"));
+        try (Stream<Path> files = Files.list(directory)) {
+            Path segment = files.findFirst().orElseThrow();
+            Files.write(segment, "{\"trackingId\":\"t-2\",\"requ".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+        }
+        
+        List<DepositIngestionJournal.Entry> recovered =
+                new DepositIngestionJournal(directory, 1 << 20, objectMapper).recover();
+        
+        assertEquals(1, recovered.size());
+        assertEquals("t-1", recovered.get(0).getTrackingId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.banking.deposit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcStatementMetricsFilterTest {
+    
+    private JdbcStatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcStatementMetricsFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        statementCounter = new JdbcStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JdbcStatementMetricsFilter(statementCounter, meterRegistry);
+    }
+    
+    @Test
+    void testRecordsStatementsPerRequest() throws Exception {
+        statementCounter.increment();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/deposits/1");
+        
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            statementCounter.increment();
+            statementCounter.increment();
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/deposits/{id}");
+        });
+        
+        DistributionSummary summary = meterRegistry.get(JdbcStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/deposits/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertEquals(0, statementCounter.getAndReset());
+    }
+    
+    @Test
+    void testSkipsUnmappedRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(),
+                (req, res) -> statementCounter.increment());
+        
+        assertTrue(meterRegistry.find(JdbcStatementMetricsFilter.METRIC_NAME).meters().isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package com.banking.deposit.infrastructure.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingDataSourceTest {
+    
+    private JdbcStatementCounter statementCounter;
+    
+    private JdbcDataSource target;
+    
+    private StatementCountingDataSource dataSource;
+    
+    @BeforeEach
+    void setUp() {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:statement_counting;DB_CLOSE_DELAY=-1");
+        target.setUser("sa");
+        new JdbcTemplate(target).execute("CREATE TABLE deposits (id BIGINT, currency VARCHAR(3))");
+        statementCounter = new JdbcStatementCounter();
+        dataSource = new StatementCountingDataSource(target, statementCounter);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(target).execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void testCountsNamedParameterJdbcTemplateStatements() {
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        
+        jdbcTemplate.update("INSERT INTO deposits VALUES (:id, :currency)",
+                new MapSqlParameterSource().addValue("id", 1L).addValue("currency", "EUR"));
+        jdbcTemplate.update("UPDATE deposits SET currency = :currency WHERE id IN (:ids)",
+                new MapSqlParameterSource().addValue("currency", "USD").addValue("ids", List.of(1L, 2L)));
+        
+        assertEquals(2, statementCounter.getAndReset());
+    }
+    
+    @Test
+    void testCountsBatchOnce() {
+        new JdbcTemplate(dataSource).batchUpdate("INSERT INTO deposits VALUES (?, 'EUR')",
+                List.of(new Object[] {1L}, new Object[] {2L}, new Object[] {3L}));
+        
+        assertEquals(1, statementCounter.getAndReset());
+    }
+    
+    @Test
+    void testOtherConnectionCallsAreNotCounted() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.commit();
+            assertNotNull(((ConnectionProxy) connection).getTargetConnection());
+        }
+        
+        assertEquals(0, statementCounter.getAndReset());
+    }
+}
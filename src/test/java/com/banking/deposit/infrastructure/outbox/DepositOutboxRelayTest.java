@@ -0,0 +1,131 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+import com.banking.deposit.domain.model.DepositEventType;
+import com.banking.deposit.infrastructure.concurrency.ClusterLocks;
+import com.banking.deposit.infrastructure.config.DepositOutboxProperties;
+import com.banking.deposit.infrastructure.repository.DepositEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositOutboxRelayTest {
+    
+    @Mock
+    private DepositEventRepository depositEventRepository;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private ClusterLocks clusterLocks;
+    
+    private final InMemoryDepositEventSink sink = new InMemoryDepositEventSink(100);
+    
+    private DepositOutboxProperties properties;
+    
+    private DepositOutboxRelay relay;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositOutboxProperties();
+        properties.setBatchSize(2);
+        relay = new DepositOutboxRelay(depositEventRepository, sink, transactionTemplate, clusterLocks, properties);
+        
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(clusterLocks.tryLockForTransaction(ClusterLocks.Lock.OUTBOX_RELAY)).thenReturn(true);
+    }
+    
+    private static DepositEvent event(long id) {
+        return event(id, id, DepositEventType.CREATED);
+    }
+    
+    private static DepositEvent event(long id, long depositId, DepositEventType eventType) {
+        return DepositEvent.builder()
+                .id(id)
+                .depositId(depositId)
+                .eventType(eventType)
+                .payload("{\"id\":" + id + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Test
+    void testRelay_PublishesBatchesUntilDrained() {
+        when(depositEventRepository.findByPublishedAtIsNullOrderById(Limit.of(2)))
+                .thenReturn(List.of(event(1), event(2)))
+                .thenReturn(List.of(event(3)));
+        
+        relay.relay();
+        
+        assertEquals(List.of(1L, 2L, 3L), sink.getEvents().stream().map(DepositEvent::getId).toList());
+        verify(depositEventRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(depositEventRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void testRelay_SinkFailureLeavesEventsUnpublished() {
+        DepositOutboxRelay failing = new DepositOutboxRelay(depositEventRepository, events -> {
+            throw new IllegalStateException("broker down");
+        }, transactionTemplate, clusterLocks, properties);
+        when(depositEventRepository.findByPublishedAtIsNullOrderById(Limit.of(2)))
+                .thenReturn(List.of(event(1)));
+        
+        assertDoesNotThrow(failing::relay);
+        verify(depositEventRepository, never()).markPublished(anyList(), any());
+    }
+    
+    @Test
+    void testRelay_PublishesDepositEventsInOrderAcrossIdBlocks() {
+        // The status change got its id from a lower block than the creation
+        DepositEvent statusChanged = event(7, 100, DepositEventType.STATUS_CHANGED);
+        DepositEvent other = event(8, 200, DepositEventType.CREATED);
+        DepositEvent created = event(60, 100, DepositEventType.CREATED);
+        when(depositEventRepository.findByPublishedAtIsNullOrderById(Limit.of(2)))
+                .thenReturn(List.of(statusChanged, other))
+                .thenReturn(List.of());
+        when(depositEventRepository.findByPublishedAtIsNullAndDepositIdIn(Set.of(100L)))
+                .thenReturn(List.of(statusChanged, created));
+        
+        relay.relay();
+        
+        assertEquals(List.of(60L, 7L, 8L), sink.getEvents().stream().map(DepositEvent::getId).toList());
+        verify(depositEventRepository).markPublished(eq(List.of(60L, 7L, 8L)), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void testRelay_SkipsWhileAnotherInstanceRelays() {
+        when(clusterLocks.tryLockForTransaction(ClusterLocks.Lock.OUTBOX_RELAY)).thenReturn(false);
+        
+        relay.relay();
+        
+        verifyNoInteractions(depositEventRepository);
+        assertTrue(sink.getEvents().isEmpty());
+    }
+    
+    @Test
+    void testRelay_DisabledDoesNothing() {
+        properties.setRelayEnabled(false);
+        
+        relay.relay();
+        
+        verifyNoInteractions(depositEventRepository);
+    }
+}
@@ -0,0 +1,53 @@
+package com.banking.deposit.infrastructure.outbox;
+
+import com.banking.deposit.domain.model.DepositEvent;
+import com.banking.deposit.domain.model.DepositEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDepositEventSinkTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void testPublish_AppendsOneLinePerEvent() throws Exception {
+        Path file = directory.resolve("events").resolve("deposit-events.ndjson");
+        FileDepositEventSink sink = new FileDepositEventSink(file, objectMapper);
+        
+        sink.publish(List.of(DepositEvent.builder()
+                .id(7L)
+                .depositId(3L)
+                .eventType(DepositEventType.STATUS_CHANGED)
+                .payload("{\"id\":3,\"status\":\"COMPLETED\"}")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build()));
+        sink.publish(List.of(DepositEvent.builder()
+                .id(8L)
+                .depositId(3L)
+                .eventType(DepositEventType.DELETED)
+                .payload("{\"id\":3}")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 31))
+                .build()));
+        
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(7, first.get("eventId").asLong());
+        assertEquals("STATUS_CHANGED", first.get("eventType").asText());
+        assertEquals("2024-01-15T10:30", first.get("createdAt").asText());
+        assertEquals("COMPLETED", first.get("deposit").get("status").asText());
+        assertEquals("DELETED", objectMapper.readTree(lines.get(1)).get("eventType").asText());
+    }
+}
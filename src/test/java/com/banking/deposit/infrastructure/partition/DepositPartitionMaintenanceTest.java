@@ -0,0 +1,122 @@
+package com.banking.deposit.infrastructure.partition;
+
+import com.banking.deposit.infrastructure.concurrency.ClusterLocks;
+import com.banking.deposit.infrastructure.config.DepositPartitioningProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositPartitionMaintenanceTest {
+    
+    private static final String LEGACY_BOUND = "FOR VALUES FROM (MINVALUE) TO ('2024-03-01 00:00:00')";
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private ClusterLocks clusterLocks;
+    
+    private DepositPartitioningProperties properties;
+    
+    private DepositPartitionMaintenance maintenance;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new DepositPartitioningProperties();
+        properties.setPremakeMonths(2);
+        maintenance = new DepositPartitionMaintenance(jdbcTemplate, clusterLocks, properties);
+    }
+    
+    private void givenPartitions(DepositPartitionMaintenance.Partition... partitions) {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<DepositPartitionMaintenance.Partition>>any(),
+                eq("deposits"))).thenReturn(List.of(partitions));
+    }
+    
+    @Test
+    void testParseBounds() {
+        DepositPartitionMaintenance.Partition legacy =
+                DepositPartitionMaintenance.Partition.parse("deposits_p_legacy", LEGACY_BOUND, false);
+        DepositPartitionMaintenance.Partition month = DepositPartitionMaintenance.Partition.parse("deposits_p2024_03",
+                "FOR VALUES FROM ('2024-03-01 00:00:00') TO ('2024-04-01 00:00:00')", false);
+        
+        assertNull(legacy.getFrom());
+        assertEquals(LocalDate.of(2024, 3, 1), legacy.getTo());
+        assertEquals(LocalDate.of(2024, 3, 1), month.getFrom());
+        assertEquals(LocalDate.of(2024, 4, 1), month.getTo());
+        assertNull(DepositPartitionMaintenance.Partition.parse("deposits_default", "DEFAULT", false).getTo());
+    }
+    
+    @Test
+    void testCreateMissingPartitions_FillsUpToPremakeHorizon() {
+        givenPartitions(
+                DepositPartitionMaintenance.Partition.parse("deposits_p_legacy", LEGACY_BOUND, false),
+                new DepositPartitionMaintenance.Partition("deposits_p2024_03",
+                        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1), false));
+        
+        maintenance.createMissingPartitions(LocalDate.of(2024, 4, 1));
+        
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS deposits_p2024_04 PARTITION OF deposits"
+                + " FOR VALUES FROM ('2024-04-01') TO ('2024-05-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS deposits_p2024_05 PARTITION OF deposits"
+                + " FOR VALUES FROM ('2024-05-01') TO ('2024-06-01')");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS deposits_p2024_06 PARTITION OF deposits"
+                + " FOR VALUES FROM ('2024-06-01') TO ('2024-07-01')");
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+    
+    @Test
+    void testArchivePartitions_DetachesOnlyPartitionsEndedBeforeCutoff() {
+        properties.setArchiveTablespace("cold");
+        givenPartitions(
+                DepositPartitionMaintenance.Partition.parse("deposits_p_legacy", LEGACY_BOUND, false),
+                new DepositPartitionMaintenance.Partition("deposits_p2024_03",
+                        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1), false));
+        
+        maintenance.archivePartitions(LocalDate.of(2024, 3, 1));
+        
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE deposits DETACH PARTITION deposits_p_legacy CONCURRENTLY");
+        inOrder.verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS deposit_archive");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE deposits_p_legacy SET SCHEMA deposit_archive");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE deposit_archive.deposits_p_legacy SET TABLESPACE cold");
+        verify(jdbcTemplate, never()).execute(contains("deposits_p2024_03"));
+    }
+    
+    @Test
+    void testArchivePartitions_FinalizesInterruptedDetach() {
+        givenPartitions(new DepositPartitionMaintenance.Partition("deposits_p2024_01",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), true));
+        
+        maintenance.archivePartitions(LocalDate.of(2024, 3, 1));
+        
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE deposits DETACH PARTITION deposits_p2024_01 FINALIZE");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE deposits_p2024_01 SET SCHEMA deposit_archive");
+        verify(jdbcTemplate, never()).execute(contains("CONCURRENTLY"));
+    }
+    
+    @Test
+    void testMaintain_SkipsWhileAnotherInstanceHoldsLock() {
+        when(clusterLocks.runExclusively(eq(ClusterLocks.Lock.PARTITION_MAINTENANCE), any())).thenReturn(false);
+        
+        maintenance.maintain();
+        
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
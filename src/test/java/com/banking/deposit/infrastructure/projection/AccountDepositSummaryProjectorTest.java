@@ -0,0 +1,114 @@
+package com.banking.deposit.infrastructure.projection;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.event.DepositDeletedEvent;
+import com.banking.deposit.application.event.DepositStatusChangedEvent;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryRepository;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryUpdates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDepositSummaryProjectorTest {
+    
+    @Mock
+    private AccountDepositSummaryRepository summaryRepository;
+    
+    private AccountDepositSummaryProjector projector;
+    
+    @BeforeEach
+    void setUp() {
+        projector = new AccountDepositSummaryProjector(summaryRepository);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+    
+    private static DepositResponse deposit(Long id, String currency, String amount, DepositStatus status,
+                                           LocalDateTime createdAt) {
+        return DepositResponse.builder()
+                .id(id)
+                .accountNumber("ACC123456789")
+                .currency(currency)
+                .amount(new BigDecimal(amount))
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<AccountDepositSummaryUpdates.Delta> commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        ArgumentCaptor<Collection<AccountDepositSummaryUpdates.Delta>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(summaryRepository).applyDeltas(deltas.capture(), any());
+        return deltas.getValue().stream()
+                .sorted(Comparator.comparing(AccountDepositSummaryUpdates.Delta::getCurrency))
+                .toList();
+    }
+    
+    @Test
+    void testCompletedDepositsAreSummedPerCurrencyUntilCommit() {
+        LocalDateTime earlier = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime later = earlier.plusHours(1);
+        projector.onStatusChanged(new DepositStatusChangedEvent(
+                deposit(1L, "USD", "10.00", DepositStatus.COMPLETED, later)));
+        projector.onStatusChanged(new DepositStatusChangedEvent(
+                deposit(2L, "USD", "5.50", DepositStatus.COMPLETED, earlier)));
+        projector.onStatusChanged(new DepositStatusChangedEvent(
+                deposit(3L, "EUR", "7.00", DepositStatus.COMPLETED, earlier)));
+        projector.onStatusChanged(new DepositStatusChangedEvent(
+                deposit(4L, "USD", "99.00", DepositStatus.FAILED, later)));
+        verifyNoInteractions(summaryRepository);
+        
+        List<AccountDepositSummaryUpdates.Delta> deltas = commit();
+        
+        assertEquals(2, deltas.size());
+        assertEquals(1, deltas.get(0).getCount());
+        assertEquals(new BigDecimal("7.00"), deltas.get(0).getAmount());
+        assertEquals(2, deltas.get(1).getCount());
+        assertEquals(new BigDecimal("15.50"), deltas.get(1).getAmount());
+        assertEquals(later, deltas.get(1).getLastDepositAt());
+        assertTrue(deltas.get(1).getReversedDepositIds().isEmpty());
+        assertFalse(TransactionSynchronizationManager.hasResource(projector));
+    }
+    
+    @Test
+    void testDeletingCompletedDepositReversesIt() {
+        projector.onDeleted(new DepositDeletedEvent(
+                deposit(1L, "USD", "10.00", DepositStatus.COMPLETED, LocalDateTime.now())));
+        projector.onDeleted(new DepositDeletedEvent(
+                deposit(2L, "USD", "3.00", DepositStatus.PENDING, LocalDateTime.now())));
+        
+        List<AccountDepositSummaryUpdates.Delta> deltas = commit();
+        
+        assertEquals(1, deltas.size());
+        assertEquals(-1, deltas.get(0).getCount());
+        assertEquals(new BigDecimal("-10.00"), deltas.get(0).getAmount());
+        assertNull(deltas.get(0).getLastDepositAt());
+        assertEquals(List.of(1L), deltas.get(0).getReversedDepositIds());
+    }
+}
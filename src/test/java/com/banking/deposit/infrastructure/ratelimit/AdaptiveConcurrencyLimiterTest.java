@@ -0,0 +1,83 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private AdaptiveConcurrencyLimiter limiter;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DepositRateLimitProperties properties = new DepositRateLimitProperties();
+        properties.getConcurrency().setInitialLimit(2);
+        properties.getConcurrency().setMinLimit(1);
+        properties.getConcurrency().setMaxLimit(4);
+        properties.getConcurrency().setTargetPoolWait(Duration.ofMillis(20));
+        properties.getConcurrency().setBackoffRatio(0.5);
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+    
+    @Test
+    void testTryAcquire_ShedsAboveLimit() {
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        
+        limiter.release();
+        
+        assertTrue(limiter.tryAcquire());
+        assertEquals(1, meterRegistry.get(DepositRateLimiter.DECISIONS_METRIC)
+                .tags("limiter", "concurrency", "outcome", "rejected").counter().count());
+    }
+    
+    @Test
+    void testAdjust_BacksOffWhenPoolWaitIsHigh() {
+        Timer acquire = meterRegistry.timer(AdaptiveConcurrencyLimiter.POOL_ACQUIRE_METRIC, "pool", "primary");
+        acquire.record(10, TimeUnit.MILLISECONDS);
+        limiter.adjust();
+        assertEquals(2, limiter.getLimit());
+        
+        acquire.record(90, TimeUnit.MILLISECONDS);
+        acquire.record(110, TimeUnit.MILLISECONDS);
+        limiter.adjust();
+        
+        assertEquals(1, limiter.getLimit());
+        assertEquals(100.0, limiter.getLastPoolWaitMillis(), 0.001);
+    }
+    
+    @Test
+    void testAdjust_GrowsOnlyWhenLimitWasReached() {
+        limiter.adjust();
+        assertEquals(2, limiter.getLimit());
+        
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release();
+        limiter.release();
+        limiter.adjust();
+        assertEquals(3, limiter.getLimit());
+        
+        limiter.adjust();
+        assertEquals(3, limiter.getLimit());
+    }
+    
+    @Test
+    void testSetLimits_ClampsCurrentLimit() {
+        limiter.setLimits(3, 10);
+        
+        assertEquals(3, limiter.getLimit());
+        assertThrows(IllegalArgumentException.class, () -> limiter.setLimits(5, 4));
+    }
+}
@@ -0,0 +1,83 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import com.banking.deposit.application.exception.RateLimitExceededException;
+import com.banking.deposit.infrastructure.config.DepositRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepositRateLimiterTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private DepositRateLimitProperties properties;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DepositRateLimitProperties();
+        properties.setClient(new DepositRateLimitProperties.Bucket(0.001, 2));
+        properties.setAccount(new DepositRateLimitProperties.Bucket(0.001, 1));
+    }
+    
+    @Test
+    void testCheckClient_LimitsEachClientSeparately() {
+        DepositRateLimiter limiter = new DepositRateLimiter(properties, meterRegistry);
+        
+        limiter.checkClient("id:a");
+        limiter.checkClient("id:a");
+        RateLimitExceededException ex =
+                assertThrows(RateLimitExceededException.class, () -> limiter.checkClient("id:a"));
+        limiter.checkClient("id:b");
+        
+        assertTrue(ex.getRetryAfter().toSeconds() > 0);
+        assertEquals(3, count("client", "allowed"));
+        assertEquals(1, count("client", "rejected"));
+    }
+    
+    @Test
+    void testRefundClient_ReturnsToken() {
+        DepositRateLimiter limiter = new DepositRateLimiter(properties, meterRegistry);
+        limiter.checkClient("id:a");
+        limiter.checkClient("id:a");
+        
+        limiter.refundClient("id:a");
+        limiter.refundClient("id:unknown");
+        
+        limiter.checkClient("id:a");
+        assertThrows(RateLimitExceededException.class, () -> limiter.checkClient("id:a"));
+    }
+    
+    @Test
+    void testCheckAccount_RuntimeChangeAppliesToExistingBuckets() {
+        DepositRateLimiter limiter = new DepositRateLimiter(properties, meterRegistry);
+        limiter.checkAccount("ACC123456789");
+        assertThrows(RateLimitExceededException.class, () -> limiter.checkAccount("ACC123456789"));
+        
+        limiter.setAccountLimit(0.001, 3);
+        
+        limiter.checkAccount("ACC123456789");
+        assertEquals(3, limiter.getAccountLimit().getBurst());
+        assertThrows(IllegalArgumentException.class, () -> limiter.setAccountLimit(0, 3));
+    }
+    
+    @Test
+    void testDisabled_NeverRejects() {
+        properties.setEnabled(false);
+        DepositRateLimiter limiter = new DepositRateLimiter(properties, meterRegistry);
+        
+        for (int i = 0; i < 10; i++) {
+            limiter.checkClient("id:a");
+            limiter.checkAccount("ACC123456789");
+        }
+        
+        assertEquals(0, count("client", "rejected"));
+    }
+    
+    private double count(String limiter, String outcome) {
+        return meterRegistry.get(DepositRateLimiter.DECISIONS_METRIC)
+                .tags("limiter", limiter, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.banking.deposit.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    @Test
+    void testTryAcquire_AllowsBurstThenRefillsAtRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(now, 10, 5));
+        }
+        long wait = bucket.tryAcquire(now, 10, 5);
+        
+        assertEquals(SECOND / 10, wait);
+        assertEquals(0, bucket.tryAcquire(now + wait, 10, 5));
+        assertTrue(bucket.tryAcquire(now + wait, 10, 5) > 0);
+    }
+    
+    @Test
+    void testRelease_ReturnsTakenToken() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        assertEquals(0, bucket.tryAcquire(now, 10, 2));
+        assertEquals(0, bucket.tryAcquire(now, 10, 2));
+        assertTrue(bucket.tryAcquire(now, 10, 2) > 0);
+        
+        bucket.release(10);
+        
+        assertEquals(0, bucket.tryAcquire(now, 10, 2));
+        assertTrue(bucket.tryAcquire(now, 10, 2) > 0);
+    }
+    
+    @Test
+    void testTryAcquire_IdleBucketDoesNotExceedBurst() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        
+        long later = now + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(later, 10, 3));
+        }
+        assertTrue(bucket.tryAcquire(later, 10, 3) > 0);
+    }
+    
+    @Test
+    void testTryAcquire_ConcurrentCallersShareBurst() throws Exception {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> {
+                    if (bucket.tryAcquire(now, 1, 100) == 0) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        
+        assertEquals(100, granted.get());
+    }
+}
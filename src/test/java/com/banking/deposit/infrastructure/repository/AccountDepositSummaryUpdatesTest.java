@@ -0,0 +1,140 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.AccountDepositSummary;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.repository.AccountDepositSummaryUpdates.Delta;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the summary statements against H2, which takes the update-then-insert
+ * path instead of {@code ON CONFLICT}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class AccountDepositSummaryUpdatesTest {
+    
+    private static final String ACCOUNT = "ACC12345678";
+    
+    @Autowired
+    private AccountDepositSummaryRepository summaryRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void testApplyDeltas_CompleteThenDeleteOneAccount() {
+        Deposit first = persist(ACCOUNT, "10.00");
+        Deposit second = persist(ACCOUNT, "20.00");
+        
+        summaryRepository.applyDeltas(List.of(completed(first)), LocalDateTime.now());
+        summaryRepository.applyDeltas(List.of(completed(second)), LocalDateTime.now());
+        
+        AccountDepositSummary summary = summaryOf(ACCOUNT);
+        assertEquals(2, summary.getCompletedCount());
+        assertEquals(new BigDecimal("30.00"), summary.getCompletedAmount());
+        assertEquals(createdAt(second), summary.getLastDepositAt());
+        
+        delete(second);
+        summaryRepository.applyDeltas(List.of(reversed(second)), LocalDateTime.now());
+        
+        summary = summaryOf(ACCOUNT);
+        assertEquals(1, summary.getCompletedCount());
+        assertEquals(new BigDecimal("10.00"), summary.getCompletedAmount());
+        assertEquals(createdAt(first), summary.getLastDepositAt());
+        
+        delete(first);
+        summaryRepository.applyDeltas(List.of(reversed(first)), LocalDateTime.now());
+        
+        assertTrue(summaryRepository.findByAccountNumberOrderByCurrency(ACCOUNT).isEmpty());
+    }
+    
+    @Test
+    void testApplyDeltas_ReversalStillInTableIsExcluded() {
+        Deposit first = persist(ACCOUNT, "10.00");
+        Deposit second = persist(ACCOUNT, "20.00");
+        summaryRepository.applyDeltas(List.of(completed(first), completed(second)), LocalDateTime.now());
+        
+        // A status change keeps the row, so RECOMPUTE_LAST_DEPOSIT_AT must skip it by id
+        summaryRepository.applyDeltas(List.of(reversed(second)), LocalDateTime.now());
+        
+        AccountDepositSummary summary = summaryOf(ACCOUNT);
+        assertEquals(1, summary.getCompletedCount());
+        assertEquals(createdAt(first), summary.getLastDepositAt());
+    }
+    
+    @Test
+    void testRebuildRange_ReplacesOnlyAccountsInRange() {
+        String before = "ACC10000000";
+        Deposit other = persist(before, "5.00");
+        Deposit first = persist(ACCOUNT, "10.00");
+        Deposit second = persist(ACCOUNT, "20.00");
+        persist(ACCOUNT, "40.00", DepositStatus.PENDING);
+        summaryRepository.applyDeltas(List.of(completed(other), completed(first)), LocalDateTime.now());
+        
+        int written = summaryRepository.rebuildRange(before, ACCOUNT, LocalDateTime.now());
+        
+        assertEquals(1, written);
+        AccountDepositSummary summary = summaryOf(ACCOUNT);
+        assertEquals(2, summary.getCompletedCount());
+        assertEquals(new BigDecimal("30.00"), summary.getCompletedAmount());
+        assertEquals(createdAt(second), summary.getLastDepositAt());
+        assertEquals(List.of(before, ACCOUNT), summaryRepository.findCompletedAccountNumbers(null, 10));
+        assertEquals(1, summaryOf(before).getCompletedCount());
+    }
+    
+    private Deposit persist(String accountNumber, String amount) {
+        return persist(accountNumber, amount, DepositStatus.COMPLETED);
+    }
+    
+    private Deposit persist(String accountNumber, String amount, DepositStatus status) {
+        Deposit deposit = entityManager.persist(Deposit.builder()
+                .accountNumber(accountNumber)
+                .amount(new BigDecimal(amount))
+                .currency("EUR")
+                .status(status)
+                .build());
+        entityManager.flush();
+        return deposit;
+    }
+    
+    private void delete(Deposit deposit) {
+        entityManager.remove(entityManager.find(Deposit.class, deposit.getId()));
+        entityManager.flush();
+    }
+    
+    private LocalDateTime createdAt(Deposit deposit) {
+        entityManager.clear();
+        return entityManager.getEntityManager()
+                .createQuery("SELECT d.createdAt FROM Deposit d WHERE d.id = :id", LocalDateTime.class)
+                .setParameter("id", deposit.getId())
+                .getSingleResult();
+    }
+    
+    private AccountDepositSummary summaryOf(String accountNumber) {
+        entityManager.clear();
+        List<AccountDepositSummary> rows = summaryRepository.findByAccountNumberOrderByCurrency(accountNumber);
+        assertEquals(1, rows.size());
+        return rows.get(0);
+    }
+    
+    private static Delta completed(Deposit deposit) {
+        return new Delta(deposit.getAccountNumber(), deposit.getCurrency(), 1, deposit.getAmount(),
+                deposit.getCreatedAt(), List.of());
+    }
+    
+    private static Delta reversed(Deposit deposit) {
+        return new Delta(deposit.getAccountNumber(), deposit.getCurrency(), -1, deposit.getAmount().negate(),
+                null, List.of(deposit.getId()));
+    }
+}
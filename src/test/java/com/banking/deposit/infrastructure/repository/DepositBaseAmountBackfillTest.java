@@ -0,0 +1,117 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositCurrencyTotal;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class DepositBaseAmountBackfillTest {
+    
+    private static final Map<String, BigDecimal> RATES_TO_BASE = Map.of(
+            "USD", BigDecimal.ONE,
+            "EUR", new BigDecimal("1.085"),
+            "JPY", new BigDecimal("0.0067"));
+    
+    @Autowired
+    private DepositRepository depositRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void testBackfillBaseAmounts_RoundsAndSumsPerCurrency() {
+        Deposit usd = persist("USD", "10.55", DepositStatus.COMPLETED);
+        Deposit eur = persist("EUR", "10.55", DepositStatus.COMPLETED);
+        persist("EUR", "20.00", DepositStatus.COMPLETED);
+        Deposit jpy = persist("JPY", "1000", DepositStatus.COMPLETED);
+        persist("JPY", "1", DepositStatus.COMPLETED);
+        persist("XTS", "9.00", DepositStatus.COMPLETED);
+        persist("EUR", "50.00", DepositStatus.PENDING);
+        entityManager.flush();
+        
+        long fromId = depositRepository.findMinIdWithoutBaseAmount().orElseThrow();
+        long toId = depositRepository.findMaxIdWithoutBaseAmount().orElseThrow() + 1;
+        int updated = depositRepository.backfillBaseAmounts(fromId, toId, RATES_TO_BASE, 2);
+        entityManager.clear();
+        
+        assertEquals(6, updated);
+        assertEquals(1, depositRepository.countByBaseAmountIsNull());
+        assertEquals(new BigDecimal("10.55"), baseAmountOf(usd));
+        assertEquals(new BigDecimal("11.45"), baseAmountOf(eur));
+        assertEquals(new BigDecimal("6.70"), baseAmountOf(jpy));
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<DepositCurrencyTotal> totals = depositRepository.sumByCurrency(
+                DepositStatus.COMPLETED, now.minusDays(1), now.plusDays(1));
+        
+        assertEquals(List.of("EUR", "JPY", "USD", "XTS"),
+                totals.stream().map(DepositCurrencyTotal::getCurrency).toList());
+        assertTotal(totals.get(0), 2, "30.55", "33.15", 0);
+        assertTotal(totals.get(1), 2, "1001.00", "6.71", 0);
+        assertTotal(totals.get(2), 1, "10.55", "10.55", 0);
+        assertEquals(1, totals.get(3).getDepositCount());
+        assertNull(totals.get(3).getTotalBaseAmount());
+        assertEquals(1, totals.get(3).getUnconvertedCount());
+    }
+    
+    @Test
+    void testBackfillBaseAmounts_OnlyConvertsIdRange() {
+        Deposit first = persist("EUR", "10.00", DepositStatus.COMPLETED);
+        Deposit second = persist("EUR", "20.00", DepositStatus.COMPLETED);
+        entityManager.flush();
+        
+        int updated = depositRepository.backfillBaseAmounts(first.getId(), second.getId(), RATES_TO_BASE, 2);
+        entityManager.clear();
+        
+        assertEquals(1, updated);
+        assertEquals(new BigDecimal("10.85"), baseAmountOf(first));
+        assertNull(baseAmountOf(second));
+    }
+    
+    @Test
+    void testBackfillBaseAmounts_KeepsExistingBaseAmount() {
+        Deposit deposit = persist("EUR", "10.00", DepositStatus.COMPLETED);
+        deposit.setBaseAmount(new BigDecimal("10.90"));
+        entityManager.flush();
+        
+        int updated = depositRepository.backfillBaseAmounts(deposit.getId(), deposit.getId() + 1, RATES_TO_BASE, 2);
+        entityManager.clear();
+        
+        assertEquals(0, updated);
+        assertEquals(new BigDecimal("10.90"), baseAmountOf(deposit));
+    }
+    
+    private Deposit persist(String currency, String amount, DepositStatus status) {
+        return entityManager.persist(Deposit.builder()
+                .accountNumber("ACC12345678")
+                .amount(new BigDecimal(amount))
+                .currency(currency)
+                .status(status)
+                .build());
+    }
+    
+    private BigDecimal baseAmountOf(Deposit deposit) {
+        return entityManager.find(Deposit.class, deposit.getId()).getBaseAmount();
+    }
+    
+    private static void assertTotal(DepositCurrencyTotal total, long depositCount, String totalAmount,
+                                    String totalBaseAmount, long unconvertedCount) {
+        assertEquals(depositCount, total.getDepositCount());
+        assertEquals(new BigDecimal(totalAmount), total.getTotalAmount());
+        assertEquals(new BigDecimal(totalBaseAmount), total.getTotalBaseAmount());
+        assertEquals(unconvertedCount, total.getUnconvertedCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositExportFilter;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without the test transaction so that the export opens its own
+ * read-only one, as it does when called from a request.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DepositExportRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DepositExportRepositoryTest {
+    
+    @Autowired
+    private DepositRepository depositRepository;
+    
+    @Autowired
+    private DepositExportRepository depositExportRepository;
+    
+    @AfterEach
+    void tearDown() {
+        depositRepository.deleteAll();
+    }
+    
+    @Test
+    void testStreamDeposits_RunsInReadOnlyTransaction() {
+        List<Deposit> saved = depositRepository.saveAll(List.of(
+                deposit(DepositStatus.COMPLETED), deposit(DepositStatus.PENDING), deposit(DepositStatus.COMPLETED)));
+        List<Long> streamed = new ArrayList<>();
+        List<Boolean> readOnly = new ArrayList<>();
+        
+        long count = depositExportRepository.streamDeposits(
+                DepositExportFilter.builder().status(DepositStatus.COMPLETED).build(), 1, deposit -> {
+                    streamed.add(deposit.getId());
+                    readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                });
+        
+        assertEquals(2, count);
+        assertEquals(List.of(saved.get(0).getId(), saved.get(2).getId()), streamed);
+        assertEquals(List.of(true, true), readOnly);
+    }
+    
+    private static Deposit deposit(DepositStatus status) {
+        return Deposit.builder()
+                .accountNumber("ACC12345678")
+                .amount(new BigDecimal("100.00"))
+                .currency("USD")
+                .status(status)
+                .build();
+    }
+}
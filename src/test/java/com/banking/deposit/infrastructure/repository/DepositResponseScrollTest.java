@@ -0,0 +1,71 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class DepositResponseScrollTest {
+    
+    private static final String ACCOUNT = "ACC12345678";
+    
+    @Autowired
+    private DepositRepository depositRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void testScrollResponsesByAccountNumber_SeeksPastTiesOnCreatedAt() {
+        LocalDateTime older = LocalDateTime.of(2024, 3, 1, 10, 0);
+        LocalDateTime newer = older.plusHours(1);
+        Long first = persist(ACCOUNT, older);
+        Long second = persist(ACCOUNT, newer);
+        Long third = persist(ACCOUNT, newer);
+        Long fourth = persist(ACCOUNT, older);
+        persist("ACC87654321", newer);
+        
+        List<Long> ids = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<DepositResponse> window;
+        do {
+            window = depositRepository.scrollResponsesByAccountNumber(ACCOUNT, position, Limit.of(1));
+            window.forEach(row -> ids.add(row.getId()));
+            position = window.isEmpty() ? position : window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+        
+        assertEquals(List.of(third, second, fourth, first), ids);
+    }
+    
+    private Long persist(String accountNumber, LocalDateTime createdAt) {
+        Deposit deposit = entityManager.persistAndFlush(Deposit.builder()
+                .accountNumber(accountNumber)
+                .amount(new BigDecimal("100.00"))
+                .currency("USD")
+                .status(DepositStatus.COMPLETED)
+                .build());
+        entityManager.getEntityManager()
+                .createQuery("update Deposit d set d.createdAt = :createdAt where d.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", deposit.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return deposit.getId();
+    }
+}
@@ -0,0 +1,126 @@
+package com.banking.deposit.infrastructure.repository;
+
+import com.banking.deposit.domain.model.Deposit;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the JDBC transitions against H2, which takes the paths without
+ * {@code RETURNING}: re-select after the update and lock-then-update in bulk.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class DepositStatusTransitionTest {
+    
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.MILLIS);
+    
+    @Autowired
+    private DepositRepository depositRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void testTransitionStatus_UpdatesPendingAndMapsAllColumns() {
+        Deposit deposit = persist(DepositStatus.PENDING);
+        
+        Optional<Deposit> updated = depositRepository.transitionStatus(
+                deposit.getId(), DepositStatus.COMPLETED, UPDATED_AT);
+        
+        assertTrue(updated.isPresent());
+        Deposit row = updated.get();
+        assertEquals(deposit.getId(), row.getId());
+        assertEquals(DepositStatus.COMPLETED, row.getStatus());
+        assertEquals(UPDATED_AT, row.getUpdatedAt());
+        assertEquals("ACC12345678", row.getAccountNumber());
+        assertEquals(new BigDecimal("100.00"), row.getAmount());
+        assertEquals("EUR", row.getCurrency());
+        assertEquals(new BigDecimal("108.50"), row.getBaseAmount());
+        assertEquals("Salary", row.getDescription());
+        assertEquals(deposit.getTrackingId(), row.getTrackingId());
+        assertNotNull(row.getCreatedAt());
+        assertEquals(DepositStatus.COMPLETED, statusOf(deposit));
+    }
+    
+    @Test
+    void testTransitionStatus_FinalStatusIsNotChanged() {
+        Deposit deposit = persist(DepositStatus.FAILED);
+        
+        Optional<Deposit> updated = depositRepository.transitionStatus(
+                deposit.getId(), DepositStatus.COMPLETED, UPDATED_AT);
+        
+        assertTrue(updated.isEmpty());
+        assertEquals(DepositStatus.FAILED, statusOf(deposit));
+    }
+    
+    @Test
+    void testTransitionStatus_NoSourceStatusSkipsUpdate() {
+        Deposit deposit = persist(DepositStatus.PENDING);
+        
+        assertTrue(depositRepository.transitionStatus(deposit.getId(), DepositStatus.PENDING, UPDATED_AT).isEmpty());
+        assertEquals(DepositStatus.PENDING, statusOf(deposit));
+    }
+    
+    @Test
+    void testTransitionStatuses_OnlyMovesLegalSources() {
+        Deposit first = persist(DepositStatus.PENDING);
+        Deposit completed = persist(DepositStatus.COMPLETED);
+        Deposit second = persist(DepositStatus.PENDING);
+        Deposit untouched = persist(DepositStatus.PENDING);
+        
+        List<Deposit> updated = depositRepository.transitionStatuses(
+                List.of(first.getId(), completed.getId(), second.getId(), Long.MAX_VALUE),
+                DepositStatus.CANCELLED, UPDATED_AT);
+        
+        assertEquals(List.of(first.getId(), second.getId()),
+                updated.stream().map(Deposit::getId).sorted().toList());
+        assertTrue(updated.stream().allMatch(deposit -> deposit.getStatus() == DepositStatus.CANCELLED
+                && UPDATED_AT.equals(deposit.getUpdatedAt())
+                && deposit.getTrackingId() != null));
+        assertEquals(DepositStatus.CANCELLED, statusOf(first));
+        assertEquals(DepositStatus.COMPLETED, statusOf(completed));
+        assertEquals(DepositStatus.CANCELLED, statusOf(second));
+        assertEquals(DepositStatus.PENDING, statusOf(untouched));
+    }
+    
+    @Test
+    void testTransitionStatuses_NothingEligibleUpdatesNothing() {
+        Deposit completed = persist(DepositStatus.COMPLETED);
+        
+        assertTrue(depositRepository.transitionStatuses(
+                List.of(completed.getId()), DepositStatus.FAILED, UPDATED_AT).isEmpty());
+        assertEquals(DepositStatus.COMPLETED, statusOf(completed));
+    }
+    
+    private Deposit persist(DepositStatus status) {
+        Deposit deposit = entityManager.persist(Deposit.builder()
+                .accountNumber("ACC12345678")
+                .amount(new BigDecimal("100.00"))
+                .currency("EUR")
+                .baseAmount(new BigDecimal("108.50"))
+                .description("Salary")
+                .trackingId(UUID.randomUUID().toString())
+                .status(status)
+                .build());
+        entityManager.flush();
+        return deposit;
+    }
+    
+    private DepositStatus statusOf(Deposit deposit) {
+        entityManager.clear();
+        return entityManager.find(Deposit.class, deposit.getId()).getStatus();
+    }
+}
@@ -0,0 +1,161 @@
+package com.banking.deposit.infrastructure.serialization;
+
+import com.banking.deposit.application.dto.ApiErrorResponse;
+import com.banking.deposit.application.dto.DepositRequest;
+import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.domain.model.DepositStatus;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The module must read and write exactly what the bean (de)serializers do.
+ */
+class DepositJsonModuleTest {
+    
+    private final ObjectMapper beanMapper = mapper().build();
+    
+    private final ObjectMapper moduleMapper = mapper().modulesToInstall(new DepositJsonModule()).build();
+    
+    private static Jackson2ObjectMapperBuilder mapper() {
+        // As Spring Boot configures it, plus application.yml
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+    
+    @Test
+    void testWriteResponse_MatchesBeanSerializer() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    nanos(random));
+            DepositResponse response = DepositResponse.builder()
+                    .id(random.nextLong())
+                    .accountNumber("ACC" + random.nextInt(1_000_000))
+                    .amount(BigDecimal.valueOf(random.nextLong(), random.nextInt(4)))
+                    .status(DepositStatus.values()[random.nextInt(DepositStatus.values().length)])
+                    .currency("USD")
+                    .description(random.nextBoolean() ? "Deposit \"" + i + "\" é\n" : null)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusNanos(random.nextInt(1_000_000_000)))
+                    .build();
+            
+            assertEquals(beanMapper.writeValueAsString(response), moduleMapper.writeValueAsString(response));
+        }
+    }
+    
+    @Test
+    void testWriteResponse_NullsAndWideYears() throws Exception {
+        DepositResponse empty = new DepositResponse();
+        DepositResponse wideYears = DepositResponse.builder()
+                .createdAt(LocalDateTime.of(12_345, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(-1, 12, 31, 23, 59, 59, 1))
+                .build();
+        
+        assertEquals(beanMapper.writeValueAsString(empty), moduleMapper.writeValueAsString(empty));
+        assertEquals(beanMapper.writeValueAsString(wideYears), moduleMapper.writeValueAsString(wideYears));
+        assertEquals(beanMapper.writeValueAsString(List.of(empty, wideYears)),
+                moduleMapper.writeValueAsString(List.of(empty, wideYears)));
+    }
+    
+    @Test
+    void testWriteError_MatchesBeanSerializer() throws Exception {
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 120_000_000))
+                .status(400)
+                .error("Bad Request")
+                .message("Validation failed")
+                .path("/api/v1/deposits")
+                .validationErrors(List.of(
+                        new ApiErrorResponse.ValidationError("amount", "Amount must be greater than 0"),
+                        new ApiErrorResponse.ValidationError("currency", null)))
+                .build();
+        ApiErrorResponse plain = ApiErrorResponse.builder().status(503).message("Overloaded").build();
+        
+        assertEquals(beanMapper.writeValueAsString(error), moduleMapper.writeValueAsString(error));
+        assertEquals(beanMapper.writeValueAsString(plain), moduleMapper.writeValueAsString(plain));
+    }
+    
+    @Test
+    void testReadRequest_MatchesBeanDeserializer() throws Exception {
+        List<String> bodies = List.of(
+                "{\"accountNumber\":\"ACC123456789\",\"amount\":1000.00,\"currency\":\"USD\",\"description\":\"x\"}",
+                "{\"amount\":1000,\"accountNumber\":\"ACC123456789\",\"currency\":\"USD\"}",
+                "{\"accountNumber\":null,\"amount\":null,\"currency\":null,\"description\":null}",
+                "{\"accountNumber\":123456789,\"amount\":\"12.50\",\"currency\":true}",
+                "{\"amount\":1e2,\"amount\":0.001,\"unknown\":{\"nested\":[1,2,3]},\"currency\":\"usd\"}",
+                "{\"amount\":\"\"}",
+                "{}");
+        for (String body : bodies) {
+            assertEquals(beanMapper.readValue(body, DepositRequest.class),
+                    moduleMapper.readValue(body, DepositRequest.class), body);
+        }
+        assertNull(moduleMapper.readValue("null", DepositRequest.class));
+    }
+    
+    @Test
+    void testReadRequest_RejectsWhatBeanDeserializerRejects() {
+        List<String> bodies = List.of(
+                "{\"amount\":\"ten\"}",
+                "{\"accountNumber\":[\"ACC123456789\"]}",
+                "{\"currency\":{\"code\":\"USD\"}}",
+                "[]",
+                "\"ACC123456789\"");
+        for (String body : bodies) {
+            assertThrows(JsonMappingException.class, () -> beanMapper.readValue(body, DepositRequest.class), body);
+            JsonMappingException ex = assertThrows(JsonMappingException.class,
+                    () -> moduleMapper.readValue(body, DepositRequest.class), body);
+            if (body.startsWith("{")) {
+                assertEquals(1, ex.getPath().size(), body);
+            }
+        }
+    }
+    
+    @Test
+    void testReadRequest_HonoursFailOnUnknownProperties() {
+        ObjectMapper strict = mapper().modulesToInstall(new DepositJsonModule())
+                .featuresToEnable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> strict.readValue("{\"unknown\":1}", DepositRequest.class));
+    }
+    
+    @Test
+    void testOtherSettings_KeepBeanSerializer() throws Exception {
+        ObjectMapper timestamps = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper timestampsWithModule = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new DepositJsonModule())
+                .build();
+        DepositResponse response = DepositResponse.builder()
+                .id(1L)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+        
+        assertEquals(timestamps.writeValueAsString(response), timestampsWithModule.writeValueAsString(response));
+    }
+    
+    private static int nanos(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(1_000) * 1_000_000;
+            case 2 -> random.nextInt(1_000_000) * 1_000;
+            default -> random.nextInt(1_000_000_000);
+        };
+    }
+}
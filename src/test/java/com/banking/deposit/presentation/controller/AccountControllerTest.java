@@ -0,0 +1,73 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.AccountDepositSummaryResponse;
+import com.banking.deposit.application.dto.AccountSummaryRebuildResponse;
+import com.banking.deposit.application.exception.OperationInProgressException;
+import com.banking.deposit.application.service.AccountSummaryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AccountController.class)
+class AccountControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private AccountSummaryService accountSummaryService;
+    
+    @Test
+    void testGetSummary() throws Exception {
+        when(accountSummaryService.getSummary("ACC123456789")).thenReturn(AccountDepositSummaryResponse.builder()
+                .accountNumber("ACC123456789")
+                .currencies(List.of(AccountDepositSummaryResponse.CurrencySummary.builder()
+                        .currency("USD")
+                        .completedCount(3)
+                        .completedAmount(new BigDecimal("1500.00"))
+                        .lastDepositAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                        .build()))
+                .build());
+        
+        mockMvc.perform(get("/api/v1/accounts/ACC123456789/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("ACC123456789"))
+                .andExpect(jsonPath("$.currencies[0].currency").value("USD"))
+                .andExpect(jsonPath("$.currencies[0].completedCount").value(3))
+                .andExpect(jsonPath("$.currencies[0].completedAmount").value(1500.00));
+    }
+    
+    @Test
+    void testRebuildSummaries() throws Exception {
+        when(accountSummaryService.rebuild()).thenReturn(AccountSummaryRebuildResponse.builder()
+                .partitions(4)
+                .summaryRows(3500)
+                .durationMillis(120)
+                .build());
+        
+        mockMvc.perform(post("/api/v1/accounts/summary/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partitions").value(4))
+                .andExpect(jsonPath("$.summaryRows").value(3500));
+    }
+    
+    @Test
+    void testRebuildSummaries_AlreadyRunning() throws Exception {
+        when(accountSummaryService.rebuild())
+                .thenThrow(new OperationInProgressException("An account summary rebuild"));
+        
+        mockMvc.perform(post("/api/v1/accounts/summary/rebuild"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("An account summary rebuild is already running"));
+    }
+}
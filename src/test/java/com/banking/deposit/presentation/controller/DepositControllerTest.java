@@ -1,32 +1,72 @@
 package com.banking.deposit.presentation.controller;
 
+import com.banking.deposit.application.dto.BatchDepositRequest;
+import com.banking.deposit.application.dto.BatchDepositResponse;
+import com.banking.deposit.application.dto.BulkStatusTransitionRequest;
+import com.banking.deposit.application.dto.BulkStatusTransitionResponse;
+import com.banking.deposit.application.dto.CursorPageResponse;
+import com.banking.deposit.application.dto.DepositImportResponse;
+import com.banking.deposit.application.dto.DepositIngestionResponse;
 import com.banking.deposit.application.dto.DepositRequest;
 import com.banking.deposit.application.dto.DepositResponse;
+import com.banking.deposit.application.exception.IdempotencyKeyMismatchException;
+import com.banking.deposit.application.exception.IngestionQueueFullException;
+import com.banking.deposit.application.exception.InvalidStatusTransitionException;
+import com.banking.deposit.application.exception.RateLimitExceededException;
+import com.banking.deposit.application.service.DepositBatchService;
+import com.banking.deposit.application.service.DepositBulkTransitionService;
+import com.banking.deposit.application.service.DepositExportService;
+import com.banking.deposit.application.service.DepositIdempotencyService;
+import com.banking.deposit.application.service.DepositImportService;
+import com.banking.deposit.application.service.DepositIngestionService;
+import com.banking.deposit.application.service.DepositRequestValidator;
 import com.banking.deposit.application.service.DepositService;
+import com.banking.deposit.application.service.DepositWatchService;
+import com.banking.deposit.application.service.RateLimitService;
+import com.banking.deposit.domain.model.DepositExportFormat;
+import com.banking.deposit.domain.model.DepositImportFormat;
+import com.banking.deposit.domain.model.DepositImportStatus;
 import com.banking.deposit.domain.model.DepositStatus;
+import com.banking.deposit.infrastructure.config.CurrencyProperties;
+import com.banking.deposit.infrastructure.currency.CurrencyRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DepositController.class)
+@Import({DepositRequestValidator.class, CurrencyRegistry.class})
+@EnableConfigurationProperties(CurrencyProperties.class)
 class DepositControllerTest {
     
     @Autowired
@@ -35,6 +75,30 @@ class DepositControllerTest {
     @MockBean
     private DepositService depositService;
     
+    @MockBean
+    private DepositBatchService depositBatchService;
+    
+    @MockBean
+    private DepositImportService depositImportService;
+    
+    @MockBean
+    private DepositExportService depositExportService;
+    
+    @MockBean
+    private DepositBulkTransitionService depositBulkTransitionService;
+    
+    @MockBean
+    private DepositWatchService depositWatchService;
+    
+    @MockBean
+    private DepositIdempotencyService depositIdempotencyService;
+    
+    @MockBean
+    private DepositIngestionService depositIngestionService;
+    
+    @MockBean
+    private RateLimitService rateLimitService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -74,6 +138,126 @@ class DepositControllerTest {
                 .andExpect(jsonPath("$.amount").value(1000.00));
     }
     
+    @Test
+    void testCreateDeposit_Invalid() throws Exception {
+        mockMvc.perform(post("/api/v1/deposits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountNumber\":\"ACC123456789\",\"amount\":0.001,\"currency\":\"usd\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.validationErrors.length()").value(3))
+                .andExpect(jsonPath("$.validationErrors[?(@.field == 'currency')].message")
+                        .value("Currency must be uppercase ISO currency code"));
+        
+        verifyNoInteractions(depositService, rateLimitService);
+    }
+    
+    @Test
+    void testCreateDeposit_WithIdempotencyKeyReplaysOriginal() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+        
+        when(depositIdempotencyService.createDeposit(eq("key-1"), any(DepositRequest.class)))
+                .thenReturn(new DepositIdempotencyService.Result(createDepositResponse(), true));
+        
+        mockMvc.perform(post("/api/v1/deposits")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(1));
+        
+        verifyNoInteractions(depositService);
+    }
+    
+    @Test
+    void testCreateDeposit_IdempotencyKeyReusedForOtherRequest() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("5.00"))
+                .currency("USD")
+                .build();
+        
+        when(depositIdempotencyService.createDeposit(eq("key-1"), any(DepositRequest.class)))
+                .thenThrow(new IdempotencyKeyMismatchException("key-1"));
+        
+        mockMvc.perform(post("/api/v1/deposits")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Unprocessable Entity"));
+    }
+    
+    @Test
+    void testCreateDeposit_AsyncIngestionAccepts() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+        
+        when(depositIngestionService.isEnabled()).thenReturn(true);
+        when(depositIngestionService.submit(any(DepositRequest.class))).thenReturn(DepositIngestionResponse.builder()
+                .trackingId("4f1b7f2e-0000-4000-8000-000000000001")
+                .state(DepositIngestionResponse.State.QUEUED)
+                .build());
+        
+        mockMvc.perform(post("/api/v1/deposits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        "http://localhost/api/v1/deposits/ingestion/4f1b7f2e-0000-4000-8000-000000000001"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+        
+        verifyNoInteractions(depositService);
+    }
+    
+    @Test
+    void testCreateDeposit_AsyncIngestionQueueFull() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+        
+        when(depositIngestionService.isEnabled()).thenReturn(true);
+        when(depositIngestionService.submit(any(DepositRequest.class)))
+                .thenThrow(new IngestionQueueFullException(Duration.ofSeconds(2)));
+        
+        mockMvc.perform(post("/api/v1/deposits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+    
+    @Test
+    void testCreateDeposit_AccountRateLimited() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+        
+        doThrow(new RateLimitExceededException("account", Duration.ofMillis(1500)))
+                .when(rateLimitService).checkAccount("ACC123456789");
+        
+        mockMvc.perform(post("/api/v1/deposits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.message").value("Request rate limit exceeded for account, retry later"));
+        
+        verify(depositService, never()).createDeposit(any());
+    }
+    
     @Test
     void testGetDepositById() throws Exception {
         DepositResponse response = createDepositResponse();
@@ -87,10 +271,55 @@ class DepositControllerTest {
                 .andExpect(jsonPath("$.accountNumber").value("ACC123456789"));
     }
     
+    @Test
+    void testCreateDeposit_Cbor() throws Exception {
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber("ACC123456789")
+                .amount(new BigDecimal("1000.00"))
+                .currency("USD")
+                .build();
+        ObjectMapper cborMapper = new CBORMapper();
+        
+        when(depositService.createDeposit(request)).thenReturn(createDepositResponse());
+        
+        MvcResult result = mockMvc.perform(post("/api/v1/deposits")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1, body.get("id").asLong());
+        assertEquals("PENDING", body.get("status").asText());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(body.get("amount").decimalValue()));
+    }
+    
+    @Test
+    void testWatchDeposit() throws Exception {
+        DepositResponse response = createDepositResponse();
+        response.setStatus(DepositStatus.COMPLETED);
+        DeferredResult<DepositResponse> deferred = new DeferredResult<>();
+        deferred.setResult(response);
+        
+        when(depositWatchService.watch(1L, DepositStatus.PENDING, Duration.ofSeconds(20))).thenReturn(deferred);
+        
+        MvcResult result = mockMvc.perform(get("/api/v1/deposits/1/watch")
+                        .param("status", "PENDING")
+                        .param("timeoutSeconds", "20"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+    
     @Test
     void testGetAllDeposits() throws Exception {
         List<DepositResponse> deposits = Arrays.asList(createDepositResponse());
-        Page<DepositResponse> page = new PageImpl<>(deposits);
+        Page<DepositResponse> page = new PageImpl<>(deposits, PageRequest.of(0, 20), deposits.size());
         
         when(depositService.getAllDeposits(any(org.springframework.data.domain.Pageable.class)))
                 .thenReturn(page);
@@ -102,6 +331,125 @@ class DepositControllerTest {
                 .andExpect(jsonPath("$.content.length()").value(1));
     }
     
+    @Test
+    void testGetDepositsByAccountNumber_CreatedRange() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        Page<DepositResponse> page = new PageImpl<>(List.of(createDepositResponse()), PageRequest.of(0, 20), 1);
+        
+        when(depositService.getDepositsByAccountNumber(eq("ACC123456789"), eq(from), eq(to), any()))
+                .thenReturn(page);
+        
+        mockMvc.perform(get("/api/v1/deposits/account/ACC123456789")
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-02-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
+    
+    @Test
+    void testGetDepositsByAccountNumber_Cursor() throws Exception {
+        CursorPageResponse<DepositResponse> page = CursorPageResponse.<DepositResponse>builder()
+                .content(List.of(createDepositResponse()))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+        
+        when(depositService.getDepositsByAccountNumber("ACC123456789", "abc", 1)).thenReturn(page);
+        
+        mockMvc.perform(get("/api/v1/deposits/account/ACC123456789")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+    
+    @Test
+    void testCreateDepositsBatch() throws Exception {
+        BatchDepositRequest request = BatchDepositRequest.builder()
+                .deposits(List.of(DepositRequest.builder()
+                        .accountNumber("ACC123456789")
+                        .amount(new BigDecimal("1000.00"))
+                        .currency("USD")
+                        .build()))
+                .build();
+        
+        BatchDepositResponse response = BatchDepositResponse.builder()
+                .total(1)
+                .created(1)
+                .rejected(0)
+                .results(List.of(BatchDepositResponse.ItemResult.builder()
+                        .index(0)
+                        .status(BatchDepositResponse.ItemStatus.CREATED)
+                        .deposit(createDepositResponse())
+                        .build()))
+                .build();
+        
+        when(depositBatchService.createDeposits(any())).thenReturn(response);
+        
+        mockMvc.perform(post("/api/v1/deposits/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].deposit.id").value(1));
+    }
+    
+    @Test
+    void testCreateDepositsBatch_Empty() throws Exception {
+        mockMvc.perform(post("/api/v1/deposits/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"deposits\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testImportDeposits_Csv() throws Exception {
+        DepositImportResponse response = DepositImportResponse.builder()
+                .importId("import-1")
+                .format(DepositImportFormat.CSV)
+                .status(DepositImportStatus.COMPLETED)
+                .recordsCommitted(1)
+                .accepted(1)
+                .build();
+        
+        when(depositImportService.importDeposits(any(), eq(DepositImportFormat.CSV), eq("import-1")))
+                .thenReturn(response);
+        
+        mockMvc.perform(post("/api/v1/deposits/import")
+                        .param("importId", "import-1")
+                        .contentType("text/csv")
+                        .content("accountNumber,amount,currency\nACC123456789,10.00,USD\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importId").value("import-1"))
+                .andExpect(jsonPath("$.accepted").value(1));
+    }
+    
+    @Test
+    void testExportDeposits_Csv() throws Exception {
+        when(depositExportService.export(any(), eq(DepositExportFormat.CSV), any())).thenAnswer(inv -> {
+            OutputStream out = inv.getArgument(2);
+            out.write("id,accountNumber\n1,ACC123456789\n".getBytes());
+            return 1L;
+        });
+        
+        MvcResult result = mockMvc.perform(get("/api/v1/deposits/export")
+                        .param("format", "CSV")
+                        .param("status", "COMPLETED")
+                        .param("from", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,accountNumber\n1,ACC123456789\n"));
+    }
+    
     @Test
     void testUpdateDepositStatus() throws Exception {
         DepositResponse response = createDepositResponse();
@@ -117,6 +465,52 @@ class DepositControllerTest {
                 .andExpect(jsonPath("$.status").value("COMPLETED"));
     }
     
+    @Test
+    void testUpdateDepositStatus_InvalidTransition() throws Exception {
+        when(depositService.updateDepositStatus(eq(1L), eq(DepositStatus.PENDING)))
+                .thenThrow(new InvalidStatusTransitionException(1L, DepositStatus.COMPLETED, DepositStatus.PENDING));
+        
+        mockMvc.perform(patch("/api/v1/deposits/1/status")
+                        .param("status", "PENDING"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Cannot change status of deposit 1 from COMPLETED to PENDING"));
+    }
+    
+    @Test
+    void testTransitionDepositStatuses() throws Exception {
+        BulkStatusTransitionResponse response = BulkStatusTransitionResponse.builder()
+                .targetStatus(DepositStatus.COMPLETED)
+                .transitioned(1)
+                .notFound(1)
+                .results(List.of(
+                        BulkStatusTransitionResponse.ItemResult.builder()
+                                .id(1L)
+                                .outcome(BulkStatusTransitionResponse.Outcome.TRANSITIONED)
+                                .build(),
+                        BulkStatusTransitionResponse.ItemResult.builder()
+                                .id(2L)
+                                .outcome(BulkStatusTransitionResponse.Outcome.NOT_FOUND)
+                                .build()))
+                .build();
+        
+        when(depositBulkTransitionService.transition(any(BulkStatusTransitionRequest.class))).thenReturn(response);
+        
+        mockMvc.perform(post("/api/v1/deposits/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetStatus\":\"COMPLETED\",\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transitioned").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+    
+    @Test
+    void testTransitionDepositStatuses_MissingTargetStatus() throws Exception {
+        mockMvc.perform(post("/api/v1/deposits/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void testDeleteDeposit() throws Exception {
         mockMvc.perform(delete("/api/v1/deposits/1"))
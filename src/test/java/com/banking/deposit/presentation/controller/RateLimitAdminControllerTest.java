@@ -0,0 +1,75 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.RateLimitSettings;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.application.service.RateLimitService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RateLimitAdminController.class)
+class RateLimitAdminControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private RateLimitService rateLimitService;
+    
+    @Test
+    void testGetRateLimits() throws Exception {
+        when(rateLimitService.getSettings()).thenReturn(settings(100.0, 40));
+        
+        mockMvc.perform(get("/api/v1/admin/rate-limits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientPermitsPerSecond").value(100.0))
+                .andExpect(jsonPath("$.concurrencyLimit").value(40))
+                .andExpect(jsonPath("$.inFlight").value(3));
+    }
+    
+    @Test
+    void testUpdateRateLimits() throws Exception {
+        when(rateLimitService.updateSettings(argThat(update -> update.getClientPermitsPerSecond() == 5.0
+                && update.getAccountBurst() == null))).thenReturn(settings(5.0, 40));
+        
+        mockMvc.perform(put("/api/v1/admin/rate-limits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"clientPermitsPerSecond\":5.0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientPermitsPerSecond").value(5.0));
+    }
+    
+    @Test
+    void testUpdateRateLimits_Invalid() throws Exception {
+        when(rateLimitService.updateSettings(any()))
+                .thenThrow(new ValidationException("Burst must be at least 1"));
+        
+        mockMvc.perform(put("/api/v1/admin/rate-limits")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"clientBurst\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Burst must be at least 1"));
+    }
+    
+    private static RateLimitSettings settings(double clientPermitsPerSecond, int concurrencyLimit) {
+        return RateLimitSettings.builder()
+                .clientPermitsPerSecond(clientPermitsPerSecond)
+                .clientBurst(200)
+                .accountPermitsPerSecond(200.0)
+                .accountBurst(400)
+                .concurrencyMinLimit(4)
+                .concurrencyMaxLimit(40)
+                .concurrencyLimit(concurrencyLimit)
+                .inFlight(3)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.banking.deposit.presentation.controller;
+
+import com.banking.deposit.application.dto.BaseAmountBackfillResponse;
+import com.banking.deposit.application.dto.DepositCurrencyTotal;
+import com.banking.deposit.application.dto.DepositTotalsReport;
+import com.banking.deposit.application.exception.OperationInProgressException;
+import com.banking.deposit.application.exception.ValidationException;
+import com.banking.deposit.application.service.DepositReportService;
+import com.banking.deposit.domain.model.DepositStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportController.class)
+class ReportControllerTest {
+    
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private DepositReportService depositReportService;
+    
+    @Test
+    void testGetDepositTotals() throws Exception {
+        when(depositReportService.getTotals(DepositStatus.COMPLETED, FROM, TO)).thenReturn(DepositTotalsReport.builder()
+                .status(DepositStatus.COMPLETED)
+                .from(FROM)
+                .to(TO)
+                .baseCurrency("USD")
+                .depositCount(3)
+                .totalBaseAmount(new BigDecimal("325.50"))
+                .currencies(List.of(new DepositCurrencyTotal("EUR", 3L, new BigDecimal("300.00"),
+                        new BigDecimal("325.50"), 0L)))
+                .build());
+        
+        mockMvc.perform(get("/api/v1/reports/deposit-totals")
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-02-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.baseCurrency").value("USD"))
+                .andExpect(jsonPath("$.depositCount").value(3))
+                .andExpect(jsonPath("$.totalBaseAmount").value(325.50))
+                .andExpect(jsonPath("$.currencies[0].currency").value("EUR"));
+    }
+    
+    @Test
+    void testGetDepositTotals_EmptyRange() throws Exception {
+        when(depositReportService.getTotals(any(), any(), any()))
+                .thenThrow(new ValidationException("'from' must be before 'to'"));
+        
+        mockMvc.perform(get("/api/v1/reports/deposit-totals")
+                        .param("from", "2024-02-01T00:00:00")
+                        .param("to", "2024-01-01T00:00:00")
+                        .param("status", "PENDING"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("'from' must be before 'to'"));
+    }
+    
+    @Test
+    void testBackfillBaseAmounts() throws Exception {
+        when(depositReportService.backfillBaseAmounts()).thenReturn(BaseAmountBackfillResponse.builder()
+                .updatedRows(240)
+                .unconvertedRows(3)
+                .durationMillis(12)
+                .build());
+        
+        mockMvc.perform(post("/api/v1/reports/base-amounts/backfill"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedRows").value(240))
+                .andExpect(jsonPath("$.unconvertedRows").value(3));
+    }
+    
+    @Test
+    void testBackfillBaseAmounts_AlreadyRunning() throws Exception {
+        when(depositReportService.backfillBaseAmounts())
+                .thenThrow(new OperationInProgressException("A base amount backfill"));
+        
+        mockMvc.perform(post("/api/v1/reports/base-amounts/backfill"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("A base amount backfill is already running"));
+    }
+}
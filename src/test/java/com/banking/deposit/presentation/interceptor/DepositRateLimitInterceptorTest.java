@@ -0,0 +1,91 @@
+package com.banking.deposit.presentation.interceptor;
+
+import com.banking.deposit.application.exception.RateLimitExceededException;
+import com.banking.deposit.application.exception.ServiceOverloadedException;
+import com.banking.deposit.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.banking.deposit.infrastructure.ratelimit.DepositRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositRateLimitInterceptorTest {
+    
+    @Mock
+    private DepositRateLimiter rateLimiter;
+    
+    @Mock
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    
+    private DepositRateLimitInterceptor interceptor;
+    
+    private MockHttpServletRequest request;
+    
+    private MockHttpServletResponse response;
+    
+    @BeforeEach
+    void setUp() {
+        interceptor = new DepositRateLimitInterceptor(rateLimiter, concurrencyLimiter, "X-Client-Id");
+        request = new MockHttpServletRequest("GET", "/api/v1/deposits/account/ACC123456789");
+        request.addHeader("X-Client-Id", "client-1");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of("accountNumber", "ACC123456789"));
+        response = new MockHttpServletResponse();
+    }
+    
+    @Test
+    void testPreHandle_AllowedRequestKeepsClientToken() throws Exception {
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(true);
+        
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+        
+        verify(concurrencyLimiter).release();
+        verify(rateLimiter, never()).refundClient(any());
+    }
+    
+    @Test
+    void testPreHandle_AccountRejection_RefundsClientToken() {
+        doThrow(new RateLimitExceededException("account", Duration.ofSeconds(1)))
+                .when(rateLimiter).checkAccount("ACC123456789");
+        
+        assertThrows(RateLimitExceededException.class, () -> interceptor.preHandle(request, response, null));
+        
+        verify(rateLimiter).refundClient("id:client-1");
+        verify(concurrencyLimiter, never()).tryAcquire();
+    }
+    
+    @Test
+    void testPreHandle_Overloaded_RefundsClientToken() {
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(false);
+        when(concurrencyLimiter.getRetryAfter()).thenReturn(Duration.ofSeconds(1));
+        
+        assertThrows(ServiceOverloadedException.class, () -> interceptor.preHandle(request, response, null));
+        
+        verify(rateLimiter).refundClient("id:client-1");
+    }
+    
+    @Test
+    void testAfterCompletion_HandlerRejectedAccount_RefundsClientToken() throws Exception {
+        assertTrue(interceptor.preHandle(request, response, null));
+        response.setStatus(429);
+        
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+        
+        verify(rateLimiter, times(1)).refundClient("id:client-1");
+    }
+}